@@ -3,19 +3,21 @@ package br.com.efono;
 import br.com.efono.db.MongoConnection;
 import br.com.efono.db.MySQLConnection;
 import br.com.efono.model.Assessment;
+import br.com.efono.model.Instrument;
 import br.com.efono.model.KnownCase;
 import br.com.efono.model.KnownCaseComparator;
 import br.com.efono.model.Phoneme;
 import br.com.efono.model.SimulationConsonantClustersInfo;
-import br.com.efono.model.SimulationInfo;
 import br.com.efono.model.Statistics;
 import br.com.efono.tree.BinaryTreePrinter;
-import br.com.efono.tree.Node;
+import br.com.efono.tree.ImplicitTree;
 import br.com.efono.util.Defaults;
 import br.com.efono.util.NoRepeatList;
+import br.com.efono.util.PhonemeCache;
 import br.com.efono.util.SimulationConsonantClusters;
-import br.com.efono.util.SimulationWordsSequence;
+import br.com.efono.util.SimulationEngine;
 import br.com.efono.util.Util;
+import br.com.efono.util.WordCatalog;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -37,6 +39,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Scanner;
+import java.util.concurrent.ExecutorService;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.bson.Document;
@@ -244,21 +247,26 @@ public class Main {
      * @return A list of words that represents an indicator of speech disorder: [0 -> highest, ..., 83 -> lowest].
      */
     private static List<String> getWordsIndicators() {
-        List<String> words = new NoRepeatList<String>();
-        Arrays.asList(Defaults.SORTED_WORDS).forEach(w -> {
-            Node<String> node = Defaults.TREE.getNode(w);
-
-            if (node != null) {
-                // all the leafs and its parent
-                if (node.getLeft() == null && node.getRight() == null) {
-                    words.add(w);
-                    words.add(Defaults.TREE.findParent(w).getValue());
+        final ImplicitTree<String> tree = Defaults.TREE.getImplicitTree();
+        // the indexes of the sorted words are the ranks in the tree, so the indicators are marked by rank
+        final boolean[] indicators = new boolean[tree.size()];
+        for (int slot = 0; slot < tree.getSlotCount(); slot++) {
+            // all the leafs and its parent
+            if (tree.isLeaf(slot)) {
+                indicators[tree.getRank(slot)] = true;
+                int parent = tree.getParent(slot);
+                if (parent >= 0) {
+                    indicators[tree.getRank(parent)] = true;
                 }
             }
-        });
-
-        words.sort(Defaults.TREE.getComparator().reversed());
+        }
 
+        List<String> words = new ArrayList<>();
+        for (int rank = 0; rank < indicators.length; rank++) {
+            if (indicators[rank]) {
+                words.add(tree.getValue(tree.slotOfRank(rank)));
+            }
+        }
         return words;
     }
 
@@ -267,17 +275,18 @@ public class Main {
             String resposta, currentWord;
 
             List<String> operations = new LinkedList<>();
-            List<Node<String>> sequence = new LinkedList<>();
+            List<Integer> sequence = new ArrayList<>();
 
             List<String> wordsIndicators = getWordsIndicators();
             System.out.println("words indicators[" + wordsIndicators.size() + "]: " + wordsIndicators);
-            Node<String> node = Defaults.TREE.getRoot();
-            if (node != null) {
+            final ImplicitTree<String> tree = Defaults.TREE.getImplicitTree();
+            int node = tree.getRoot();
+            if (node >= 0) {
                 do {
-                    currentWord = node.getValue();
+                    currentWord = tree.getValue(node);
                     sequence.add(node);
 
-                    System.out.println("A criança falou '" + node.getValue() + "' satisfatóriamente? [s/n/quit]");
+                    System.out.println("A criança falou '" + currentWord + "' satisfatóriamente? [s/n/quit]");
                     resposta = scanner.next();
 
                     if (resposta.equalsIgnoreCase("quit")) {
@@ -286,13 +295,13 @@ public class Main {
                     while (!(resposta.startsWith("s") || resposta.startsWith("S"))
                         && !(resposta.startsWith("n") || resposta.startsWith("N"))) {
                         System.out.println("Resposta inválida. Digite [s/n/quit].");
-                        System.out.println("A criança falou '" + node.getValue() + "' satisfatóriamente?");
+                        System.out.println("A criança falou '" + tree.getValue(node) + "' satisfatóriamente?");
                         resposta = scanner.next();
                     }
 
                     operations.add(resposta.startsWith("s") || resposta.startsWith("S") ? "R" : "L");
 
-                    boolean noChildren = (node.getLeft() == null && node.getRight() == null);
+                    boolean noChildren = tree.isLeaf(node);
 
                     String currentOp = operations.get(operations.size() - 1);
 
@@ -301,21 +310,21 @@ public class Main {
                         String previousOp = operations.get(operations.size() - 2);
                         if (noChildren) {
                             if (!currentOp.equals(previousOp)) {
-                                currentWord = sequence.get(sequence.size() - 2).getValue();
+                                currentWord = tree.getValue(sequence.get(sequence.size() - 2));
                             }
                         }
                     }
 
                     if (currentOp.equals("R")) {
                         System.out.println("Parabéns! Você acertou!");
-                        node = node.getRight();
+                        node = tree.getRight(node);
                     } else {
                         System.out.println("Oops! Você errou.");
-                        node = node.getLeft();
+                        node = tree.getLeft(node);
                     }
-                } while (node != null);
+                } while (node >= 0);
 
-                int indicator = Arrays.asList(Defaults.SORTED_WORDS).indexOf(currentWord);
+                int indicator = tree.getRank(tree.slotOf(currentWord));
                 String classifier = "Low";
                 if (indicator >= 0 && indicator <= 19) {
                     classifier = "High";
@@ -328,7 +337,7 @@ public class Main {
 
                 System.out.println("Sequencia completa: ");
                 for (int i = 0; i < sequence.size(); i++) {
-                    System.out.print(sequence.get(i).printValue());
+                    System.out.print(tree.getValue(sequence.get(i)) + " [" + tree.getRank(sequence.get(i)) + "]");
                     if (i < sequence.size() - 1) {
                         System.out.print(" -> ");
                     }
@@ -451,6 +460,8 @@ public class Main {
             // mesmo assim, se cada palavra tiver 4 fonemas, vão ser 24 palavras ou 28 (6x4, 7x4). Será que melhora a precisão do PCC-R?
             System.out.println(w + "->SimilarWords[" + similarWords.size() + "]: " + similarWords);
         });
+        // the default instrument is built again with the target phonemes and similar words
+        Defaults.reloadInstrument();
 
         File output = null;
         if (parent != null && !parent.trim().isEmpty()) {
@@ -462,9 +473,17 @@ public class Main {
             return;
         }
 
+        // threads of the simulations, all the available processors by default
+        int threads = 0;
+        try {
+            threads = Integer.parseInt(prop.getProperty("simulation.threads", "0").trim());
+        } catch (final NumberFormatException e) {
+            System.out.println("Invalid number of threads for the simulation: " + e);
+        }
+
         try {
             // continue with the application
-            processSimulation(output);
+            processSimulation(output, threads);
         } catch (final SQLException ex) {
             System.out.println("Couldn't process the simulation: " + ex);
         }
@@ -501,7 +520,8 @@ public class Main {
                             KnownCase knownCase = new KnownCase(rs.getString("palavra"),
                                 rs.getString("transcricao"), rs.getBoolean("correto"));
 
-                            knownCase.putPhonemes(Util.getConsonantPhonemes(knownCase.getRepresentation()));
+                            knownCase.putPhonemes(PhonemeCache.getInstance().getConsonantPhonemes(
+                                knownCase.getRepresentation()));
 
                             assessment.addCase(knownCase);
                         } catch (final IllegalArgumentException | SQLException e) {
@@ -511,13 +531,15 @@ public class Main {
                         System.out.println("Ignoring case with repeated word " + rs.getInt("id_palavra") + " in assessment " + id);
                     }
                 }
-                if (assessment.getCases().size() == Defaults.SORTED_WORDS.length) {
+                if (assessment.size() == Defaults.SORTED_WORDS.length) {
                     assessments.add(assessment);
                 } else {
                     discardedAssessment++;
                 }
             }
             System.out.println(discardedAssessment + " assessments were discarded because they have less than " + Defaults.SORTED_WORDS.length + " valid cases");
+            System.out.println("Transcriptions parsed: " + PhonemeCache.getInstance());
+            System.out.println("Words looked up: " + WordCatalog.getDefault());
         } catch (final SQLException ex) {
             System.out.println("Exception while getting assessments from db: " + ex);
         }
@@ -657,7 +679,7 @@ public class Main {
         }
     }
 
-    private static void processSimulation(final File outputDirectory) throws SQLException {
+    private static void processSimulation(final File outputDirectory, final int threads) throws SQLException {
         String queryWordsDifficult = "select palavra.palavra, count(avaliacaopalavra.id_palavra) AS errors FROM palavra, avaliacaopalavra WHERE palavra.id_palavra = avaliacaopalavra.id_palavra AND correto = 0 GROUP BY palavra";
         ResultSet result = MySQLConnection.getInstance().executeQuery(queryWordsDifficult);
 
@@ -720,82 +742,67 @@ public class Main {
         }
 
         final List<Assessment> assessments = getAssessmentsFromDB();
+        final Instrument instrument = Defaults.getInstrument();
 
         final Map<KnownCaseComparator, Statistics> mapPhoneticInventory = new HashMap<>();
-        mapPhoneticInventory.put(KnownCaseComparator.HardWordsFirst, new Statistics(KnownCaseComparator.HardWordsFirst));
-        mapPhoneticInventory.put(KnownCaseComparator.EasyWordsFirst, new Statistics(KnownCaseComparator.EasyWordsFirst));
-        mapPhoneticInventory.put(KnownCaseComparator.EasyHardWords, new Statistics(KnownCaseComparator.EasyHardWords));
-        mapPhoneticInventory.put(KnownCaseComparator.BinaryTreeComparator, new Statistics(KnownCaseComparator.BinaryTreeComparator));
+        mapPhoneticInventory.put(KnownCaseComparator.HardWordsFirst, new Statistics(KnownCaseComparator.HardWordsFirst, instrument));
+        mapPhoneticInventory.put(KnownCaseComparator.EasyWordsFirst, new Statistics(KnownCaseComparator.EasyWordsFirst, instrument));
+        mapPhoneticInventory.put(KnownCaseComparator.EasyHardWords, new Statistics(KnownCaseComparator.EasyHardWords, instrument));
+        mapPhoneticInventory.put(KnownCaseComparator.BinaryTreeComparator, new Statistics(KnownCaseComparator.BinaryTreeComparator, instrument));
 
         final Map<KnownCaseComparator, Statistics> mapPhoneticInventoryNoSplitClusters = new HashMap<>();
-        mapPhoneticInventoryNoSplitClusters.put(KnownCaseComparator.HardWordsFirst, new Statistics(KnownCaseComparator.HardWordsFirst));
-        mapPhoneticInventoryNoSplitClusters.put(KnownCaseComparator.EasyWordsFirst, new Statistics(KnownCaseComparator.EasyWordsFirst));
-        mapPhoneticInventoryNoSplitClusters.put(KnownCaseComparator.EasyHardWords, new Statistics(KnownCaseComparator.EasyHardWords));
-        mapPhoneticInventoryNoSplitClusters.put(KnownCaseComparator.BinaryTreeComparator, new Statistics(KnownCaseComparator.BinaryTreeComparator));
+        mapPhoneticInventoryNoSplitClusters.put(KnownCaseComparator.HardWordsFirst, new Statistics(KnownCaseComparator.HardWordsFirst, instrument));
+        mapPhoneticInventoryNoSplitClusters.put(KnownCaseComparator.EasyWordsFirst, new Statistics(KnownCaseComparator.EasyWordsFirst, instrument));
+        mapPhoneticInventoryNoSplitClusters.put(KnownCaseComparator.EasyHardWords, new Statistics(KnownCaseComparator.EasyHardWords, instrument));
+        mapPhoneticInventoryNoSplitClusters.put(KnownCaseComparator.BinaryTreeComparator, new Statistics(KnownCaseComparator.BinaryTreeComparator, instrument));
 
         final Map<KnownCaseComparator, Statistics> mapPCCR = new HashMap<>();
-        mapPCCR.put(KnownCaseComparator.HardWordsFirst, new Statistics(KnownCaseComparator.HardWordsFirst));
-        mapPCCR.put(KnownCaseComparator.EasyWordsFirst, new Statistics(KnownCaseComparator.EasyWordsFirst));
-        mapPCCR.put(KnownCaseComparator.EasyHardWords, new Statistics(KnownCaseComparator.EasyHardWords));
-        mapPCCR.put(KnownCaseComparator.BinaryTreeComparator, new Statistics(KnownCaseComparator.BinaryTreeComparator));
-
-        Statistics statisticsExtended = new Statistics(KnownCaseComparator.BinaryTreeComparatorExtended);
-        Statistics statisticsExtendedNoSplit = new Statistics(KnownCaseComparator.BinaryTreeComparatorExtended);
+        mapPCCR.put(KnownCaseComparator.HardWordsFirst, new Statistics(KnownCaseComparator.HardWordsFirst, instrument));
+        mapPCCR.put(KnownCaseComparator.EasyWordsFirst, new Statistics(KnownCaseComparator.EasyWordsFirst, instrument));
+        mapPCCR.put(KnownCaseComparator.EasyHardWords, new Statistics(KnownCaseComparator.EasyHardWords, instrument));
+        mapPCCR.put(KnownCaseComparator.BinaryTreeComparator, new Statistics(KnownCaseComparator.BinaryTreeComparator, instrument));
+
+        Statistics statisticsExtended = new Statistics(KnownCaseComparator.BinaryTreeComparatorExtended, instrument);
+        Statistics statisticsExtendedNoSplit = new Statistics(KnownCaseComparator.BinaryTreeComparatorExtended, instrument);
+
+        final List<SimulationEngine.Variant> variants = new ArrayList<>();
+        for (KnownCaseComparator comp : Arrays.asList(KnownCaseComparator.HardWordsFirst,
+            KnownCaseComparator.EasyWordsFirst, KnownCaseComparator.EasyHardWords,
+            KnownCaseComparator.BinaryTreeComparator)) {
+            variants.add(SimulationEngine.Variant.of(comp, true, true));
+            variants.add(SimulationEngine.Variant.of(comp, false, true));
+            variants.add(SimulationEngine.Variant.of(comp, true, false));
+        }
+        // blocos de palavras
+        final SimulationEngine.Variant extended = SimulationEngine.Variant.blocks(
+            KnownCaseComparator.BinaryTreeComparator, true);
+        final SimulationEngine.Variant extendedNoSplit = SimulationEngine.Variant.blocks(
+            KnownCaseComparator.BinaryTreeComparator, false);
+        variants.add(extended);
+        variants.add(extendedNoSplit);
 
         System.out.println("Running simulation with " + assessments.size() + " complete assessments");
-        for (Assessment assessment : assessments) {
-            SimulationInfo hardWordsFirstPhonInv = SimulationWordsSequence.runSimulation(assessment,
-                KnownCaseComparator.HardWordsFirst, 2, true, true);
-            SimulationInfo hardWordsFirstPhonInvNoSplit = SimulationWordsSequence.runSimulation(assessment,
-                KnownCaseComparator.HardWordsFirst, 2, false, true);
-            SimulationInfo hardWordsFirstPCCR = SimulationWordsSequence.runSimulation(assessment,
-                KnownCaseComparator.HardWordsFirst, 2, true, false);
-
-            mapPhoneticInventory.get(KnownCaseComparator.HardWordsFirst).extractStatistics(hardWordsFirstPhonInv);
-            mapPhoneticInventoryNoSplitClusters.get(KnownCaseComparator.HardWordsFirst).extractStatistics(hardWordsFirstPhonInvNoSplit);
-            mapPCCR.get(KnownCaseComparator.HardWordsFirst).extractStatistics(hardWordsFirstPCCR);
-
-            SimulationInfo easyWordsFirstPhonInv = SimulationWordsSequence.runSimulation(assessment,
-                KnownCaseComparator.EasyWordsFirst, 2, true, true);
-            SimulationInfo easyWordsFirstPhonInvNoSplit = SimulationWordsSequence.runSimulation(assessment,
-                KnownCaseComparator.EasyWordsFirst, 2, false, true);
-            SimulationInfo easyWordsFirstPCCR = SimulationWordsSequence.runSimulation(assessment,
-                KnownCaseComparator.EasyWordsFirst, 2, true, false);
-
-            mapPhoneticInventory.get(KnownCaseComparator.EasyWordsFirst).extractStatistics(easyWordsFirstPhonInv);
-            mapPhoneticInventoryNoSplitClusters.get(KnownCaseComparator.EasyWordsFirst).extractStatistics(easyWordsFirstPhonInvNoSplit);
-            mapPCCR.get(KnownCaseComparator.EasyWordsFirst).extractStatistics(easyWordsFirstPCCR);
-
-            SimulationInfo easyHardSwitchingPhonInv = SimulationWordsSequence.runSimulation(assessment,
-                KnownCaseComparator.EasyHardWords, 2, true, true);
-            SimulationInfo easyHardSwitchingPhonInvNoSplit = SimulationWordsSequence.runSimulation(assessment,
-                KnownCaseComparator.EasyHardWords, 2, false, true);
-            SimulationInfo easyHardSwitchingPCCR = SimulationWordsSequence.runSimulation(assessment,
-                KnownCaseComparator.EasyHardWords, 2, true, false);
-
-            mapPhoneticInventory.get(KnownCaseComparator.EasyHardWords).extractStatistics(easyHardSwitchingPhonInv);
-            mapPhoneticInventoryNoSplitClusters.get(KnownCaseComparator.EasyHardWords).extractStatistics(easyHardSwitchingPhonInvNoSplit);
-            mapPCCR.get(KnownCaseComparator.EasyHardWords).extractStatistics(easyHardSwitchingPCCR);
-
-            SimulationInfo binaryTreeSimulationPhonInv = SimulationWordsSequence.runSimulation(assessment,
-                KnownCaseComparator.BinaryTreeComparator, 2, true, true);
-            SimulationInfo binaryTreeSimulationPhonInvNoSplit = SimulationWordsSequence.runSimulation(assessment,
-                KnownCaseComparator.BinaryTreeComparator, 2, false, true);
-            SimulationInfo binaryTreeSimulationPCCR = SimulationWordsSequence.runSimulation(assessment,
-                KnownCaseComparator.BinaryTreeComparator, 2, true, false);
-
-            mapPhoneticInventory.get(KnownCaseComparator.BinaryTreeComparator).extractStatistics(binaryTreeSimulationPhonInv);
-            mapPhoneticInventoryNoSplitClusters.get(KnownCaseComparator.BinaryTreeComparator).extractStatistics(binaryTreeSimulationPhonInvNoSplit);
-            mapPCCR.get(KnownCaseComparator.BinaryTreeComparator).extractStatistics(binaryTreeSimulationPCCR);
-
-            // blocos de palavras
-            SimulationInfo binaryTreeExtended = SimulationWordsSequence.runSimulation2(assessment,
-                KnownCaseComparator.BinaryTreeComparator, 2, true);
-            SimulationInfo binaryTreeExtendedNoSplit = SimulationWordsSequence.runSimulation2(assessment,
-                KnownCaseComparator.BinaryTreeComparator, 2, false);
-
-            statisticsExtended.extractStatistics(binaryTreeExtended);
-            statisticsExtendedNoSplit.extractStatistics(binaryTreeExtendedNoSplit);
+        final ExecutorService executor = SimulationEngine.newExecutor(threads);
+        final SimulationEngine.Results results;
+        try {
+            results = new SimulationEngine(instrument, 2, executor).run(assessments, variants);
+        } finally {
+            executor.shutdown();
+        }
+
+        // the statistics are not thread-safe: they're filled here, in the order of the assessments
+        for (SimulationEngine.Variant variant : variants) {
+            final Statistics statistics;
+            if (variant.isBlocks()) {
+                statistics = variant.isSplitConsonantClusters() ? statisticsExtended : statisticsExtendedNoSplit;
+            } else if (!variant.isPhoneticInventory()) {
+                statistics = mapPCCR.get(variant.getComparator());
+            } else if (variant.isSplitConsonantClusters()) {
+                statistics = mapPhoneticInventory.get(variant.getComparator());
+            } else {
+                statistics = mapPhoneticInventoryNoSplitClusters.get(variant.getComparator());
+            }
+            results.extractStatistics(variant, statistics);
         }
 
         Iterator<Map.Entry<KnownCaseComparator, Statistics>> it = mapPhoneticInventory.entrySet().iterator();
@@ -858,7 +865,7 @@ public class Main {
 
         File filePCCR_Regions = new File(parent, "PCCR-BinaryTreeComparator.csv");
         try (PrintWriter out = new PrintWriter(filePCCR_Regions)) {
-            out.print(mapPCCR.get(KnownCaseComparator.BinaryTreeComparator).exportPCCR_CSV(Defaults.TREE));
+            out.print(mapPCCR.get(KnownCaseComparator.BinaryTreeComparator).exportPCCR_CSV());
             System.out.println("File at: " + filePCCR_Regions);
         } catch (final FileNotFoundException ex) {
             System.out.println("Couldn't write into file: " + ex);
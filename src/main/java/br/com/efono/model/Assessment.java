@@ -1,9 +1,15 @@
 package br.com.efono.model;
 
 import br.com.efono.util.Defaults;
+import br.com.efono.util.WordCatalog;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
 
 /**
  *
@@ -19,7 +25,24 @@ public class Assessment {
 
     private final int id;
 
-    private final List<KnownCase> cases = new LinkedList<>();
+    /**
+     * The cases in the order they were added.
+     */
+    private final List<KnownCase> cases = new ArrayList<>();
+
+    private final List<KnownCase> view = Collections.unmodifiableList(cases);
+
+    /**
+     * The first case of each word, indexed by {@link KnownCase#getWordIndex()}. An assessment usually has only one
+     * case per word, so a new case is compared only with the case in its slot.
+     */
+    private final KnownCase[] byWord = new KnownCase[WordCatalog.getDefault().size()];
+
+    /**
+     * Cached hash code, 0 if it's not computed yet. It's a single field, like in {@link String#hashCode()}, so a thread
+     * never sees a flag without the hash.
+     */
+    private int hash;
 
     /**
      * Creates an assessment.
@@ -41,13 +64,20 @@ public class Assessment {
     }
 
     /**
-     * Creates an assessment with the given cases.
+     * Creates an assessment with the given cases. All the cases are kept, even the equal ones, unlike
+     * {@link #addCase(KnownCase)}.
      *
      * @param cases Cases in the assessment.
      */
     public Assessment(final List<KnownCase> cases) {
         this();
-        this.cases.addAll(cases);
+        for (KnownCase c : cases) {
+            int word = c == null ? -1 : c.getWordIndex();
+            if (word >= 0 && byWord[word] == null) {
+                byWord[word] = c;
+            }
+            this.cases.add(c);
+        }
     }
 
     /**
@@ -58,7 +88,7 @@ public class Assessment {
     }
 
     /**
-     * A copy of the cases in this assessment.
+     * A copy of the cases in this assessment. Prefer {@link #getCaseList()} if the list will not be changed.
      *
      * @return The list of cases.
      */
@@ -66,11 +96,50 @@ public class Assessment {
         return new LinkedList<>(cases);
     }
 
+    /**
+     * @return A read-only view of the cases in this assessment, in the order they were added. The view reflects the
+     * later changes in the assessment.
+     */
+    public List<KnownCase> getCaseList() {
+        return view;
+    }
+
+    /**
+     * Performs the given action for each case in this assessment, in the order they were added.
+     *
+     * @param action The action.
+     */
+    public void forEachCase(final Consumer<? super KnownCase> action) {
+        for (int i = 0; i < cases.size(); i++) {
+            action.accept(cases.get(i));
+        }
+    }
+
+    /**
+     * Gets the case of the given word.
+     *
+     * @param word The word. Accents and case are ignored, see {@link WordCatalog}.
+     * @return The first case added with the given word or null.
+     */
+    public KnownCase getCase(final String word) {
+        int index = WordCatalog.getDefault().indexOf(word);
+        return index < 0 ? null : byWord[index];
+    }
+
+    /**
+     * @return The number of cases in this assessment.
+     */
+    public int size() {
+        return cases.size();
+    }
+
     /**
      * Clears all cases.
      */
     public void clear() {
         cases.clear();
+        Arrays.fill(byWord, null);
+        hash = 0;
     }
 
     /**
@@ -90,21 +159,34 @@ public class Assessment {
      * @param knownCase The case to be added.
      */
     public void addCase(final KnownCase knownCase) {
-        if (!cases.contains(knownCase)) {
-            cases.add(knownCase);
+        int word = knownCase == null ? -1 : knownCase.getWordIndex();
+        if (word >= 0 && byWord[word] == null) {
+            // equal cases have the same word, so there is no equal case here
+            byWord[word] = knownCase;
+        } else if (word >= 0 && byWord[word].equals(knownCase)) {
+            return;
+        } else if (cases.contains(knownCase)) {
+            // searched only when the word repeats, which is rare
+            return;
         }
+        cases.add(knownCase);
+        hash = 0;
     }
 
     @Override
     public int hashCode() {
-        int hash = 7;
-        int casesHash = 1;
-        for (KnownCase c : cases) {
-            casesHash *= 13 + Objects.hash(c);
+        int h = hash;
+        if (h == 0) {
+            h = 7;
+            int casesHash = 1;
+            for (KnownCase c : cases) {
+                casesHash *= 13 + Objects.hash(c);
+            }
+            h = 89 * h + casesHash;
+            h = 89 * h + id;
+            hash = h;
         }
-        hash = 89 * hash + casesHash;
-        hash = 89 * hash + id;
-        return hash;
+        return h;
     }
 
     @Override
@@ -138,32 +220,57 @@ public class Assessment {
      * @return The PCC-R value between 0 and 1 or -1 if the assessment is not valid.
      */
     public double getPCCR(final List<String> words) {
-        double totalProductions = 0d;
-        double correctProductions = 0d;
+        return getPCCR(WordMask.of(words));
+    }
+
+    /**
+     * Gets the PCC-R value for this assessment considering only the words in the given set. See
+     * {@link #getPCCR(List)}. Use a {@link PCCREvaluator} to compute it for many assessments and word sets.
+     *
+     * @param words The words to compute PCC-R.
+     * @return The PCC-R value between 0 and 1 or -1 if the assessment is not valid.
+     */
+    public double getPCCR(final WordMask words) {
+        return getPCCR(words, Defaults.getInstrument());
+    }
+
+    /**
+     * Gets the PCC-R value for this assessment with all the words and the target phonemes of the given instrument.
+     *
+     * @param instrument The instrument.
+     * @return The PCC-R value between 0 and 1 or -1 if the assessment is not valid.
+     */
+    public double getPCCR(final Instrument instrument) {
+        return getPCCR(instrument.getWordMask(), instrument);
+    }
+
+    /**
+     * Gets the PCC-R value for this assessment considering only the words in the given set and the target phonemes of
+     * the given instrument.
+     *
+     * @param words The words to compute PCC-R.
+     * @param instrument The instrument.
+     * @return The PCC-R value between 0 and 1 or -1 if the assessment is not valid.
+     */
+    public double getPCCR(final WordMask words, final Instrument instrument) {
+        return getPCCR(words, instrument.getTargets()::countCorrectProductions);
+    }
+
+    private double getPCCR(final WordMask words, final ToIntFunction<KnownCase> counter) {
+        int totalProductions = 0;
+        int correctProductions = 0;
 
         for (KnownCase c : cases) {
-            if (words.contains(c.getWord())) {
-                totalProductions += c.getPhonemes().size();
-                if (c.isCorrect()) {
-                    correctProductions += c.getPhonemes().size();
-                } else {
-                    /**
-                     * We can do TARGET_PHONEMES.get(c.getWord()) here because KnownCase doesn't allow words that is not
-                     * in Defaults#SORTED_WORDS. Even if there is a difference in accentuation, for example, those cases
-                     * will be treated and use the related word from Defaults#SORTED_WORDS.
-                     */
-                    List<Phoneme> targetPhonemes = Defaults.TARGET_PHONEMES.get(c.getWord());
-                    correctProductions += c.getCorrectProductions(targetPhonemes).size();
-                }
+            if (words.contains(c.getWordIndex())) {
+                totalProductions += c.getPhonemeCount();
+                correctProductions += counter.applyAsInt(c);
             }
         }
 
-        // TODO: tests
         if (totalProductions == 0) {
             return -1;
         }
-
-        return correctProductions / totalProductions;
+        return (double) correctProductions / totalProductions;
     }
 
 }
@@ -0,0 +1,333 @@
+package br.com.efono.model;
+
+import br.com.efono.tree.BinaryTree;
+import br.com.efono.tree.TreeUtils;
+import br.com.efono.util.Defaults;
+import br.com.efono.util.WordCatalog;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * An instrument of phonological assessment: the words, sorted from the easiest to the hardest one, with their target
+ * phonemes and similar words. It's an immutable alternative to the static values in {@link Defaults}, so different
+ * instruments (like the 84 words and a 55 words variant) can be evaluated side by side in the same process.
+ *
+ * The words must be in our database (the default {@link WordCatalog}), since the {@link KnownCase}s are stored with
+ * them. The target phonemes and similar words of words that are not in the instrument are discarded.
+ *
+ * All the values are copied in the constructor and kept in final fields, so an instrument can be shared by the threads
+ * of a simulation.
+ *
+ * @author João Bolsson (joaovictorbolsson@gmail.com)
+ * @version 2026, Oct 18.
+ */
+public final class Instrument {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final String name;
+    private final String[] words;
+    private final String[] easyHardWords;
+    private final WordMask mask;
+
+    /**
+     * Rank of each word of the default catalog in this instrument or -1.
+     */
+    private final int[] indexes;
+
+    private final Map<String, List<Phoneme>> targetPhonemes;
+    private final Map<String, List<String>> similarWords;
+    private final TargetPhonemes targets;
+    private final Map<KnownCaseComparator, int[]> ranks = new EnumMap<>(KnownCaseComparator.class);
+    private final BinaryTree<String> tree;
+
+    /**
+     * Creates an instrument.
+     *
+     * @param name Name of the instrument.
+     * @param sortedWords The words, from the easiest to the hardest one.
+     * @param targetPhonemes The key is the word and the value is the target phonemes for this word.
+     * @param similarWords The key is the word and the value is the most difficult words that have the same phonemes in
+     * the key.
+     * @throws IllegalArgumentException If some word is not in our database or is repeated.
+     */
+    public Instrument(final String name, final String[] sortedWords, final Map<String, List<Phoneme>> targetPhonemes,
+            final Map<String, List<String>> similarWords) {
+        this.name = Objects.requireNonNull(name);
+        this.words = new String[sortedWords.length];
+        this.indexes = new int[WordCatalog.getDefault().size()];
+        Arrays.fill(indexes, -1);
+        for (int i = 0; i < sortedWords.length; i++) {
+            int index = WordCatalog.getDefault().indexOf(sortedWords[i]);
+            if (index < 0) {
+                throw new IllegalArgumentException("The word [" + sortedWords[i] + "] is not in our database.");
+            }
+            if (indexes[index] >= 0) {
+                throw new IllegalArgumentException("The word [" + sortedWords[i] + "] is repeated.");
+            }
+            indexes[index] = i;
+            words[i] = WordCatalog.getDefault().getWord(index);
+        }
+        this.easyHardWords = Defaults.getEasyHardWords(words);
+        this.mask = WordMask.of(words);
+
+        final Map<String, List<Phoneme>> targets = new LinkedHashMap<>();
+        final Map<String, List<String>> similar = new LinkedHashMap<>();
+        for (String word : words) {
+            List<Phoneme> phonemes = findValue(targetPhonemes, word);
+            if (phonemes != null) {
+                targets.put(word, Collections.unmodifiableList(new ArrayList<>(phonemes)));
+            }
+            List<String> values = findValue(similarWords, word);
+            if (values != null) {
+                final List<String> list = new ArrayList<>();
+                for (String value : values) {
+                    if (contains(value)) {
+                        list.add(getWord(indexOf(value)));
+                    }
+                }
+                similar.put(word, Collections.unmodifiableList(list));
+            }
+        }
+        this.targetPhonemes = Collections.unmodifiableMap(targets);
+        this.similarWords = Collections.unmodifiableMap(similar);
+        this.targets = new TargetPhonemes(this.targetPhonemes, this.similarWords);
+
+        for (KnownCaseComparator comp : KnownCaseComparator.values()) {
+            ranks.put(comp, comp.ranks(this));
+        }
+
+        this.tree = new BinaryTree<>((final String o1, final String o2) -> indexOf(o2) - indexOf(o1));
+        this.tree.init(words.clone());
+    }
+
+    /**
+     * Finds the value of the given word in a map that may use a different accentuation.
+     */
+    private static <T> T findValue(final Map<String, T> map, final String word) {
+        if (map == null) {
+            return null;
+        }
+        T value = map.get(word);
+        if (value == null) {
+            for (Map.Entry<String, T> entry : map.entrySet()) {
+                if (WordCatalog.fold(word).equals(WordCatalog.fold(entry.getKey()))) {
+                    return entry.getValue();
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Creates an instrument with the current values in {@link Defaults}. Later changes in {@link Defaults} are not
+     * seen by the instrument.
+     *
+     * @return The instrument.
+     */
+    public static Instrument fromDefaults() {
+        return new Instrument("default", Defaults.SORTED_WORDS, Defaults.TARGET_PHONEMES, Defaults.SIMILAR_WORDS);
+    }
+
+    /**
+     * Loads an instrument from a JSON file with the fields <code>name</code>, <code>words</code>,
+     * <code>targetPhonemes</code> and <code>similarWords</code>. See {@link #save(File)}.
+     *
+     * @param file File to read.
+     * @return The instrument.
+     * @throws IOException If the file couldn't be read or has invalid values.
+     */
+    public static Instrument load(final File file) throws IOException {
+        final Entry entry = MAPPER.readValue(file, Entry.class);
+        if (entry.words == null) {
+            throw new IOException("The instrument in " + file + " has no words.");
+        }
+        try {
+            return new Instrument(entry.name == null ? file.getName() : entry.name, entry.words,
+                    entry.targetPhonemes, entry.similarWords);
+        } catch (final IllegalArgumentException ex) {
+            throw new IOException("Invalid instrument in " + file + ": " + ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Saves this instrument into a JSON file, that can be read by {@link #load(File)}.
+     *
+     * @param file File to write.
+     * @throws IOException If the file couldn't be written.
+     */
+    public void save(final File file) throws IOException {
+        final Entry entry = new Entry();
+        entry.name = name;
+        entry.words = words;
+        entry.targetPhonemes = targetPhonemes;
+        entry.similarWords = similarWords;
+        MAPPER.writerWithDefaultPrettyPrinter().writeValue(file, entry);
+    }
+
+    /**
+     * Creates an instrument with only some of the words of this one, in the same order.
+     *
+     * @param name Name of the new instrument.
+     * @param subset Words to keep.
+     * @return The new instrument.
+     * @throws IllegalArgumentException If some word is not in this instrument.
+     */
+    public Instrument subset(final String name, final Collection<String> subset) {
+        final WordMask keep = WordMask.of(subset);
+        for (String word : subset) {
+            if (!contains(word)) {
+                throw new IllegalArgumentException("The word [" + word + "] is not in the instrument " + this.name);
+            }
+        }
+        return new Instrument(name, Arrays.stream(words).filter(keep::contains).toArray(String[]::new),
+                targetPhonemes, similarWords);
+    }
+
+    /**
+     * @return The name of the instrument.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return A copy of the words, from the easiest to the hardest one.
+     */
+    public String[] getWords() {
+        return words.clone();
+    }
+
+    /**
+     * @return A copy of the words sorted like: <code>easy, hard, easy, hard words...</code>.
+     */
+    public String[] getEasyHardWords() {
+        return easyHardWords.clone();
+    }
+
+    /**
+     * @return The number of words.
+     */
+    public int size() {
+        return words.length;
+    }
+
+    /**
+     * @param index Index of the word, from 0 (easiest) to {@link #size()} - 1 (hardest).
+     * @return The word.
+     */
+    public String getWord(final int index) {
+        return words[index];
+    }
+
+    /**
+     * Finds the index of the given word in this instrument, ignoring accents and case.
+     *
+     * @param word Word to find.
+     * @return The index of the word or -1 if it's not in this instrument.
+     */
+    public int indexOf(final String word) {
+        return indexOfCatalogWord(WordCatalog.getDefault().indexOf(word));
+    }
+
+    /**
+     * Finds the index of a word of the default {@link WordCatalog}, like {@link KnownCase#getWordIndex()}, in this
+     * instrument.
+     *
+     * @param catalogIndex Index of the word in the default catalog.
+     * @return The index of the word or -1 if it's not in this instrument.
+     */
+    public int indexOfCatalogWord(final int catalogIndex) {
+        return catalogIndex < 0 || catalogIndex >= indexes.length ? -1 : indexes[catalogIndex];
+    }
+
+    /**
+     * @param word Word to check.
+     * @return True - the word is in this instrument, otherwise - false.
+     */
+    public boolean contains(final String word) {
+        return indexOf(word) >= 0;
+    }
+
+    /**
+     * @return The set of words of this instrument.
+     */
+    public WordMask getWordMask() {
+        return mask;
+    }
+
+    /**
+     * @return A read-only map where the key is the word and the value is the target phonemes for this word.
+     */
+    public Map<String, List<Phoneme>> getTargetPhonemes() {
+        return targetPhonemes;
+    }
+
+    /**
+     * @return A read-only map where the key is the word and the value is the most difficult words that have the same
+     * phonemes in the key.
+     */
+    public Map<String, List<String>> getSimilarWords() {
+        return similarWords;
+    }
+
+    /**
+     * @return The snapshot of the target phonemes and similar words, indexed by word, which can be read by many threads.
+     */
+    public TargetPhonemes getTargets() {
+        return targets;
+    }
+
+    /**
+     * Gets the balanced tree with the words of this instrument. The traversals in {@link TreeUtils} don't change the
+     * tree, so it can be walked by many threads, but it must not be changed.
+     *
+     * @return The tree.
+     */
+    public BinaryTree<String> getTree() {
+        return tree;
+    }
+
+    /**
+     * @param comp Comparator.
+     * @return The rank table of the given comparator with the words of this instrument.
+     */
+    int[] getRanks(final KnownCaseComparator comp) {
+        return ranks.get(comp);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + name + ") with [" + words.length + "] words";
+    }
+
+    /**
+     * Structure of the instrument files.
+     */
+    private static class Entry {
+
+        @JsonProperty
+        private String name;
+
+        @JsonProperty
+        private String[] words;
+
+        @JsonProperty
+        private Map<String, List<Phoneme>> targetPhonemes;
+
+        @JsonProperty
+        private Map<String, List<String>> similarWords;
+    }
+
+}
@@ -1,16 +1,20 @@
 package br.com.efono.model;
 
-import br.com.efono.util.Defaults;
+import br.com.efono.util.BatchResult;
 import br.com.efono.util.FileUtils;
 import br.com.efono.util.Util;
+import br.com.efono.util.WordCatalog;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.File;
 import java.io.IOException;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -26,17 +30,27 @@ public class KnownCase {
      */
     private static final String EMPTY_CASE = "empty-case".hashCode() + "";
 
-    @JsonProperty(value = "word")
-    private final String word;
+    /**
+     * Word index of the {@link #EMPTY_CASE}.
+     */
+    private static final byte EMPTY_WORD = (byte) 0xFF;
+
+    private static final short[] NO_PHONEMES = new short[0];
+
+    /**
+     * Index of the word in the default {@link WordCatalog}, read as unsigned.
+     */
+    private final byte word;
 
-    @JsonProperty(value = "representation")
     private final String representation;
 
-    @JsonProperty(value = "correct")
     private final boolean correct;
 
-    @JsonProperty(value = "phonemes")
-    private final List<Phoneme> phonemes;
+    /**
+     * Ids of the phonemes (see {@link Phoneme#getId()}), read as unsigned. The array is never changed: a new one is
+     * created by {@link #putPhonemes(List)}.
+     */
+    private short[] phonemes;
 
     /**
      * Default constructor.
@@ -62,24 +76,56 @@ public class KnownCase {
      * @param word Target word.
      * @param representation Phonetic transcription.
      * @param correct If the transcription represents a correct pronunciation or not.
-     * @param phonemes Only consonant phonemes in the transcription.
+     * @param phonemes Only consonant phonemes in the transcription. The list is copied.
      */
     public KnownCase(final String word, final String representation, boolean correct, final List<Phoneme> phonemes) {
+        this(word, representation, correct, phonemes, null);
+    }
+
+    /**
+     * Creates a know case sharing its representation with the other cases of the same load, like the ones read by a
+     * {@link KnownCaseReader}.
+     *
+     * @param word Target word.
+     * @param representation Phonetic transcription.
+     * @param correct If the transcription represents a correct pronunciation or not.
+     * @param phonemes Only consonant phonemes in the transcription. The list is copied.
+     * @param representations The representations of the load, to keep only one instance of each one, or null.
+     */
+    KnownCase(final String word, final String representation, boolean correct, final List<Phoneme> phonemes,
+            final Map<String, String> representations) {
         String w = Objects.requireNonNull(word);
-        if (!EMPTY_CASE.equals(w)) {
-            int index = Defaults.findIndexOf(w, Defaults.SORTED_WORDS);
+        if (EMPTY_CASE.equals(w)) {
+            this.word = EMPTY_WORD;
+        } else {
+            int index = WordCatalog.getDefault().indexOf(w);
             if (index < 0) {
                 throw new IllegalArgumentException("The word [" + w
                         + "] is not in our database, so we can't work with it.");
             }
             // treating the word, avoid wrong comparisons
-            w = Defaults.SORTED_WORDS[index];
+            this.word = toWordIndex(index);
         }
-        this.word = w;
-        this.representation = Util.cleanTranscription(Objects.requireNonNull(representation));
-        if (this.representation.contains("?")) {
+        String clean = Util.cleanTranscription(Objects.requireNonNull(representation));
+        if (clean.contains("?")) {
             throw new IllegalArgumentException("Non identified phonemes are now allowed in a Known Case.");
         }
+        this.representation = intern(clean, representations);
+        this.correct = correct;
+        this.phonemes = toIds(Objects.requireNonNull(phonemes));
+    }
+
+    /**
+     * Creates a known case that was already validated, like the ones in a {@link KnownCaseSnapshot}.
+     *
+     * @param word Index of the target word in the default {@link WordCatalog}.
+     * @param representation Clean phonetic transcription, already shared by the snapshot.
+     * @param correct If the transcription represents a correct pronunciation or not.
+     * @param phonemes Ids of the consonant phonemes in the transcription. The array is not copied.
+     */
+    KnownCase(final int word, final String representation, boolean correct, final short[] phonemes) {
+        this.word = toWordIndex(word);
+        this.representation = Objects.requireNonNull(representation);
         this.correct = correct;
         this.phonemes = Objects.requireNonNull(phonemes);
     }
@@ -90,7 +136,49 @@ public class KnownCase {
      * @param source Source known case.
      */
     public KnownCase(final KnownCase source) {
-        this(source.getWord(), source.getRepresentation(), source.isCorrect(), new ArrayList<>(source.getPhonemes()));
+        this.word = source.word;
+        this.representation = source.representation;
+        this.correct = source.correct;
+        // the arrays are never changed, so they can be shared
+        this.phonemes = source.phonemes;
+    }
+
+    @JsonCreator
+    private static KnownCase fromJson(@JsonProperty("word") final String word,
+            @JsonProperty("representation") final String representation, @JsonProperty("correct") boolean correct,
+            @JsonProperty("phonemes") final List<Phoneme> phonemes) {
+        return new KnownCase(word, representation, correct, phonemes == null ? Collections.emptyList() : phonemes);
+    }
+
+    private static byte toWordIndex(final int index) {
+        if (index < 0 || index >= (EMPTY_WORD & 0xFF)) {
+            throw new IllegalArgumentException("Invalid word index: " + index);
+        }
+        return (byte) index;
+    }
+
+    private static String intern(final String representation, final Map<String, String> representations) {
+        if (representations == null) {
+            return representation;
+        }
+        String interned = representations.putIfAbsent(representation, representation);
+        return interned != null ? interned : representation;
+    }
+
+    private static short[] toIds(final List<Phoneme> phonemes) {
+        if (phonemes.isEmpty()) {
+            return NO_PHONEMES;
+        }
+        short[] ids = new short[phonemes.size()];
+        int i = 0;
+        for (Phoneme p : phonemes) {
+            int id = p.getId();
+            if (id > 0xFFFF) {
+                throw new IllegalStateException("Too many phonemes to store the id of " + p);
+            }
+            ids[i++] = (short) id;
+        }
+        return ids;
     }
 
     /**
@@ -98,8 +186,27 @@ public class KnownCase {
      *
      * @return The word.
      */
+    @JsonProperty("word")
     public String getWord() {
-        return word;
+        return wordOf(getWordIndex());
+    }
+
+    /**
+     * Gets the word of the cases with the given word index, like {@link #getWord()}.
+     *
+     * @param index Index of the word in the default {@link WordCatalog} or -1 for an empty case.
+     * @return The word.
+     */
+    public static String wordOf(final int index) {
+        return index < 0 ? EMPTY_CASE : WordCatalog.getDefault().getWord(index);
+    }
+
+    /**
+     * @return The index of the word in the default {@link WordCatalog} or -1 for an empty case.
+     */
+    @JsonIgnore
+    public int getWordIndex() {
+        return word == EMPTY_WORD ? -1 : word & 0xFF;
     }
 
     /**
@@ -107,6 +214,7 @@ public class KnownCase {
      *
      * @return The representation/transcription of the pronunciation.
      */
+    @JsonProperty("representation")
     public String getRepresentation() {
         return representation;
     }
@@ -114,10 +222,40 @@ public class KnownCase {
     /**
      * All the phonemes in this case.
      *
-     * @return A list with the phonemes in this case.
+     * @return A read-only view of the phonemes in this case. Use {@link #putPhonemes(List)} to change them.
      */
+    @JsonProperty("phonemes")
     public List<Phoneme> getPhonemes() {
-        return phonemes;
+        final short[] ids = phonemes;
+        return new AbstractList<Phoneme>() {
+            @Override
+            public Phoneme get(final int index) {
+                return Phoneme.byId(ids[index] & 0xFFFF);
+            }
+
+            @Override
+            public int size() {
+                return ids.length;
+            }
+        };
+    }
+
+    /**
+     * @return The number of phonemes in this case.
+     */
+    @JsonIgnore
+    public int getPhonemeCount() {
+        return phonemes.length;
+    }
+
+    /**
+     * Gets the id of a phoneme in this case, without creating the list in {@link #getPhonemes()}.
+     *
+     * @param index Index of the phoneme.
+     * @return The phoneme id. See {@link Phoneme#getId()}.
+     */
+    public int getPhonemeId(final int index) {
+        return phonemes[index] & 0xFFFF;
     }
 
     /**
@@ -126,10 +264,18 @@ public class KnownCase {
      * @param phonemes Phonemes of the case.
      */
     public void putPhonemes(final List<Phoneme> phonemes) {
-        this.phonemes.clear();
-        this.phonemes.addAll(phonemes);
+        this.phonemes = toIds(phonemes);
+    }
+
+    boolean containsPhoneme(final int id) {
+        for (short p : phonemes) {
+            if ((p & 0xFFFF) == id) {
+                return true;
+            }
+        }
+        return false;
     }
-    
+
     /**
      * Gets a list with the correct productions bases on the list of target phonemes for the word of this KnownCase.
      * @param targetPhonemes A list of target phonemes for the word of this instance.
@@ -139,7 +285,7 @@ public class KnownCase {
         final List<Phoneme> correctProd = new ArrayList<>();
         if (targetPhonemes != null) {
             targetPhonemes.forEach(p -> {
-                if (this.phonemes.contains(p)) {
+                if (p != null && containsPhoneme(p.getId())) {
                     correctProd.add(p);
                 }
             });
@@ -147,9 +293,29 @@ public class KnownCase {
         return correctProd;
     }
 
+    /**
+     * Counts the correct productions, like the size of {@link #getCorrectProductions(List)} but without creating the
+     * list.
+     *
+     * @param targetPhonemes A list of target phonemes for the word of this instance.
+     * @return The number of correct productions.
+     */
+    public int countCorrectProductions(final List<Phoneme> targetPhonemes) {
+        int count = 0;
+        if (targetPhonemes != null) {
+            for (Phoneme p : targetPhonemes) {
+                if (p != null && containsPhoneme(p.getId())) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
     /**
      * @return If the transcription represents a correct pronunciation or not.
      */
+    @JsonProperty("correct")
     public boolean isCorrect() {
         return correct;
     }
@@ -157,7 +323,7 @@ public class KnownCase {
     @Override
     public int hashCode() {
         int hash = 3;
-        hash = 89 * hash + Objects.hashCode(this.word);
+        hash = 89 * hash + Objects.hashCode(getWord());
         hash = 89 * hash + Objects.hashCode(this.representation);
         return hash;
     }
@@ -174,7 +340,7 @@ public class KnownCase {
             return false;
         }
         final KnownCase other = (KnownCase) obj;
-        if (!Objects.equals(this.word, other.word)) {
+        if (this.word != other.word) {
             return false;
         }
         return Objects.equals(this.representation, other.representation);
@@ -182,30 +348,31 @@ public class KnownCase {
 
     @Override
     public String toString() {
-        return "KnownCase(" + word + " : " + representation + " : correct: " + correct + ")";
+        return "KnownCase(" + getWord() + " : " + representation + " : correct: " + correct + ")";
     }
 
     /**
-     * Reads file containing known cases.
+     * Reads file containing known cases. A JSON file is read by a {@link KnownCaseReader}, in batches, and a
+     * {@link KnownCaseSnapshot#EXTENSION} file is opened as a {@link KnownCaseSnapshot}, which decodes each case only
+     * when it's read.
      *
      * @param file File to read.
-     * @return A list with known cases from the file.
+     * @return A list with known cases from the file. The list of a snapshot is read-only: copy it to change it.
      * @throws IOException
      */
     public static List<KnownCase> loadFile(final File file) throws IOException {
+        if (file != null && file.getAbsolutePath().endsWith(KnownCaseSnapshot.EXTENSION)) {
+            return KnownCaseSnapshot.open(file);
+        }
         if (file != null && file.getAbsolutePath().endsWith(".json")) {
-            ObjectMapper objectMapper = new ObjectMapper();
-            /**
-             * Deserialization is not treating fields like representation with the {@link Util#cleanTranscription()}
-             * method. So we create a temp list here and then treat the objects properly.
-             */
-            List<KnownCase> readValue = objectMapper.readValue(file, new TypeReference<List<KnownCase>>() {
-            });
-
-            List<KnownCase> treatedCases = new ArrayList<>();
-            readValue.forEach(val -> treatedCases.add(new KnownCase(val)));
-
-            return treatedCases;
+            final List<KnownCase> cases = new ArrayList<>();
+            try (KnownCaseReader reader = new KnownCaseReader(file)) {
+                List<KnownCase> batch;
+                while (!(batch = reader.nextBatch(KnownCaseReader.DEFAULT_BATCH_SIZE)).isEmpty()) {
+                    cases.addAll(batch);
+                }
+            }
+            return cases;
         }
         return Collections.emptyList();
     }
@@ -221,14 +388,11 @@ public class KnownCase {
 
         if (file != null && file.getAbsolutePath().endsWith(".csv")) {
             List<String[]> csv = FileUtils.readCSV(file, ",");
-            for (String[] line : csv) {
-                // word,transcription,correct
-                try {
-                    list.add(new KnownCase(line[0], line[1], "1".equals(line[2])));
-                } catch (final Exception e) {
-                    System.out.println("Failed on building new case: " + e);
-                }
-            }
+            // word,transcription,correct
+            BatchResult<String[], KnownCase> cases = BatchResult.process(csv,
+                    line -> new KnownCase(line[0], line[1], "1".equals(line[2])));
+            cases.getFailures().forEach(f -> System.out.println("Failed on building new case: " + f.getException()));
+            list.addAll(cases.getResults());
         }
 
         return list;
@@ -2,9 +2,11 @@ package br.com.efono.model;
 
 import br.com.efono.util.Defaults;
 import br.com.efono.util.SimulationWordsSequence;
+import br.com.efono.util.WordCatalog;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.ListIterator;
 
 /**
  *
@@ -15,24 +17,15 @@ public enum KnownCaseComparator {
 
     /**
      * Sort KnownCases with harder words first.
+     *
+     * The constructor of {@link KnownCase} already guarantee that will have only known words - which means: words from
+     * our database (SORTED_WORDS).
      */
-    HardWordsFirst((final KnownCase o1, final KnownCase o2) -> {
-        /**
-         * The constructor of {@link KnownCase} already guarantee that will have only known words - which means: words
-         * from our database (SORTED_WORDS).
-         */
-        int indexOfo1 = Arrays.asList(Defaults.SORTED_WORDS).indexOf(o1.getWord());
-        int indexOfo2 = Arrays.asList(Defaults.SORTED_WORDS).indexOf(o2.getWord());
-        return indexOfo2 - indexOfo1;
-    }),
+    HardWordsFirst(false, true),
     /**
      * Sort KnownCases with easiest words first.
      */
-    EasyWordsFirst((KnownCase o1, KnownCase o2) -> {
-        int indexOfo1 = Arrays.asList(Defaults.SORTED_WORDS).indexOf(o1.getWord());
-        int indexOfo2 = Arrays.asList(Defaults.SORTED_WORDS).indexOf(o2.getWord());
-        return indexOfo1 - indexOfo2;
-    }),
+    EasyWordsFirst(false, false),
     /**
      * Sort KnownCases by switching between easy/hard words. This will generate a list with words like: <code>easy, hard, easy, hard,
      * ...</code>. This should be used with {@link SimulationWordsSequence#sortList(List, KnownCaseComparator)}. It
@@ -41,27 +34,139 @@ public enum KnownCaseComparator {
      * them like <code>easy, hard, easy</code>, then you should use
      * {@link SimulationWordsSequence#sortList(List, KnownCaseComparator)}.
      */
-    EasyHardWords((KnownCase o1, KnownCase o2) -> {
-        List<String> list = Arrays.asList(Defaults.EASY_HARD_WORDS);
-        int indexOfo1 = list.indexOf(o1.getWord());
-        int indexOfo2 = list.indexOf(o2.getWord());
-        return indexOfo1 - indexOfo2;
-    }),
-    BinaryTreeComparator((KnownCase o1, KnownCase o2) -> {
-        int indexOfo1 = Arrays.asList(Defaults.SORTED_WORDS).indexOf(o1.getWord());
-        int indexOfo2 = Arrays.asList(Defaults.SORTED_WORDS).indexOf(o2.getWord());
-        return indexOfo1 - indexOfo2;
-    }),
-    BinaryTreeComparatorExtended((KnownCase o1, KnownCase o2) -> {
-        int indexOfo1 = Arrays.asList(Defaults.SORTED_WORDS).indexOf(o1.getWord());
-        int indexOfo2 = Arrays.asList(Defaults.SORTED_WORDS).indexOf(o2.getWord());
-        return indexOfo1 - indexOfo2;
-    });
+    EasyHardWords(true, false),
+    BinaryTreeComparator(false, false),
+    BinaryTreeComparatorExtended(false, false);
 
+    private final boolean easyHard;
+    private final boolean reversed;
+    private final int[] ranks;
     private final Comparator<KnownCase> comp;
 
-    private KnownCaseComparator(final Comparator<KnownCase> comp) {
-        this.comp = comp;
+    /**
+     * @param easyHard True - the words are sorted like <code>easy, hard, easy, hard words...</code>.
+     * @param reversed True - the hardest words come first.
+     */
+    private KnownCaseComparator(final boolean easyHard, final boolean reversed) {
+        this.easyHard = easyHard;
+        this.reversed = reversed;
+        this.ranks = ranks(easyHard ? Defaults.EASY_HARD_WORDS : Defaults.SORTED_WORDS, reversed);
+        this.comp = (final KnownCase o1, final KnownCase o2) -> Integer.compare(rank(o1, ranks), rank(o2, ranks));
+    }
+
+    /**
+     * Builds a rank table to sort cases by the position of their words in the given order. The table is indexed by the
+     * word index in the default {@link WordCatalog}, so getting the rank of a case doesn't search for its word. Cases
+     * with words that are not in the order come first, or last if the order is reversed.
+     *
+     * @param order The words in the order to sort.
+     * @param reversed True - the last word of the order comes first.
+     * @return The rank table, to be used by {@link #sort(List, int[])}.
+     */
+    public static int[] ranks(final String[] order, final boolean reversed) {
+        // the slot 0 is for the empty case, which is not in the catalog
+        final int[] table = new int[WordCatalog.getDefault().size() + 1];
+        final boolean[] ranked = new boolean[table.length];
+        if (reversed) {
+            Arrays.fill(table, order.length);
+        }
+        for (int i = 0; i < order.length; i++) {
+            int slot = WordCatalog.getDefault().indexOf(order[i]) + 1;
+            // the first occurrence wins, like in List#indexOf
+            if (slot > 0 && !ranked[slot]) {
+                ranked[slot] = true;
+                table[slot] = reversed ? order.length - 1 - i : i + 1;
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Builds the rank table of this comparator with the words of the given instrument.
+     *
+     * @param instrument The instrument.
+     * @return The rank table.
+     */
+    int[] ranks(final Instrument instrument) {
+        return ranks(easyHard ? instrument.getEasyHardWords() : instrument.getWords(), reversed);
+    }
+
+    private static int rank(final KnownCase c, final int[] ranks) {
+        return ranks[c.getWordIndex() + 1];
+    }
+
+    /**
+     * Sorts the given list with a counting sort, which is stable and linear in the size of the list.
+     *
+     * @param list List to sort.
+     * @param ranks Rank table built by {@link #ranks(String[], boolean)}.
+     */
+    public static void sort(final List<KnownCase> list, final int[] ranks) {
+        final int[] order = order(list, ranks);
+        final KnownCase[] cases = list.toArray(new KnownCase[order.length]);
+        final ListIterator<KnownCase> it = list.listIterator();
+        for (int i : order) {
+            it.next();
+            it.set(cases[i]);
+        }
+    }
+
+    /**
+     * Gets the order of the given list like {@link #sort(List, int[])}, without changing the list.
+     *
+     * @param list List of cases.
+     * @param ranks Rank table built by {@link #ranks(String[], boolean)}.
+     * @return The indexes of the cases in the list, in the sorted order.
+     */
+    public static int[] order(final List<KnownCase> list, final int[] ranks) {
+        int max = 0;
+        for (int r : ranks) {
+            max = Math.max(max, r);
+        }
+        // starts[r + 1] counts the cases with rank r, then starts[r] is the first position of rank r
+        final int[] starts = new int[max + 2];
+        for (KnownCase c : list) {
+            starts[rank(c, ranks) + 1]++;
+        }
+        for (int i = 1; i < starts.length; i++) {
+            starts[i] += starts[i - 1];
+        }
+        final int[] order = new int[list.size()];
+        int i = 0;
+        for (KnownCase c : list) {
+            order[starts[rank(c, ranks)]++] = i++;
+        }
+        return order;
+    }
+
+    /**
+     * Sorts the given list like <code>list.sort(getComparator())</code>, but with a counting sort.
+     *
+     * @param list List to sort.
+     */
+    public void sort(final List<KnownCase> list) {
+        sort(list, ranks);
+    }
+
+    /**
+     * Sorts the given list like {@link #sort(List)}, but with the words of the given instrument.
+     *
+     * @param list List to sort.
+     * @param instrument The instrument.
+     */
+    public void sort(final List<KnownCase> list, final Instrument instrument) {
+        sort(list, instrument.getRanks(this));
+    }
+
+    /**
+     * Gets the order of the given list like {@link #sort(List, Instrument)}, without changing the list.
+     *
+     * @param list List of cases.
+     * @param instrument The instrument.
+     * @return The indexes of the cases in the list, in the sorted order.
+     */
+    public int[] order(final List<KnownCase> list, final Instrument instrument) {
+        return order(list, instrument.getRanks(this));
     }
 
     /**
@@ -0,0 +1,189 @@
+package br.com.efono.model;
+
+import br.com.efono.util.BatchResult;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads a JSON file with known cases (see {@link KnownCase#saveKnownCases(List, File)}) one case at a time, so the
+ * whole document is never in memory. Each record is read into a plain entry and then validated only once, by the
+ * {@link KnownCase} constructor. The entries can be read in batches and built on the common fork-join pool with
+ * {@link #nextBatch(int)}.
+ *
+ * The reader must be closed after use.
+ *
+ * @author João Bolsson (joaovictorbolsson@gmail.com)
+ * @version 2026, Oct 18.
+ */
+public final class KnownCaseReader implements Iterator<KnownCase>, Closeable {
+
+    /**
+     * Default number of cases in a batch.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1024;
+
+    private static final ObjectReader READER = new ObjectMapper().readerFor(Entry.class);
+
+    private final JsonParser parser;
+
+    /**
+     * The representations are repeated thousands of times in a file, so the cases read by this reader share one
+     * instance of each one. The pool is dropped with the reader, so it doesn't keep the strings of old files.
+     */
+    private final Map<String, String> representations = new ConcurrentHashMap<>();
+    private Entry next;
+    private boolean finished = false;
+
+    /**
+     * Opens the given file.
+     *
+     * @param file File to read. It must contain an array of known cases.
+     * @throws IOException If the file couldn't be opened or doesn't start with an array.
+     */
+    public KnownCaseReader(final File file) throws IOException {
+        parser = READER.getFactory().createParser(file);
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            finished = true;
+        } else if (token != JsonToken.START_ARRAY) {
+            parser.close();
+            throw new IOException("The file " + file + " doesn't contain an array of known cases.");
+        }
+    }
+
+    /**
+     * Reads all the known cases in the given file as a stream. See {@link #stream()}.
+     *
+     * @param file File to read.
+     * @return A stream with the cases in the file order. The stream must be closed after use.
+     * @throws IOException If the file couldn't be opened or doesn't start with an array.
+     */
+    public static Stream<KnownCase> stream(final File file) throws IOException {
+        return new KnownCaseReader(file).stream();
+    }
+
+    /**
+     * @return A sequential stream with the remaining cases. Closing the stream closes this reader.
+     */
+    public Stream<KnownCase> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED
+                | Spliterator.NONNULL), false).onClose(() -> {
+            try {
+                close();
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+    }
+
+    private Entry readEntry() throws IOException {
+        if (finished) {
+            return null;
+        }
+        JsonToken token = parser.nextToken();
+        if (token == null || token == JsonToken.END_ARRAY) {
+            finished = true;
+            return null;
+        }
+        return READER.readValue(parser);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            try {
+                next = readEntry();
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public KnownCase next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Entry entry = next;
+        next = null;
+        return entry.toKnownCase(representations);
+    }
+
+    /**
+     * Reads the next cases. The entries are read sequentially and the cases are built in parallel.
+     *
+     * @param size Maximum number of cases to read.
+     * @return A list with the cases in the file order, empty when there are no more cases.
+     * @throws IOException If the file couldn't be read.
+     * @throws IllegalArgumentException If the size is lower than 1 or some case is invalid (see
+     * {@link KnownCase#KnownCase(String, String, boolean, List)}).
+     */
+    public List<KnownCase> nextBatch(final int size) throws IOException {
+        if (size <= 0) {
+            throw new IllegalArgumentException("The batch size must be greater than 0: " + size);
+        }
+        final List<Entry> entries = new ArrayList<>(Math.min(size, DEFAULT_BATCH_SIZE));
+        if (next != null) {
+            entries.add(next);
+            next = null;
+        }
+        Entry entry;
+        while (entries.size() < size && (entry = readEntry()) != null) {
+            entries.add(entry);
+        }
+        BatchResult<Entry, KnownCase> batch = BatchResult.process(entries, e -> e.toKnownCase(representations));
+        if (batch.hasFailures()) {
+            // the same exception that a sequential read would throw
+            throw batch.getFailures().get(0).getException();
+        }
+        return batch.getResults();
+    }
+
+    @Override
+    public void close() throws IOException {
+        finished = true;
+        parser.close();
+    }
+
+    /**
+     * A known case as it's written in the file, before being validated.
+     */
+    private static final class Entry {
+
+        @JsonProperty(value = "word")
+        private String word;
+
+        @JsonProperty(value = "representation")
+        private String representation;
+
+        @JsonProperty(value = "correct")
+        private boolean correct;
+
+        @JsonProperty(value = "phonemes")
+        private List<Phoneme> phonemes;
+
+        private KnownCase toKnownCase(final Map<String, String> representations) {
+            return new KnownCase(word, representation, correct, phonemes == null ? new ArrayList<>() : phonemes,
+                    representations);
+        }
+    }
+
+}
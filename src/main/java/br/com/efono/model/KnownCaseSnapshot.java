@@ -0,0 +1,270 @@
+package br.com.efono.model;
+
+import br.com.efono.util.WordCatalog;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * A read-only list of known cases backed by a compact binary snapshot, which is much faster to load than the JSON
+ * files. The snapshot is memory-mapped and each case is decoded only when it's read, so opening a snapshot only reads
+ * its small tables. The cases in a snapshot were validated when it was written, so they are not validated again.
+ *
+ * Each call to {@link #get(int)} creates a new case, equal to the previous ones.
+ *
+ * Format (big-endian), version 1:
+ * <pre>
+ * int magic, short version
+ * int W, W words                           (short length + UTF-8)
+ * int R, int[R + 1] offsets, byte[] blob   (representations, deduplicated)
+ * int P, P phonemes                        (short length + UTF-8 symbol, byte position ordinal + 1 or 0)
+ * int C, C records                         (int representation, int first phoneme, short word, short phonemes,
+ *                                           byte flags: bit 0 = correct)
+ * int N, short[N]                          (phoneme indexes of all the cases)
+ * </pre>
+ *
+ * @author João Bolsson (joaovictorbolsson@gmail.com)
+ * @version 2026, Oct 18.
+ */
+public final class KnownCaseSnapshot extends AbstractList<KnownCase> implements RandomAccess {
+
+    /**
+     * Extension of the snapshot files.
+     */
+    public static final String EXTENSION = ".kcs";
+
+    /**
+     * Current format version.
+     */
+    public static final short VERSION = 1;
+
+    private static final int MAGIC = 0x45464B43; // EFKC
+    private static final int RECORD_SIZE = 13;
+    private static final int CORRECT = 1;
+
+    private final ByteBuffer buffer;
+    private final int[] words;
+    private final short[] phonemes;
+    private final String[] representations;
+    private final int offsets;
+    private final int blob;
+    private final int records;
+    private final int size;
+    private final int refs;
+
+    private KnownCaseSnapshot(final ByteBuffer buffer, final File file) throws IOException {
+        this.buffer = buffer;
+        try {
+            ByteBuffer header = buffer.duplicate();
+            if (header.getInt() != MAGIC) {
+                throw new IOException("The file " + file + " is not a known cases snapshot.");
+            }
+            short version = header.getShort();
+            if (version != VERSION) {
+                throw new IOException("Unsupported snapshot version " + version + " in " + file);
+            }
+
+            words = new int[header.getInt()];
+            for (int i = 0; i < words.length; i++) {
+                String word = readString(header);
+                words[i] = WordCatalog.getDefault().indexOf(word);
+                if (words[i] < 0) {
+                    throw new IOException("The word [" + word + "] in " + file + " is not in our database.");
+                }
+            }
+
+            representations = new String[header.getInt()];
+            offsets = header.position();
+            blob = offsets + (representations.length + 1) * Integer.BYTES;
+            header.position(blob + buffer.getInt(blob - Integer.BYTES));
+
+            phonemes = new short[header.getInt()];
+            for (int i = 0; i < phonemes.length; i++) {
+                String symbol = readString(header);
+                int position = header.get();
+                phonemes[i] = (short) Phoneme.of(symbol, position == 0 ? null
+                        : Phoneme.POSITION.values()[position - 1]).getId();
+            }
+
+            size = header.getInt();
+            records = header.position();
+            header.position(records + size * RECORD_SIZE);
+            int count = header.getInt();
+            refs = header.position();
+            // checks that the file is complete, the cases are read only later
+            header.position(refs + count * Short.BYTES);
+        } catch (final BufferUnderflowException | IllegalArgumentException | IndexOutOfBoundsException
+                | NegativeArraySizeException ex) {
+            throw new IOException("The snapshot " + file + " is corrupted.", ex);
+        }
+    }
+
+    /**
+     * Opens the given snapshot. The file can be changed or removed after this call only if the snapshot is not used
+     * anymore.
+     *
+     * @param file Snapshot file.
+     * @return A list with the cases in the snapshot.
+     * @throws IOException If the file couldn't be read or is not a valid snapshot.
+     */
+    public static KnownCaseSnapshot open(final File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            // the mapping stays valid after the channel is closed
+            return new KnownCaseSnapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), file);
+        }
+    }
+
+    /**
+     * Writes the given cases into a snapshot.
+     *
+     * @param cases Cases to write.
+     * @param file File to write.
+     * @throws IOException If the file couldn't be written.
+     * @throws IllegalArgumentException If the word of some case is not in our database.
+     */
+    public static void write(final List<KnownCase> cases, final File file) throws IOException {
+        final Map<String, Integer> wordIndexes = new HashMap<>();
+        final List<String> wordTable = new ArrayList<>();
+        final Map<String, Integer> representationIndexes = new HashMap<>();
+        final ByteArrayOutputStream blob = new ByteArrayOutputStream();
+        final List<Integer> offsets = new ArrayList<>();
+        final Map<Phoneme, Integer> phonemeIndexes = new HashMap<>();
+        final List<Phoneme> phonemeTable = new ArrayList<>();
+        int refCount = 0;
+
+        for (KnownCase c : cases) {
+            if (WordCatalog.getDefault().indexOf(c.getWord()) < 0) {
+                throw new IllegalArgumentException("The word [" + c.getWord() + "] is not in our database.");
+            }
+            index(c.getWord(), wordIndexes, wordTable);
+            if (!representationIndexes.containsKey(c.getRepresentation())) {
+                representationIndexes.put(c.getRepresentation(), offsets.size());
+                offsets.add(blob.size());
+                byte[] bytes = c.getRepresentation().getBytes(StandardCharsets.UTF_8);
+                blob.write(bytes, 0, bytes.length);
+            }
+            for (Phoneme p : c.getPhonemes()) {
+                index(p, phonemeIndexes, phonemeTable);
+            }
+            refCount += c.getPhonemes().size();
+        }
+        offsets.add(blob.size());
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+
+            out.writeInt(wordTable.size());
+            for (String word : wordTable) {
+                writeString(out, word);
+            }
+
+            out.writeInt(offsets.size() - 1);
+            for (int offset : offsets) {
+                out.writeInt(offset);
+            }
+            blob.writeTo(out);
+
+            out.writeInt(phonemeTable.size());
+            for (Phoneme p : phonemeTable) {
+                writeString(out, p.getPhoneme());
+                out.writeByte(p.getPosition() == null ? 0 : p.getPosition().ordinal() + 1);
+            }
+
+            out.writeInt(cases.size());
+            int first = 0;
+            for (KnownCase c : cases) {
+                out.writeInt(representationIndexes.get(c.getRepresentation()));
+                out.writeInt(first);
+                out.writeShort(wordIndexes.get(c.getWord()));
+                out.writeShort(c.getPhonemes().size());
+                out.writeByte(c.isCorrect() ? CORRECT : 0);
+                first += c.getPhonemes().size();
+            }
+
+            out.writeInt(refCount);
+            for (KnownCase c : cases) {
+                for (Phoneme p : c.getPhonemes()) {
+                    out.writeShort(phonemeIndexes.get(p));
+                }
+            }
+        }
+    }
+
+    private static <T> void index(final T value, final Map<T, Integer> indexes, final List<T> table) {
+        if (!indexes.containsKey(value)) {
+            if (table.size() > 0xFFFF) {
+                throw new IllegalArgumentException("Too many distinct values in the snapshot: " + value);
+            }
+            indexes.put(value, table.size());
+            table.add(value);
+        }
+    }
+
+    private static void writeString(final DataOutputStream out, final String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(final ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private String getRepresentation(final int index) {
+        String representation = representations[index];
+        if (representation == null) {
+            int start = buffer.getInt(offsets + index * Integer.BYTES);
+            int end = buffer.getInt(offsets + (index + 1) * Integer.BYTES);
+            byte[] bytes = new byte[end - start];
+            ByteBuffer view = buffer.duplicate();
+            view.position(blob + start);
+            view.get(bytes);
+            // strings are immutable: two threads decoding the same representation store equal values
+            representation = new String(bytes, StandardCharsets.UTF_8);
+            representations[index] = representation;
+        }
+        return representation;
+    }
+
+    @Override
+    public KnownCase get(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        int record = records + index * RECORD_SIZE;
+        int representation = buffer.getInt(record);
+        int first = buffer.getInt(record + 4);
+        int word = buffer.getShort(record + 8) & 0xFFFF;
+        int count = buffer.getShort(record + 10) & 0xFFFF;
+        boolean correct = (buffer.get(record + 12) & CORRECT) != 0;
+
+        final short[] ids = new short[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = phonemes[buffer.getShort(refs + (first + i) * Short.BYTES) & 0xFFFF];
+        }
+        return new KnownCase(words[word], getRepresentation(representation), correct, ids);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+}
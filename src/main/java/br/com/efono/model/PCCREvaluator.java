@@ -0,0 +1,160 @@
+package br.com.efono.model;
+
+import br.com.efono.util.Defaults;
+import br.com.efono.util.WordCatalog;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * Computes the PCC-R (see {@link Assessment#getPCCR(List)}) of many assessments for many word sets. The number of
+ * tested and correct phonemes of each word is computed once for each assessment, so the PCC-R of a word set is only
+ * a sum over the words of the set, done with a loop without branches over contiguous arrays.
+ *
+ * The evaluator is a snapshot: later changes in the assessments or in the target phonemes are not seen.
+ *
+ * @author João Bolsson (joaovictorbolsson@gmail.com)
+ * @version 2026, Oct 18.
+ */
+public final class PCCREvaluator {
+
+    private final int words;
+    private final int size;
+
+    /**
+     * Tested phonemes at <code>[assessment * words + word]</code>.
+     */
+    private final int[] totals;
+
+    /**
+     * Correct productions at <code>[assessment * words + word]</code>.
+     */
+    private final int[] corrects;
+
+    /**
+     * Creates an evaluator with the target phonemes of {@link Defaults#getInstrument()}.
+     *
+     * @param assessments The assessments.
+     */
+    public PCCREvaluator(final List<Assessment> assessments) {
+        this(assessments, Defaults.getInstrument());
+    }
+
+    /**
+     * Creates an evaluator with the target phonemes of the given instrument.
+     *
+     * @param assessments The assessments.
+     * @param instrument The instrument.
+     */
+    public PCCREvaluator(final List<Assessment> assessments, final Instrument instrument) {
+        this(assessments, instrument.getTargets()::countCorrectProductions);
+    }
+
+    /**
+     * Creates an evaluator.
+     *
+     * @param assessments The assessments.
+     * @param targetPhonemes Target phonemes of each word.
+     */
+    public PCCREvaluator(final List<Assessment> assessments, final Map<String, List<Phoneme>> targetPhonemes) {
+        this(assessments, c -> countCorrectProductions(c, targetPhonemes));
+    }
+
+    /**
+     * Creates an evaluator.
+     *
+     * @param assessments The assessments.
+     * @param correctProductions Counts the correct productions of a case.
+     */
+    private PCCREvaluator(final List<Assessment> assessments, final ToIntFunction<KnownCase> correctProductions) {
+        words = Math.min(WordCatalog.getDefault().size(), WordMask.CAPACITY);
+        size = assessments.size();
+        totals = new int[size * words];
+        corrects = new int[size * words];
+
+        int base = 0;
+        for (Assessment a : assessments) {
+            final int offset = base;
+            a.forEachCase(c -> {
+                int word = c.getWordIndex();
+                if (word >= 0 && word < words) {
+                    totals[offset + word] += c.getPhonemeCount();
+                    corrects[offset + word] += correctProductions.applyAsInt(c);
+                }
+            });
+            base += words;
+        }
+    }
+
+    /**
+     * Counts the correct productions of the given case.
+     *
+     * @param c The case.
+     * @param targetPhonemes Target phonemes of each word.
+     * @return All the phonemes of a correct case, otherwise the target phonemes that were produced.
+     */
+    static int countCorrectProductions(final KnownCase c, final Map<String, List<Phoneme>> targetPhonemes) {
+        if (c.isCorrect()) {
+            return c.getPhonemeCount();
+        }
+        /**
+         * We can do targetPhonemes.get(c.getWord()) here because KnownCase doesn't allow words that is not in
+         * Defaults#SORTED_WORDS. Even if there is a difference in accentuation, for example, those cases will be
+         * treated and use the related word from Defaults#SORTED_WORDS.
+         */
+        return c.countCorrectProductions(targetPhonemes.get(c.getWord()));
+    }
+
+    /**
+     * @return The number of assessments.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the PCC-R of an assessment considering only the words in the given set.
+     *
+     * @param assessment Index of the assessment.
+     * @param mask The words to compute PCC-R.
+     * @return The PCC-R value between 0 and 1 or -1 if no phoneme was tested.
+     */
+    public double getPCCR(final int assessment, final WordMask mask) {
+        if (assessment < 0 || assessment >= size) {
+            throw new IndexOutOfBoundsException("Assessment: " + assessment + ", Size: " + size);
+        }
+        final int[] selector = new int[words];
+        mask.fill(selector);
+        return pccr(selector, assessment * words);
+    }
+
+    /**
+     * Gets the PCC-R of all the assessments for each one of the given word sets.
+     *
+     * @param masks The word sets.
+     * @return The PCC-R values at <code>[mask][assessment]</code>, -1 when no phoneme was tested.
+     */
+    public double[][] evaluate(final List<WordMask> masks) {
+        final double[][] result = new double[masks.size()][size];
+        final int[] selector = new int[words];
+        for (int n = 0; n < result.length; n++) {
+            masks.get(n).fill(selector);
+            final double[] row = result[n];
+            for (int m = 0; m < size; m++) {
+                row[m] = pccr(selector, m * words);
+            }
+        }
+        return result;
+    }
+
+    private double pccr(final int[] selector, final int base) {
+        int total = 0;
+        int correct = 0;
+        for (int w = 0; w < selector.length; w++) {
+            total += selector[w] * totals[base + w];
+            correct += selector[w] * corrects[base + w];
+        }
+        return total == 0 ? -1 : (double) correct / total;
+    }
+
+}
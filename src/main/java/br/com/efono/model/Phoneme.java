@@ -1,15 +1,23 @@
 package br.com.efono.model;
 
+import br.com.efono.util.SymbolTable;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
 /**
+ * An immutable consonant phoneme at a position of the word. Use {@link #of(String, POSITION)} to get the canonical
+ * instances, which have a dense id and are shared by all the cases.
  *
  * @author João Bolsson (joaovictorbolsson@gmail.com)
  * @version 2023, Jun 02.
  */
+@JsonIgnoreProperties(value = "consonantCluster", allowGetters = true)
 public class Phoneme {
 
     // TODO: deveria pegar essas constantes de algum pacote. Ver Phon.
@@ -34,7 +42,7 @@ public class Phoneme {
     /**
      * Phonemes with labialization: https://pt.wikipedia.org/wiki/Labializa%C3%A7%C3%A3o.
      *
-     * This array cannot contains more than 9 strings, because we use the index to treat transcriptions.
+     * If this array is changed, then {@link br.com.efono.util.Util#reloadTables()} must be called.
      */
     public static final String[] LABIALIZATION = new String[]{"kʷ", "gʷ", "dʷ"};
 
@@ -86,8 +94,28 @@ public class Phoneme {
 
     }
 
+    /**
+     * Canonical instances indexed by the symbol id (see {@link SymbolTable}) and the position ordinal + 1 (0 for no
+     * position).
+     */
+    private static volatile Phoneme[][] registry = new Phoneme[64][];
+    private static volatile Phoneme[] byId = new Phoneme[256];
+    private static int registered = 0;
+
     private final String phoneme;
-    private POSITION position;
+    private final POSITION position;
+    private final int hash;
+
+    /**
+     * The id of a canonical instance, -1 for instances created by the constructors.
+     */
+    private final int id;
+
+    /**
+     * Ids of the phonemes of a canonical instance split like in {@link #splitPhonemes()} if it's a consonant cluster,
+     * otherwise only its own id. It's built in the first use.
+     */
+    private volatile short[] splitIds;
 
     /**
      * Default constructor.
@@ -97,7 +125,7 @@ public class Phoneme {
     }
 
     /**
-     * Creates a phoneme representation.
+     * Creates a phoneme representation. Prefer {@link #of(String, POSITION)}, which doesn't create a new instance.
      *
      * @param phoneme Phoneme character.
      */
@@ -106,17 +134,124 @@ public class Phoneme {
     }
 
     /**
-     * Creates a phoneme representation.
+     * Creates a phoneme representation. Prefer {@link #of(String, POSITION)}, which doesn't create a new instance.
      *
      * @param phoneme Phoneme character.
      * @param position Phoneme position in the word.
      */
     public Phoneme(final String phoneme, final POSITION position) {
+        this(phoneme, position, -1);
+    }
+
+    private Phoneme(final String phoneme, final POSITION position, final int id) {
         if (phoneme == null) {
             throw new IllegalArgumentException("Phoneme cant be null.");
         }
         this.phoneme = phoneme;
         this.position = position;
+        this.id = id;
+        int h = 3;
+        h = 89 * h + phoneme.hashCode();
+        h = 89 * h + Objects.hashCode(position);
+        this.hash = h;
+    }
+
+    /**
+     * Gets the canonical instance of the given phoneme. The same instance is always returned for the same phoneme and
+     * position, so the canonical instances can be compared by identity.
+     *
+     * @param phoneme Phoneme character.
+     * @param position Phoneme position in the word.
+     * @return The canonical instance.
+     */
+    @JsonCreator
+    public static Phoneme of(@JsonProperty("phoneme") final String phoneme,
+            @JsonProperty("position") final POSITION position) {
+        if (phoneme == null) {
+            throw new IllegalArgumentException("Phoneme cant be null.");
+        }
+        return of(SymbolTable.idOf(phoneme), position);
+    }
+
+    /**
+     * Gets the canonical instance of the given phoneme. See {@link #of(String, POSITION)}.
+     *
+     * @param symbol The symbol id in {@link SymbolTable}.
+     * @param position Phoneme position in the word.
+     * @return The canonical instance.
+     */
+    public static Phoneme of(final int symbol, final POSITION position) {
+        int column = position == null ? 0 : position.ordinal() + 1;
+        Phoneme[][] table = registry;
+        if (symbol >= 0 && symbol < table.length) {
+            Phoneme[] row = table[symbol];
+            if (row != null && row[column] != null) {
+                return row[column];
+            }
+        }
+        return register(symbol, column, position);
+    }
+
+    private static synchronized Phoneme register(final int symbol, final int column, final POSITION position) {
+        String phoneme = SymbolTable.symbolOf(symbol);
+        Phoneme[][] table = registry;
+        if (symbol >= table.length) {
+            table = Arrays.copyOf(table, Math.max(symbol + 1, table.length * 2));
+        }
+        if (table[symbol] == null) {
+            table[symbol] = new Phoneme[POSITION.values().length + 1];
+        }
+        Phoneme canonical = table[symbol][column];
+        if (canonical == null) {
+            Phoneme[] ids = byId;
+            if (registered == ids.length) {
+                ids = Arrays.copyOf(ids, ids.length * 2);
+            }
+            canonical = new Phoneme(phoneme, position, registered);
+            ids[registered++] = canonical;
+            table[symbol][column] = canonical;
+            byId = ids;
+        }
+        registry = table;
+        return canonical;
+    }
+
+    /**
+     * Gets the canonical instance with the given id.
+     *
+     * @param id Phoneme id. See {@link #getId()}.
+     * @return The canonical instance.
+     * @throws IllegalArgumentException If there is no phoneme with the given id.
+     */
+    public static Phoneme byId(final int id) {
+        Phoneme[] ids = byId;
+        if (id >= 0 && id < ids.length && ids[id] != null) {
+            return ids[id];
+        }
+        synchronized (Phoneme.class) {
+            if (id < 0 || id >= registered) {
+                throw new IllegalArgumentException("There is no phoneme with id " + id);
+            }
+            return byId[id];
+        }
+    }
+
+    /**
+     * @return The number of canonical instances. All the phoneme ids are lower than this value.
+     */
+    public static synchronized int count() {
+        return registered;
+    }
+
+    /**
+     * Gets the id of this phoneme: a dense and stable <code>int</code> shared by all the phonemes with the same
+     * representation and position, which can be used as an array index.
+     *
+     * @return The phoneme id.
+     */
+    @JsonIgnore
+    public int getId() {
+        return id >= 0 ? id : of(phoneme, position).id;
     }
 
     /**
@@ -145,12 +280,54 @@ public class Phoneme {
     }
 
     /**
-     * Sets the phoneme position at the word.
+     * Gets this phoneme in another position. Phonemes are immutable.
      *
      * @param position Phoneme position.
+     * @return The canonical instance of this phoneme at the given position.
      */
-    public void setPosition(final POSITION position) {
-        this.position = position;
+    public Phoneme withPosition(final POSITION position) {
+        return of(phoneme, position);
+    }
+
+    /**
+     * Gets the number of phonemes counted by this phoneme: the phonemes of the consonant cluster (bɾ(OCME) -> b(OCME) +
+     * ɾ(OCME)), otherwise only this phoneme.
+     *
+     * @return The number of phonemes.
+     */
+    @JsonIgnore
+    public int getSplitCount() {
+        return splitIds().length;
+    }
+
+    /**
+     * Gets the id of a phoneme counted by this phoneme, without creating any instance. See {@link #getSplitCount()}.
+     *
+     * @param index Index of the phoneme, lower than {@link #getSplitCount()}.
+     * @return The phoneme id.
+     */
+    public int getSplitId(final int index) {
+        return splitIds()[index] & 0xFFFF;
+    }
+
+    private short[] splitIds() {
+        if (id < 0) {
+            return of(phoneme, position).splitIds();
+        }
+        short[] ids = splitIds;
+        if (ids == null) {
+            // two threads may build the array, but both are equal
+            if (isConsonantCluster()) {
+                ids = new short[phoneme.length()];
+                for (int j = 0; j < ids.length; j++) {
+                    ids[j] = (short) of(SymbolTable.idOf(phoneme.charAt(j)), position).getId();
+                }
+            } else {
+                ids = new short[]{(short) id};
+            }
+            splitIds = ids;
+        }
+        return ids;
     }
 
     /**
@@ -164,7 +341,7 @@ public class Phoneme {
         String[] split = phoneme.split("");
         for (String s : split) {
             // repeated phonemes are allowed here, because we wanna count
-            list.add(new Phoneme(s, position));
+            list.add(of(s, position));
         }
 
         return list;
@@ -172,9 +349,6 @@ public class Phoneme {
 
     @Override
     public int hashCode() {
-        int hash = 3;
-        hash = 89 * hash + Objects.hashCode(this.phoneme);
-        hash = 89 * hash + Objects.hashCode(this.position);
         return hash;
     }
 
@@ -191,8 +365,12 @@ public class Phoneme {
             return false;
         }
         final Phoneme other = (Phoneme) obj;
+        if (id >= 0 && other.id >= 0) {
+            // canonical instances
+            return false;
+        }
 
-        return Objects.equals(this.phoneme, other.phoneme) && Objects.equals(this.position, other.position);
+        return hash == other.hash && Objects.equals(this.phoneme, other.phoneme) && Objects.equals(this.position, other.position);
     }
 
     @Override
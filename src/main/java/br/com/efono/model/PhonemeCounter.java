@@ -0,0 +1,252 @@
+package br.com.efono.model;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Counts how many times each phoneme was produced or tested. The counts are kept in an <code>int</code> array indexed
+ * by {@link Phoneme#getId()}, so counting a phoneme doesn't allocate anything. Use {@link #asMap()} to read the counts
+ * as a map.
+ *
+ * @author João Bolsson (joaovictorbolsson@gmail.com)
+ * @version 2026, Oct 18.
+ */
+public final class PhonemeCounter {
+
+    private int[] counts;
+    private int size = 0;
+    private Map<Phoneme, Integer> view;
+
+    /**
+     * Creates an empty counter.
+     */
+    public PhonemeCounter() {
+        counts = new int[Math.max(64, Phoneme.count())];
+    }
+
+    /**
+     * Creates a counter with the counts in the given map.
+     *
+     * @param map Map with the counts. Counts lower than 1 are ignored.
+     */
+    public PhonemeCounter(final Map<Phoneme, Integer> map) {
+        this();
+        for (Map.Entry<Phoneme, Integer> entry : map.entrySet()) {
+            set(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Adds one to the count of the given phoneme.
+     *
+     * @param phoneme The phoneme.
+     * @return The new count of the phoneme.
+     */
+    public int increment(final Phoneme phoneme) {
+        return increment(phoneme.getId());
+    }
+
+    /**
+     * Adds one to the count of the phoneme with the given id.
+     *
+     * @param id The phoneme id. See {@link Phoneme#getId()}.
+     * @return The new count of the phoneme.
+     */
+    public int increment(final int id) {
+        ensureCapacity(id + 1);
+        if (counts[id] == 0) {
+            size++;
+        }
+        return ++counts[id];
+    }
+
+    /**
+     * Sets the count of the given phoneme.
+     *
+     * @param phoneme The phoneme.
+     * @param count The count. Values lower than 1 remove the phoneme from the counter.
+     */
+    public void set(final Phoneme phoneme, final int count) {
+        int id = phoneme.getId();
+        ensureCapacity(id + 1);
+        int value = Math.max(0, count);
+        if (counts[id] == 0 && value > 0) {
+            size++;
+        } else if (counts[id] > 0 && value == 0) {
+            size--;
+        }
+        counts[id] = value;
+    }
+
+    /**
+     * Gets the count of the given phoneme.
+     *
+     * @param phoneme The phoneme.
+     * @return How many times the phoneme was counted, 0 if it never was.
+     */
+    public int get(final Phoneme phoneme) {
+        if (phoneme == null) {
+            return 0;
+        }
+        int id = phoneme.getId();
+        return id < counts.length ? counts[id] : 0;
+    }
+
+    /**
+     * @return The number of phonemes counted at least once.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return True - no phoneme was counted, otherwise - false.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Sets all the counts to zero. The array is kept, so the counter can be reused.
+     */
+    public void clear() {
+        Arrays.fill(counts, 0);
+        size = 0;
+    }
+
+    /**
+     * Gets a read-only map view of this counter. The view reflects the later changes in the counter.
+     *
+     * @return A map with the phonemes counted at least once and their counts.
+     */
+    public Map<Phoneme, Integer> asMap() {
+        if (view == null) {
+            view = new MapView();
+        }
+        return view;
+    }
+
+    private void ensureCapacity(final int length) {
+        if (counts.length < length) {
+            counts = Arrays.copyOf(counts, Math.max(length, counts.length * 2));
+        }
+    }
+
+    private int nextId(final int from) {
+        for (int i = from; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                hash += 31 * i + counts[i];
+            }
+        }
+        return hash;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final PhonemeCounter other = (PhonemeCounter) obj;
+        if (size != other.size) {
+            return false;
+        }
+        int length = Math.max(counts.length, other.counts.length);
+        for (int i = 0; i < length; i++) {
+            int mine = i < counts.length ? counts[i] : 0;
+            int theirs = i < other.counts.length ? other.counts[i] : 0;
+            if (mine != theirs) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return asMap().toString();
+    }
+
+    /**
+     * Read-only map over the counts array.
+     */
+    private final class MapView extends AbstractMap<Phoneme, Integer> {
+
+        private Set<Map.Entry<Phoneme, Integer>> entries;
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return key instanceof Phoneme && get((Phoneme) key) > 0;
+        }
+
+        @Override
+        public Integer get(final Object key) {
+            if (key instanceof Phoneme) {
+                int count = PhonemeCounter.this.get((Phoneme) key);
+                return count > 0 ? count : null;
+            }
+            return null;
+        }
+
+        @Override
+        public Set<Map.Entry<Phoneme, Integer>> entrySet() {
+            if (entries == null) {
+                entries = new AbstractSet<Map.Entry<Phoneme, Integer>>() {
+                    @Override
+                    public Iterator<Map.Entry<Phoneme, Integer>> iterator() {
+                        return new Iterator<Map.Entry<Phoneme, Integer>>() {
+
+                            private int next = nextId(0);
+
+                            @Override
+                            public boolean hasNext() {
+                                return next >= 0;
+                            }
+
+                            @Override
+                            public Map.Entry<Phoneme, Integer> next() {
+                                if (next < 0) {
+                                    throw new NoSuchElementException();
+                                }
+                                Map.Entry<Phoneme, Integer> entry = new SimpleImmutableEntry<>(Phoneme.byId(next),
+                                        counts[next]);
+                                next = nextId(next + 1);
+                                return entry;
+                            }
+                        };
+                    }
+
+                    @Override
+                    public int size() {
+                        return size;
+                    }
+                };
+            }
+            return entries;
+        }
+    }
+
+}
@@ -0,0 +1,317 @@
+package br.com.efono.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * A set of phonemes backed by a bitmask indexed by {@link Phoneme#getId()}. Union, intersection, difference and size
+ * are computed with a few bit operations, since the whole consonant inventory fits in a few <code>long</code> words.
+ * The iteration order is the order of the phoneme ids: use {@link #filter(Collection)} to keep the order of a list.
+ *
+ * @author João Bolsson (joaovictorbolsson@gmail.com)
+ * @version 2026, Oct 18.
+ */
+public final class PhonemeSet implements Iterable<Phoneme> {
+
+    private long[] words;
+
+    /**
+     * Creates an empty set.
+     */
+    public PhonemeSet() {
+        words = new long[1];
+    }
+
+    /**
+     * Creates a set with the given phonemes.
+     *
+     * @param phonemes Phonemes to add. Null elements are ignored.
+     */
+    public PhonemeSet(final Collection<Phoneme> phonemes) {
+        this();
+        addAll(phonemes);
+    }
+
+    /**
+     * Creates a copy of the given set.
+     *
+     * @param source Source set.
+     */
+    public PhonemeSet(final PhonemeSet source) {
+        words = source.words.clone();
+    }
+
+    /**
+     * Adds a phoneme in the set.
+     *
+     * @param phoneme Phoneme to add. Null is ignored.
+     * @return True - the phoneme was not in the set, otherwise - false.
+     */
+    public boolean add(final Phoneme phoneme) {
+        if (phoneme == null) {
+            return false;
+        }
+        int id = phoneme.getId();
+        ensureCapacity((id >>> 6) + 1);
+        long mask = 1L << id;
+        boolean absent = (words[id >>> 6] & mask) == 0;
+        words[id >>> 6] |= mask;
+        return absent;
+    }
+
+    /**
+     * Adds all the given phonemes in the set.
+     *
+     * @param phonemes Phonemes to add. Null elements are ignored.
+     * @return True - at least one phoneme was not in the set, otherwise - false.
+     */
+    public boolean addAll(final Collection<Phoneme> phonemes) {
+        boolean changed = false;
+        if (phonemes != null) {
+            for (Phoneme p : phonemes) {
+                changed |= add(p);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Removes a phoneme from the set.
+     *
+     * @param phoneme Phoneme to remove.
+     * @return True - the phoneme was in the set, otherwise - false.
+     */
+    public boolean remove(final Phoneme phoneme) {
+        if (!contains(phoneme)) {
+            return false;
+        }
+        int id = phoneme.getId();
+        words[id >>> 6] &= ~(1L << id);
+        return true;
+    }
+
+    /**
+     * Checks if the phoneme is in the set.
+     *
+     * @param phoneme The phoneme.
+     * @return True - the phoneme is in the set, otherwise - false.
+     */
+    public boolean contains(final Phoneme phoneme) {
+        if (phoneme == null) {
+            return false;
+        }
+        return contains(phoneme.getId());
+    }
+
+    /**
+     * Checks if the phoneme with the given id is in the set.
+     *
+     * @param id The phoneme id. See {@link Phoneme#getId()}.
+     * @return True - the phoneme is in the set, otherwise - false.
+     */
+    public boolean contains(final int id) {
+        int index = id >>> 6;
+        return index < words.length && (words[index] & (1L << id)) != 0;
+    }
+
+    /**
+     * Checks if all the phonemes in the given set are in this set.
+     *
+     * @param other Other set.
+     * @return True - the other set is a subset of this one, otherwise - false.
+     */
+    public boolean containsAll(final PhonemeSet other) {
+        for (int i = 0; i < other.words.length; i++) {
+            long mine = i < words.length ? words[i] : 0L;
+            if ((other.words[i] & ~mine) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Creates the union of this set with the other one.
+     *
+     * @param other Other set.
+     * @return A new set with the phonemes in any of the sets.
+     */
+    public PhonemeSet union(final PhonemeSet other) {
+        PhonemeSet result = new PhonemeSet(this);
+        result.ensureCapacity(other.words.length);
+        for (int i = 0; i < other.words.length; i++) {
+            result.words[i] |= other.words[i];
+        }
+        return result;
+    }
+
+    /**
+     * Creates the intersection of this set with the other one.
+     *
+     * @param other Other set.
+     * @return A new set with the phonemes in both sets.
+     */
+    public PhonemeSet intersection(final PhonemeSet other) {
+        PhonemeSet result = new PhonemeSet(this);
+        for (int i = 0; i < result.words.length; i++) {
+            result.words[i] &= i < other.words.length ? other.words[i] : 0L;
+        }
+        return result;
+    }
+
+    /**
+     * Creates the difference between this set and the other one.
+     *
+     * @param other Other set.
+     * @return A new set with the phonemes in this set that are not in the other one.
+     */
+    public PhonemeSet difference(final PhonemeSet other) {
+        PhonemeSet result = new PhonemeSet(this);
+        for (int i = 0; i < result.words.length && i < other.words.length; i++) {
+            result.words[i] &= ~other.words[i];
+        }
+        return result;
+    }
+
+    /**
+     * @return The number of phonemes in the set.
+     */
+    public int size() {
+        int size = 0;
+        for (long word : words) {
+            size += Long.bitCount(word);
+        }
+        return size;
+    }
+
+    /**
+     * @return True - there is no phoneme in the set, otherwise - false.
+     */
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes all the phonemes from the set.
+     */
+    public void clear() {
+        Arrays.fill(words, 0L);
+    }
+
+    /**
+     * Gets the phonemes of the given collection that are in this set, keeping the collection order and without
+     * repeated phonemes.
+     *
+     * @param phonemes Phonemes to filter.
+     * @return A new list with the phonemes in this set.
+     */
+    public List<Phoneme> filter(final Collection<Phoneme> phonemes) {
+        final List<Phoneme> list = new ArrayList<>();
+        if (phonemes != null) {
+            PhonemeSet added = new PhonemeSet();
+            for (Phoneme p : phonemes) {
+                if (contains(p) && added.add(p)) {
+                    list.add(p);
+                }
+            }
+        }
+        return list;
+    }
+
+    private void ensureCapacity(final int length) {
+        if (words.length < length) {
+            words = Arrays.copyOf(words, Math.max(length, words.length * 2));
+        }
+    }
+
+    @Override
+    public Iterator<Phoneme> iterator() {
+        return new Iterator<Phoneme>() {
+
+            private int next = nextId(0);
+
+            @Override
+            public boolean hasNext() {
+                return next >= 0;
+            }
+
+            @Override
+            public Phoneme next() {
+                if (next < 0) {
+                    throw new NoSuchElementException();
+                }
+                Phoneme phoneme = Phoneme.byId(next);
+                next = nextId(next + 1);
+                return phoneme;
+            }
+        };
+    }
+
+    private int nextId(final int from) {
+        int index = from >>> 6;
+        if (index >= words.length) {
+            return -1;
+        }
+        long word = words[index] & (-1L << from);
+        while (true) {
+            if (word != 0) {
+                return index * 64 + Long.numberOfTrailingZeros(word);
+            }
+            if (++index == words.length) {
+                return -1;
+            }
+            word = words[index];
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        long h = 1234;
+        for (int i = words.length; --i >= 0;) {
+            h ^= words[i] * (i + 1);
+        }
+        return (int) ((h >> 32) ^ h);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final PhonemeSet other = (PhonemeSet) obj;
+        int length = Math.max(words.length, other.words.length);
+        for (int i = 0; i < length; i++) {
+            long mine = i < words.length ? words[i] : 0L;
+            long theirs = i < other.words.length ? other.words[i] : 0L;
+            if (mine != theirs) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        for (Phoneme p : this) {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(p);
+        }
+        return builder.append("]").toString();
+    }
+
+}
@@ -3,7 +3,6 @@ package br.com.efono.model;
 import br.com.efono.util.Defaults;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -17,7 +16,7 @@ import java.util.Objects;
  */
 public class SimulationInfo {
 
-    private final Map<Phoneme, Integer> mapCounter;
+    private final PhonemeCounter counter;
     private final List<String> wordsRequired;
     private final Assessment assessment;
     private final KnownCaseComparator comp;
@@ -36,7 +35,7 @@ public class SimulationInfo {
     /**
      * Default constructor.
      *
-     * @param mapCounter The map counter.
+     * @param mapCounter The map counter. It's copied into a {@link PhonemeCounter}.
      * @param wordsRequired The words required.
      * @param assessment The assessment source.
      * @param comp Comparator used in the simulation.
@@ -44,7 +43,22 @@ public class SimulationInfo {
      */
     public SimulationInfo(final Map<Phoneme, Integer> mapCounter, final List<String> wordsRequired,
             final Assessment assessment, final KnownCaseComparator comp, boolean splitConsonantClusters) {
-        this.mapCounter = Objects.requireNonNull(mapCounter);
+        this(new PhonemeCounter(Objects.requireNonNull(mapCounter)), wordsRequired, assessment, comp,
+                splitConsonantClusters);
+    }
+
+    /**
+     * Default constructor.
+     *
+     * @param counter The phonemes counter. It's kept as it is, without copying.
+     * @param wordsRequired The words required.
+     * @param assessment The assessment source.
+     * @param comp Comparator used in the simulation.
+     * @param splitConsonantClusters True - the consonant clusters were separated in two phonemes counting.
+     */
+    public SimulationInfo(final PhonemeCounter counter, final List<String> wordsRequired,
+            final Assessment assessment, final KnownCaseComparator comp, boolean splitConsonantClusters) {
+        this.counter = Objects.requireNonNull(counter);
         this.wordsRequired = Objects.requireNonNull(wordsRequired);
         this.comp = comp;
         this.assessment = assessment;
@@ -59,14 +73,21 @@ public class SimulationInfo {
      * @param splitConsonantClusters True - the consonant clusters were separated in two phonemes counting.
      */
     public SimulationInfo(final Assessment assessment, final KnownCaseComparator comp, boolean splitConsonantClusters) {
-        this(new HashMap<>(), new ArrayList<>(), assessment, comp, splitConsonantClusters);
+        this(new PhonemeCounter(), new ArrayList<>(), assessment, comp, splitConsonantClusters);
     }
 
     /**
-     * @return The map with phonemes count.
+     * @return A read-only map with phonemes count.
      */
     public Map<Phoneme, Integer> getMapCounter() {
-        return mapCounter;
+        return counter.asMap();
+    }
+
+    /**
+     * @return The phonemes counter.
+     */
+    public PhonemeCounter getCounter() {
+        return counter;
     }
 
     /**
@@ -88,7 +109,7 @@ public class SimulationInfo {
         int hash = 7;
         int mapHashCode = 1;
 
-        Iterator<Map.Entry<Phoneme, Integer>> it = mapCounter.entrySet().iterator();
+        Iterator<Map.Entry<Phoneme, Integer>> it = counter.asMap().entrySet().iterator();
         while (it.hasNext()) {
             Map.Entry<Phoneme, Integer> next = it.next();
             mapHashCode *= 12 + (next.getKey().hashCode() + next.getValue().hashCode());
@@ -119,25 +140,12 @@ public class SimulationInfo {
         }
         final SimulationInfo other = (SimulationInfo) obj;
 
-        if (mapCounter.size() != other.mapCounter.size() || !Objects.equals(comp, other.comp)
+        if (!counter.equals(other.counter) || !Objects.equals(comp, other.comp)
                 || !Objects.equals(assessment, other.assessment)
                 || splitConsonantClusters != other.splitConsonantClusters) {
             return false;
         }
 
-        Iterator<Map.Entry<Phoneme, Integer>> it = mapCounter.entrySet().iterator();
-        while (it.hasNext()) {
-            Map.Entry<Phoneme, Integer> next = it.next();
-
-            if (other.mapCounter.containsKey(next.getKey())) {
-                if (!Objects.equals(other.mapCounter.get(next.getKey()), next.getValue())) {
-                    return false;
-                }
-            } else {
-                return false;
-            }
-        }
-
         if (wordsRequired.size() != other.wordsRequired.size()) {
             return false;
         }
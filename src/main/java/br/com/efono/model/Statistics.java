@@ -1,6 +1,7 @@
 package br.com.efono.model;
 
 import br.com.efono.tree.BinaryTree;
+import br.com.efono.tree.ImplicitTree;
 import br.com.efono.tree.TreeUtils;
 import br.com.efono.util.Defaults;
 import java.text.DecimalFormat;
@@ -14,6 +15,8 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 /**
  * @author João Bolsson (joaovictorbolsson@gmail.com)
@@ -38,12 +41,32 @@ public class Statistics {
     private final KnownCaseComparator comp;
 
     /**
-     * Creates a statistics object for the given comparator.
+     * The instrument of the simulations.
+     */
+    private final Instrument instrument;
+
+    /**
+     * Creates a statistics object for the given comparator and the simulations with {@link Defaults#getInstrument()}.
      *
      * @param comp Comparator to do statistics.
      */
     public Statistics(final KnownCaseComparator comp) {
+        this(comp, Defaults.getInstrument());
+    }
+
+    /**
+     * Creates a statistics object for the given comparator and the simulations with the given instrument.
+     *
+     * @param comp Comparator to do statistics.
+     * @param instrument The instrument used in the simulations.
+     */
+    public Statistics(final KnownCaseComparator comp, final Instrument instrument) {
         this.comp = comp;
+        this.instrument = Objects.requireNonNull(instrument);
+    }
+
+    private PCCREvaluator newEvaluator() {
+        return new PCCREvaluator(assessments, instrument);
     }
 
     /**
@@ -156,9 +179,10 @@ public class Statistics {
         }
 
         final StringBuilder str = new StringBuilder("wordsFrequency,PCCR,degree,PCC-R 84w,degree 84w,equals degree\n");
-        assessments.forEach(a -> {
-            double pccrAll = a.getPCCR(Arrays.asList(Defaults.SORTED_WORDS));
-            double pccrSelectedWords = a.getPCCR(words);
+        final double[][] pccr = newEvaluator().evaluate(Arrays.asList(instrument.getWordMask(), WordMask.of(words)));
+        for (int i = 0; i < assessments.size(); i++) {
+            double pccrAll = pccr[0][i];
+            double pccrSelectedWords = pccr[1][i];
 
             String degreeAll = getDegree(pccrAll);
             String degreeSelectedWords = getDegree(pccrSelectedWords);
@@ -171,7 +195,7 @@ public class Statistics {
                     append(degreeAll).append(",").
                     append(degreeSelectedWords.equals(degreeAll) ? "TRUE" : "FALSE").
                     append("\n");
-        });
+        }
 
         return str.toString();
     }
@@ -241,9 +265,10 @@ public class Statistics {
         List<String> lines = new LinkedList<>();
         lines.add("wordsFrequency,PCCR,degree,PCC-R 84w,degree 84w,equals degree");
 
-        assessments.forEach(a -> {
-            double pccrAll = a.getPCCR(Arrays.asList(Defaults.SORTED_WORDS));
-            double pccrSelectedWords = a.getPCCR(words);
+        final double[][] pccr = newEvaluator().evaluate(Arrays.asList(instrument.getWordMask(), WordMask.of(words)));
+        for (int i = 0; i < assessments.size(); i++) {
+            double pccrAll = pccr[0][i];
+            double pccrSelectedWords = pccr[1][i];
 
             String degreeAll = getDegree(pccrAll);
             String degreeSelectedWords = getDegree(pccrSelectedWords);
@@ -258,7 +283,7 @@ public class Statistics {
                     append(degreeSelectedWords.equals(degreeAll) ? "TRUE" : "FALSE");
 
             lines.add(str.toString());
-        });
+        }
 
         return lines;
     }
@@ -309,6 +334,36 @@ public class Statistics {
         return str.toString();
     }
 
+    /**
+     * Gets the first words of each assessment with {@link TreeUtils}. The walks don't change the tree, so they run in
+     * parallel.
+     *
+     * @param tree The balanced tree with words in the assessment instrument.
+     * @return The first words of each assessment, in the same order of the assessments.
+     */
+    private List<LinkedList<String>> getFirstWords(final BinaryTree<String> tree) {
+        final ImplicitTree<String> implicit = tree.getImplicitTree();
+        return assessments.parallelStream().map(a -> {
+            final LinkedList<String> words = new LinkedList<>();
+            if (implicit != null) {
+                TreeUtils.getFirstWords(implicit, words, a.getCaseList());
+            } else {
+                TreeUtils.getFirstWords(tree.getRoot(), words, a.getCaseList());
+            }
+            return words;
+        }).collect(Collectors.toList());
+    }
+
+    /**
+     * Exporting PCC-R results about regions of PCC-R to CSV, with the tree of the instrument of this statistics. See
+     * {@link #exportPCCR_CSV(BinaryTree)}.
+     *
+     * @return A CSV with the results.
+     */
+    public String exportPCCR_CSV() {
+        return exportPCCR_CSV(instrument.getTree());
+    }
+
     /**
      * Exporting PCC-R results about regions of PCC-R to CSV. First, we calculate the PCC-R following the traditional
      * method: computing all correct productions from an assessment and dividing for all the productions. In the second
@@ -336,11 +391,12 @@ public class Statistics {
             "Folha", "Cama"};
 
         StringBuilder str = new StringBuilder("region,PCC-R 84w,degree 84w,PCC-R 55w,degree 55w,custom words,PCC-R custom,expected custom,degree custom,words-in-blocks,PCC-R blocks,degree blocks,blocks vs 84w\n");
-        assessments.forEach(a -> {
-            final LinkedList<String> words = new LinkedList<>();
-            tree.resetVisited(tree.getRoot());
-
-            TreeUtils.getFirstWords(tree.getRoot(), words, a.getCases());
+        final PCCREvaluator evaluator = newEvaluator();
+        final Map<String, List<String>> similarWords = instrument.getSimilarWords();
+        final double[][] fixedPCCR = evaluator.evaluate(Arrays.asList(instrument.getWordMask(), WordMask.of(words55)));
+        final List<LinkedList<String>> firstWords = getFirstWords(tree);
+        for (int i = 0; i < assessments.size(); i++) {
+            final LinkedList<String> words = firstWords.get(i);
 
             String expectedDegree = "NOT_FOUND";
             Iterator<Map.Entry<String, String[]>> it = mapRegionsPCCR.entrySet().iterator();
@@ -355,13 +411,13 @@ public class Statistics {
             final LinkedList<String> blocksOfWords = new LinkedList<>();
             words.forEach(w -> {
                 blocksOfWords.add(w);
-                blocksOfWords.addAll(Defaults.SIMILAR_WORDS.get(w));
+                blocksOfWords.addAll(similarWords.get(w));
             });
 
-            double pccrAll = a.getPCCR(Arrays.asList(Defaults.SORTED_WORDS));
-            double pccrBlocksOfWords = a.getPCCR(blocksOfWords);
-            double pccrFirstWords = a.getPCCR(words);
-            double pccr55Words = a.getPCCR(Arrays.asList(words55));
+            double pccrAll = fixedPCCR[0][i];
+            double pccrBlocksOfWords = evaluator.getPCCR(i, WordMask.of(blocksOfWords));
+            double pccrFirstWords = evaluator.getPCCR(i, WordMask.of(words));
+            double pccr55Words = fixedPCCR[1][i];
 
             String degreeAll = getDegree(pccrAll);
             String degree55w = getDegree(pccr55Words);
@@ -383,7 +439,7 @@ public class Statistics {
                     append(degreeBlocks).append(",").
                     append(degreeBlocks.equals(degreeAll) ? "TRUE" : "FALSE").
                     append("\n");
-        });
+        }
         return str.toString();
     }
 
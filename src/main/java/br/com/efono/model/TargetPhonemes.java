@@ -0,0 +1,340 @@
+package br.com.efono.model;
+
+import br.com.efono.util.SymbolTable;
+import br.com.efono.util.WordCatalog;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable snapshot of the target phonemes and similar words of each word, indexed by the word index in the
+ * default {@link WordCatalog}. The phonemes are kept as arrays of phoneme ids (see {@link Phoneme#getId()}), also with
+ * the consonant clusters already split (bɾ(OCME) -> b(OCME) + ɾ(OCME)), so the simulations don't split them again for
+ * every case. An inverted index keeps the words with each phoneme as a {@link WordMask}, so finding the words that
+ * test some phonemes doesn't walk all the words.
+ *
+ * All the fields are final and never changed after the constructor, so a snapshot can be read by many threads at the
+ * same time once it's published, like in a final field of an {@link Instrument}.
+ *
+ * @author João Bolsson (joaovictorbolsson@gmail.com)
+ * @version 2026, Oct 18.
+ */
+public final class TargetPhonemes {
+
+    private static final short[] NONE = new short[0];
+
+    /**
+     * Target phoneme ids of each word, or null if the word has no target phonemes.
+     */
+    private final short[][] phonemes;
+
+    /**
+     * Same as {@link #phonemes}, with the consonant clusters split.
+     */
+    private final short[][] split;
+
+    /**
+     * Consonant clusters in the target phonemes of each word.
+     */
+    private final List<List<Phoneme>> clusters;
+
+    /**
+     * Indexes of the similar words of each word.
+     */
+    private final short[][] similar;
+
+    /**
+     * All the consonant clusters in the target words, in the order they are found, without repetitions.
+     */
+    private final List<Phoneme> allClusters;
+
+    /**
+     * Inverted index: the words with each phoneme id in their target phonemes, without and with the consonant clusters
+     * split.
+     */
+    private final WordMask[] wordsWith;
+    private final WordMask[] wordsWithSplit;
+
+    /**
+     * Creates a snapshot of the given maps. The words that are not in our database are ignored.
+     *
+     * @param targetPhonemes The key is the word and the value is the target phonemes for this word.
+     * @param similarWords The key is the word and the value is the most difficult words that have the same phonemes in
+     * the key. It can be null.
+     */
+    public TargetPhonemes(final Map<String, List<Phoneme>> targetPhonemes,
+            final Map<String, List<String>> similarWords) {
+        final int size = WordCatalog.getDefault().size();
+        phonemes = new short[size][];
+        split = new short[size][];
+        similar = new short[size][];
+        final List<List<Phoneme>> clusterLists = new ArrayList<>(Collections.nCopies(size,
+                Collections.<Phoneme>emptyList()));
+        final PhonemeSet clusterSet = new PhonemeSet();
+        final List<Phoneme> clusterList = new ArrayList<>();
+        // words with the same target phonemes share the arrays
+        final Map<List<Short>, short[]> interned = new HashMap<>();
+
+        for (Map.Entry<String, List<Phoneme>> entry : targetPhonemes.entrySet()) {
+            int word = WordCatalog.getDefault().indexOf(entry.getKey());
+            if (word < 0 || entry.getValue() == null) {
+                continue;
+            }
+            final List<Short> ids = new ArrayList<>();
+            final List<Short> splitIds = new ArrayList<>();
+            final List<Phoneme> wordClusters = new ArrayList<>();
+            for (Phoneme p : entry.getValue()) {
+                if (p == null) {
+                    continue;
+                }
+                int id = p.getId();
+                ids.add((short) id);
+                if (p.isConsonantCluster()) {
+                    wordClusters.add(Phoneme.byId(id));
+                    if (clusterSet.add(p)) {
+                        clusterList.add(Phoneme.byId(id));
+                    }
+                    String cluster = p.getPhoneme();
+                    for (int j = 0; j < cluster.length(); j++) {
+                        splitIds.add((short) Phoneme.of(SymbolTable.idOf(cluster.charAt(j)), p.getPosition()).getId());
+                    }
+                } else {
+                    splitIds.add((short) id);
+                }
+            }
+            phonemes[word] = intern(ids, interned);
+            split[word] = intern(splitIds, interned);
+            clusterLists.set(word, Collections.unmodifiableList(wordClusters));
+        }
+        clusters = Collections.unmodifiableList(clusterLists);
+        allClusters = Collections.unmodifiableList(clusterList);
+        wordsWith = index(phonemes);
+        wordsWithSplit = index(split);
+
+        if (similarWords != null) {
+            for (Map.Entry<String, List<String>> entry : similarWords.entrySet()) {
+                int word = WordCatalog.getDefault().indexOf(entry.getKey());
+                if (word < 0 || entry.getValue() == null) {
+                    continue;
+                }
+                final List<Short> words = new ArrayList<>();
+                for (String w : entry.getValue()) {
+                    int index = WordCatalog.getDefault().indexOf(w);
+                    if (index >= 0) {
+                        words.add((short) index);
+                    }
+                }
+                similar[word] = intern(words, interned);
+            }
+        }
+    }
+
+    private static short[] intern(final List<Short> values, final Map<List<Short>, short[]> interned) {
+        if (values.isEmpty()) {
+            return NONE;
+        }
+        short[] array = interned.get(values);
+        if (array == null) {
+            array = new short[values.size()];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = values.get(i);
+            }
+            interned.put(values, array);
+        }
+        return array;
+    }
+
+    /**
+     * Builds the inverted index of the given phonemes of each word.
+     */
+    private static WordMask[] index(final short[][] table) {
+        int length = 0;
+        for (short[] ids : table) {
+            if (ids != null) {
+                for (short id : ids) {
+                    length = Math.max(length, (id & 0xFFFF) + 1);
+                }
+            }
+        }
+        final WordMask.Builder[] builders = new WordMask.Builder[length];
+        for (int id = 0; id < length; id++) {
+            builders[id] = new WordMask.Builder();
+        }
+        for (int word = 0; word < table.length; word++) {
+            if (table[word] != null) {
+                for (short id : table[word]) {
+                    builders[id & 0xFFFF].add(word);
+                }
+            }
+        }
+        final WordMask[] index = new WordMask[length];
+        for (int id = 0; id < length; id++) {
+            index[id] = builders[id].build();
+        }
+        return index;
+    }
+
+    private static short[] get(final short[][] table, final int word) {
+        return word < 0 || word >= table.length ? null : table[word];
+    }
+
+    /**
+     * @param word Index of the word in the default catalog.
+     * @return True - the word has target phonemes (even if none), otherwise - false.
+     */
+    public boolean contains(final int word) {
+        return get(phonemes, word) != null;
+    }
+
+    /**
+     * Gets the number of target phonemes of a word.
+     *
+     * @param word Index of the word in the default catalog.
+     * @param splitConsonantClusters True - the consonant clusters are counted as two phonemes.
+     * @return The number of target phonemes, 0 if the word has no target phonemes.
+     */
+    public int size(final int word, final boolean splitConsonantClusters) {
+        short[] ids = get(splitConsonantClusters ? split : phonemes, word);
+        return ids == null ? 0 : ids.length;
+    }
+
+    /**
+     * Gets the id of a target phoneme of a word.
+     *
+     * @param word Index of the word in the default catalog.
+     * @param splitConsonantClusters True - the consonant clusters are split in two phonemes.
+     * @param index Index of the phoneme, lower than {@link #size(int, boolean)}.
+     * @return The phoneme id. See {@link Phoneme#byId(int)}.
+     */
+    public int get(final int word, final boolean splitConsonantClusters, final int index) {
+        return (splitConsonantClusters ? split : phonemes)[word][index] & 0xFFFF;
+    }
+
+    /**
+     * Gets the target phonemes of a word.
+     *
+     * @param word Index of the word in the default catalog.
+     * @return A read-only list with the target phonemes or null if the word has no target phonemes.
+     */
+    public List<Phoneme> getPhonemes(final int word) {
+        final short[] ids = get(phonemes, word);
+        if (ids == null) {
+            return null;
+        }
+        return new AbstractList<Phoneme>() {
+            @Override
+            public Phoneme get(final int index) {
+                return Phoneme.byId(ids[index] & 0xFFFF);
+            }
+
+            @Override
+            public int size() {
+                return ids.length;
+            }
+        };
+    }
+
+    /**
+     * Gets the words that have the given phoneme in their target phonemes, without searching them.
+     *
+     * @param id The phoneme id. See {@link Phoneme#getId()}.
+     * @param splitConsonantClusters True - the phonemes of the consonant clusters are considered: b(OCME) is in the
+     * words with bɾ(OCME).
+     * @return The set of words.
+     */
+    public WordMask getWordsWith(final int id, final boolean splitConsonantClusters) {
+        final WordMask[] index = splitConsonantClusters ? wordsWithSplit : wordsWith;
+        return id >= 0 && id < index.length ? index[id] : WordMask.EMPTY;
+    }
+
+    /**
+     * Gets the words that have at least one of the given phonemes in their target phonemes. See
+     * {@link #getWordsWith(int, boolean)}.
+     *
+     * @param phonemes The phonemes or null.
+     * @param splitConsonantClusters True - the phonemes of the consonant clusters are considered.
+     * @return The set of words.
+     */
+    public WordMask getWordsWith(final Collection<Phoneme> phonemes, final boolean splitConsonantClusters) {
+        WordMask words = WordMask.EMPTY;
+        if (phonemes == null) {
+            return words;
+        }
+        for (Phoneme p : phonemes) {
+            words = words.union(getWordsWith(p.getId(), splitConsonantClusters));
+        }
+        return words;
+    }
+
+    /**
+     * @param word Index of the word in the default catalog.
+     * @return A read-only list with the consonant clusters in the target phonemes of the word.
+     */
+    public List<Phoneme> getClusters(final int word) {
+        return word < 0 || word >= clusters.size() ? Collections.emptyList() : clusters.get(word);
+    }
+
+    /**
+     * @return A read-only list with all the consonant clusters in the target words, without repetitions.
+     */
+    public List<Phoneme> getAllClusters() {
+        return allClusters;
+    }
+
+    /**
+     * @param word Index of the word in the default catalog.
+     * @return The number of similar words of the word.
+     */
+    public int getSimilarCount(final int word) {
+        short[] words = get(similar, word);
+        return words == null ? 0 : words.length;
+    }
+
+    /**
+     * @param word Index of the word in the default catalog.
+     * @param index Index of the similar word, lower than {@link #getSimilarCount(int)}.
+     * @return Index of the similar word in the default catalog.
+     */
+    public int getSimilarWord(final int word, final int index) {
+        return similar[word][index];
+    }
+
+    /**
+     * Counts the correct productions of the given case: all its phonemes if it's correct, otherwise the target
+     * phonemes of its word that were produced. See {@link Assessment#getPCCR(java.util.List)}.
+     *
+     * @param c The case.
+     * @return The number of correct productions.
+     */
+    public int countCorrectProductions(final KnownCase c) {
+        if (c.isCorrect()) {
+            return c.getPhonemeCount();
+        }
+        short[] ids = get(phonemes, c.getWordIndex());
+        int count = 0;
+        if (ids != null) {
+            for (short id : ids) {
+                if (c.containsPhoneme(id & 0xFFFF)) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public String toString() {
+        int words = 0;
+        for (short[] ids : phonemes) {
+            if (ids != null) {
+                words++;
+            }
+        }
+        return getClass().getSimpleName() + " with [" + words + "] words and clusters " + allClusters;
+    }
+
+}
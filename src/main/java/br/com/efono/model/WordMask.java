@@ -0,0 +1,250 @@
+package br.com.efono.model;
+
+import br.com.efono.util.WordCatalog;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.StringJoiner;
+
+/**
+ * An immutable set of words of the default {@link WordCatalog}, stored as a 128-bit mask indexed by the catalog index.
+ * Checking if a word is in the set is a single bit test, so it's used to select the words in PCC-R computations.
+ *
+ * @author João Bolsson (joaovictorbolsson@gmail.com)
+ * @version 2026, Oct 18.
+ */
+public final class WordMask {
+
+    /**
+     * Maximum number of words in the catalog.
+     */
+    public static final int CAPACITY = 128;
+
+    /**
+     * The empty set.
+     */
+    public static final WordMask EMPTY = new WordMask(0L, 0L);
+
+    private final long low;
+    private final long high;
+
+    private WordMask(final long low, final long high) {
+        this.low = low;
+        this.high = high;
+    }
+
+    /**
+     * Creates a set with the given words. The words that are not in the catalog are ignored, since no case can have
+     * them.
+     *
+     * @param words The words. Accents and case are ignored.
+     * @return The set.
+     */
+    public static WordMask of(final Collection<String> words) {
+        if (words == null) {
+            return EMPTY;
+        }
+        final Builder builder = new Builder();
+        for (String word : words) {
+            builder.add(WordCatalog.getDefault().indexOf(word));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Creates a set with the given words. See {@link #of(Collection)}.
+     *
+     * @param words The words.
+     * @return The set.
+     */
+    public static WordMask of(final String... words) {
+        return of(Arrays.asList(words));
+    }
+
+    /**
+     * @return A set with all the words in the catalog.
+     */
+    public static WordMask all() {
+        return of(WordCatalog.getDefault().getWords());
+    }
+
+    /**
+     * Checks if the word with the given catalog index is in the set.
+     *
+     * @param index Index of the word in the catalog.
+     * @return True - the word is in the set, otherwise - false.
+     */
+    public boolean contains(final int index) {
+        if (index < 0 || index >= CAPACITY) {
+            return false;
+        }
+        return ((index < 64 ? low : high) & (1L << index)) != 0;
+    }
+
+    /**
+     * Checks if the given word is in the set.
+     *
+     * @param word The word. Accents and case are ignored.
+     * @return True - the word is in the set, otherwise - false.
+     */
+    public boolean contains(final String word) {
+        return word != null && contains(WordCatalog.getDefault().indexOf(word));
+    }
+
+    /**
+     * Creates the union of this set with the other one.
+     *
+     * @param other Other set.
+     * @return A set with the words in any of the sets.
+     */
+    public WordMask union(final WordMask other) {
+        return new WordMask(low | other.low, high | other.high);
+    }
+
+    /**
+     * Finds the next word in the set, to walk the set in the order of the catalog:
+     * <code>for (int i = mask.next(0); i >= 0; i = mask.next(i + 1))</code>.
+     *
+     * @param from Index in the catalog to start the search.
+     * @return The index of the first word in the set at <code>from</code> or after it, or -1 if there is none.
+     */
+    public int next(final int from) {
+        if (from < 0) {
+            return next(0);
+        }
+        if (from < 64) {
+            long bits = low & (-1L << from);
+            if (bits != 0) {
+                return Long.numberOfTrailingZeros(bits);
+            }
+        }
+        if (from < CAPACITY) {
+            long bits = high & (-1L << Math.max(from - 64, 0));
+            if (bits != 0) {
+                return 64 + Long.numberOfTrailingZeros(bits);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return The number of words in the set.
+     */
+    public int size() {
+        return Long.bitCount(low) + Long.bitCount(high);
+    }
+
+    /**
+     * @return True - there is no word in the set, otherwise - false.
+     */
+    public boolean isEmpty() {
+        return low == 0L && high == 0L;
+    }
+
+    /**
+     * Gets the bits of the set like {@link java.util.BitSet#toLongArray()}, for the code that keeps the sets of many
+     * phonemes in arrays.
+     *
+     * @return A new array with the bits of the words 0 to 63 and 64 to 127.
+     */
+    public long[] toLongArray() {
+        return new long[]{low, high};
+    }
+
+    /**
+     * Writes 1 at the index of each word in the set and 0 at the others.
+     *
+     * @param selector Array to write, usually with the size of the catalog.
+     */
+    void fill(final int[] selector) {
+        for (int i = 0; i < selector.length; i++) {
+            selector[i] = contains(i) ? 1 : 0;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(low) * 31 + Long.hashCode(high);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final WordMask other = (WordMask) obj;
+        return low == other.low && high == other.high;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (int i = 0; i < WordCatalog.getDefault().size() && i < CAPACITY; i++) {
+            if (contains(i)) {
+                joiner.add(WordCatalog.getDefault().getWord(i));
+            }
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * A mutable set of words to build a {@link WordMask} word by word, without creating a set for each word.
+     */
+    public static final class Builder {
+
+        private long low;
+        private long high;
+
+        /**
+         * Adds the word with the given catalog index to the set.
+         *
+         * @param index Index of the word in the catalog. Negative indexes are ignored, like the words that are not in
+         * the catalog in {@link WordMask#of(Collection)}.
+         * @return True - the word was added, false - it was already in the set or the index is negative.
+         * @throws IllegalStateException If the index is out of the {@link #CAPACITY}.
+         */
+        public boolean add(final int index) {
+            if (index >= CAPACITY) {
+                throw new IllegalStateException("The catalog has more than " + CAPACITY + " words.");
+            } else if (index < 0) {
+                return false;
+            }
+            final long bit = 1L << index;
+            if (index < 64) {
+                if ((low & bit) != 0) {
+                    return false;
+                }
+                low |= bit;
+            } else {
+                if ((high & bit) != 0) {
+                    return false;
+                }
+                high |= bit;
+            }
+            return true;
+        }
+
+        /**
+         * Adds all the words of the given set.
+         *
+         * @param other The set.
+         * @return This builder.
+         */
+        public Builder addAll(final WordMask other) {
+            low |= other.low;
+            high |= other.high;
+            return this;
+        }
+
+        /**
+         * @return A set with the words added so far. The builder can still be used.
+         */
+        public WordMask build() {
+            return low == 0L && high == 0L ? EMPTY : new WordMask(low, high);
+        }
+
+    }
+
+}
@@ -18,6 +18,16 @@ public class BinaryTree<E> {
     private Node<E> root;
     private final Comparator<E> comparator;
 
+    /**
+     * The array-backed view of the tree built by {@link #init(Object[])} or null if the tree was changed later.
+     */
+    private ImplicitTree<E> implicit;
+
+    /**
+     * Nodes of each slot of the {@link #implicit} tree.
+     */
+    private Node<E>[] nodes;
+
     /**
      * Creates a binary tree.
      *
@@ -37,56 +47,51 @@ public class BinaryTree<E> {
     /**
      * Init this tree with an array of values. This will created a balanced tree: the value in the middle of the array
      * will be the root node. Values in left of this one will be at its left as well; the same is true for values in the
-     * right side.
+     * right side. The values must be sorted according with the comparator of this tree.
+     *
+     * The tree is built in linear time by an {@link ImplicitTree}, which is kept to find nodes and parents without
+     * walking in the tree, until the tree is changed by {@link #add(Object)} or {@link #clear()}.
      *
      * @param values Values to add.
      */
+    @SuppressWarnings("unchecked")
     public void init(final E[] values) {
         System.out.println("Init binary tree with values: " + Arrays.toString(values));
 
         if (values != null) {
+            implicit = new ImplicitTree<>(values);
             this.values.clear();
-            int min = 0;
-            int max = values.length - 1;
-
-            float m = (min + max) / 2f;
-            int middle = (int) Math.floor(m);
-
-            add(min, middle, max, values);
+            this.values.addAll(implicit.getValues());
 
             System.out.println("Values in insertion order: " + this.values);
             System.out.println("Ok, now init the tree");
-            root = null;
-            for (E val : this.values) {
-                add(val);
+            nodes = new Node[implicit.getSlotCount()];
+            // the parent of a slot is always in a lower slot, so it's already created
+            for (int slot = 0; slot < nodes.length; slot++) {
+                if (implicit.contains(slot)) {
+                    nodes[slot] = new Node<>(implicit.getValue(slot));
+                    int parent = ImplicitTree.parent(slot);
+                    if (parent >= 0) {
+                        if (slot == ImplicitTree.left(parent)) {
+                            nodes[parent].setLeft(nodes[slot]);
+                        } else {
+                            nodes[parent].setRight(nodes[slot]);
+                        }
+                    }
+                }
             }
+            root = nodes.length > 0 ? nodes[ImplicitTree.ROOT] : null;
         }
         System.out.println("Tree initialized!");
     }
 
-    public void resetVisited(final Node node) {
-        if (node != null) {
-            node.setVisited(false);
-            resetVisited(node.getLeft());
-            resetVisited(node.getRight());
-        }
-    }
-
-    private void add(int min, int middle, int max, final E[] values) {
-        E val = values[middle];
-        if (this.values.contains(val)) {
-            // the value is already in the tree
-            return;
-        }
-        this.values.add(val);
-
-        // adiciona na esquerda
-        int current = (int) Math.floor((min + middle) / 2f);
-        add(min, current, middle, values);
-
-        // adiciona na direta
-        current = (int) Math.ceil((middle + max) / 2f);
-        add(middle, current, max, values);
+    /**
+     * Gets the array-backed view of this tree, with constant-time navigation between parent and children.
+     *
+     * @return The tree built by the last {@link #init(Object[])} or null if the tree was changed after it.
+     */
+    public ImplicitTree<E> getImplicitTree() {
+        return implicit;
     }
 
     /**
@@ -105,6 +110,8 @@ public class BinaryTree<E> {
      */
     public void clear() {
         root = null;
+        implicit = null;
+        nodes = null;
     }
 
     /**
@@ -120,6 +127,8 @@ public class BinaryTree<E> {
      * @param value Element to add.
      */
     public void add(final E value) {
+        implicit = null;
+        nodes = null;
         root = addRecursive(root, value);
     }
 
@@ -130,6 +139,10 @@ public class BinaryTree<E> {
      * @return The node itself or null if not found.
      */
     public Node<E> getNode(final E value) {
+        if (implicit != null) {
+            int slot = implicit.slotOf(value);
+            return slot < 0 ? null : nodes[slot];
+        }
         return containsNodeRecursive(root, value);
     }
 
@@ -140,6 +153,10 @@ public class BinaryTree<E> {
      * @return The parent node.
      */
     public Node<E> findParent(final E searchData) {
+        if (implicit != null) {
+            int parent = implicit.getParent(implicit.slotOf(searchData));
+            return parent < 0 ? null : nodes[parent];
+        }
         return findParent(root, searchData);
     }
 
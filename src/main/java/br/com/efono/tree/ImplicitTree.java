@@ -0,0 +1,256 @@
+package br.com.efono.tree;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A balanced binary tree stored in arrays, like a heap: the root is in the slot 0 and the children of the slot
+ * <code>i</code> are in the slots <code>2i + 1</code> (left) and <code>2i + 2</code> (right). The tree has the same
+ * shape of {@link BinaryTree#init(Object[])}, but it's built in linear time from the sorted values and the parent and
+ * children of a node are found with index arithmetic, without calling any comparator.
+ *
+ * The slots of the nodes that are not in the tree are empty (see {@link #contains(int)}). The tree is immutable, so it
+ * can be read by many threads.
+ *
+ * @author João Bolsson (joaovictorbolsson@gmail.com)
+ * @version 2026, Oct 18.
+ * @param <E> Content type of the tree.
+ */
+public final class ImplicitTree<E> {
+
+    /**
+     * Slot of the root node.
+     */
+    public static final int ROOT = 0;
+
+    /**
+     * Value of each slot or null for empty slots.
+     */
+    private final Object[] values;
+
+    /**
+     * Index in the sorted array of the value of each slot or -1 for empty slots.
+     */
+    private final int[] ranks;
+
+    /**
+     * Slot of each value of the sorted array or -1 if it's not in the tree (repeated values).
+     */
+    private final int[] slots;
+
+    private final Map<E, Integer> index;
+    private final List<E> insertionOrder;
+
+    /**
+     * Creates a tree with the given values. The value in the middle of the array is the root node, values in its left
+     * are at its left and values in its right are at its right, recursively. Like in {@link BinaryTree#init(Object[])},
+     * a repeated value is not added again and its subtree is skipped, so the values should be unique.
+     *
+     * @param sortedValues Values sorted from the lowest (left) to the highest (right).
+     */
+    public ImplicitTree(final E[] sortedValues) {
+        final Builder<E> builder = new Builder<>(sortedValues);
+        if (sortedValues.length > 0) {
+            builder.add(0, (sortedValues.length - 1) >>> 1, sortedValues.length - 1, ROOT);
+        }
+        this.values = Arrays.copyOf(builder.values, builder.count);
+        this.ranks = Arrays.copyOf(builder.ranks, builder.count);
+        this.slots = builder.slots;
+        this.index = builder.index;
+        this.insertionOrder = Collections.unmodifiableList(builder.insertionOrder);
+    }
+
+    /**
+     * Keeps the growing arrays while the tree is built.
+     */
+    private static class Builder<E> {
+
+        private final E[] sorted;
+        private final int[] slots;
+        private final Map<E, Integer> index = new HashMap<>();
+        private final List<E> insertionOrder = new ArrayList<>();
+        private Object[] values = new Object[16];
+        private int[] ranks = new int[16];
+        private int count = 0;
+
+        Builder(final E[] sorted) {
+            this.sorted = sorted;
+            this.slots = new int[sorted.length];
+            Arrays.fill(slots, -1);
+            Arrays.fill(ranks, -1);
+        }
+
+        /**
+         * Same recursion of {@link BinaryTree#init(Object[])}: the value in the middle is added, then the middle of
+         * the left side becomes its left child and the middle of the right side becomes its right child.
+         */
+        void add(final int min, final int middle, final int max, final int slot) {
+            final E val = Objects.requireNonNull(sorted[middle], "The tree doesn't accept null values.");
+            if (index.containsKey(val)) {
+                // the value is already in the tree
+                return;
+            }
+            if (slot < 0 || slot >= Integer.MAX_VALUE - 8) {
+                throw new IllegalStateException("The tree is too deep to be stored in an array.");
+            }
+            if (slot >= values.length) {
+                int length = Math.max(slot + 1, values.length * 2);
+                values = Arrays.copyOf(values, length);
+                int old = ranks.length;
+                ranks = Arrays.copyOf(ranks, length);
+                Arrays.fill(ranks, old, length, -1);
+            }
+            values[slot] = val;
+            ranks[slot] = middle;
+            slots[middle] = slot;
+            count = Math.max(count, slot + 1);
+            index.put(val, slot);
+            insertionOrder.add(val);
+
+            add(min, (min + middle) >>> 1, middle, left(slot));
+            add(middle, (middle + max + 1) >>> 1, max, right(slot));
+        }
+    }
+
+    /**
+     * @param slot A slot.
+     * @return The slot of the left child, which may be empty.
+     */
+    public static int left(final int slot) {
+        return 2 * slot + 1;
+    }
+
+    /**
+     * @param slot A slot.
+     * @return The slot of the right child, which may be empty.
+     */
+    public static int right(final int slot) {
+        return 2 * slot + 2;
+    }
+
+    /**
+     * @param slot A slot.
+     * @return The slot of the parent or -1 for the root.
+     */
+    public static int parent(final int slot) {
+        return slot <= ROOT ? -1 : (slot - 1) >>> 1;
+    }
+
+    /**
+     * @return The number of values in the tree.
+     */
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * @return The number of slots, including the empty ones. All the slots are lower than this value.
+     */
+    public int getSlotCount() {
+        return values.length;
+    }
+
+    /**
+     * @return The slot of the root or -1 if the tree is empty.
+     */
+    public int getRoot() {
+        return contains(ROOT) ? ROOT : -1;
+    }
+
+    /**
+     * @param slot A slot.
+     * @return True - there is a node in the slot, otherwise - false.
+     */
+    public boolean contains(final int slot) {
+        return slot >= 0 && slot < values.length && values[slot] != null;
+    }
+
+    /**
+     * @param slot A slot.
+     * @return The slot of the left child or -1 if there is no left child.
+     */
+    public int getLeft(final int slot) {
+        return contains(slot) && contains(left(slot)) ? left(slot) : -1;
+    }
+
+    /**
+     * @param slot A slot.
+     * @return The slot of the right child or -1 if there is no right child.
+     */
+    public int getRight(final int slot) {
+        return contains(slot) && contains(right(slot)) ? right(slot) : -1;
+    }
+
+    /**
+     * @param slot A slot.
+     * @return The slot of the parent or -1 if the slot is the root or is empty.
+     */
+    public int getParent(final int slot) {
+        return contains(slot) ? parent(slot) : -1;
+    }
+
+    /**
+     * @param slot A slot.
+     * @return True - the node in the slot has no children, otherwise - false.
+     */
+    public boolean isLeaf(final int slot) {
+        return contains(slot) && !contains(left(slot)) && !contains(right(slot));
+    }
+
+    /**
+     * @param slot A slot.
+     * @return The value in the slot or null if the slot is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public E getValue(final int slot) {
+        return contains(slot) ? (E) values[slot] : null;
+    }
+
+    /**
+     * Gets the index of the value of a slot in the sorted array given to the constructor. It can be used to compare
+     * two nodes without a comparator.
+     *
+     * @param slot A slot.
+     * @return The index in the sorted array or -1 if the slot is empty.
+     */
+    public int getRank(final int slot) {
+        return contains(slot) ? ranks[slot] : -1;
+    }
+
+    /**
+     * @param rank Index of a value in the sorted array given to the constructor.
+     * @return The slot of the value or -1 if it is not in the tree.
+     */
+    public int slotOfRank(final int rank) {
+        return rank < 0 || rank >= slots.length ? -1 : slots[rank];
+    }
+
+    /**
+     * Finds the slot of a value, without walking in the tree.
+     *
+     * @param value Value to find.
+     * @return The slot of the value or -1 if it is not in the tree.
+     */
+    public int slotOf(final E value) {
+        Integer slot = index.get(value);
+        return slot == null ? -1 : slot;
+    }
+
+    /**
+     * @return A read-only list with the values in insertion order, like {@link BinaryTree#getValues()}.
+     */
+    public List<E> getValues() {
+        return insertionOrder;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " with [" + size() + "] values in [" + values.length + "] slots";
+    }
+
+}
@@ -15,8 +15,6 @@ public class Node<E> {
     private Node<E> left;
     private Node<E> right;
 
-    private boolean visited = false;
-
     /**
      * Creates a node with the given value.
      *
@@ -28,22 +26,6 @@ public class Node<E> {
         left = null;
     }
 
-    /**
-     * Sets a flag that indicates that this node was already visited.
-     *
-     * @param visited True - the node was visited, otherwise - false.
-     */
-    public void setVisited(boolean visited) {
-        this.visited = visited;
-    }
-
-    /**
-     * @return True - the node was visited, otherwise - false.
-     */
-    public boolean isVisited() {
-        return visited;
-    }
-
     /**
      * @return The node value.
      */
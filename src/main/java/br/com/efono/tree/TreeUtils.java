@@ -2,8 +2,12 @@ package br.com.efono.tree;
 
 import br.com.efono.model.KnownCase;
 import br.com.efono.util.Util;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 
 /**
  *
@@ -58,18 +62,23 @@ public class TreeUtils {
     }
 
     /**
-     * Gets the best first words sequence from the given cases.
+     * Gets the best first words sequence from the given cases. The visited nodes are kept only during this call, so the
+     * tree is not changed and doesn't need to be reset before the next call.
      *
      * @param node The root node of the tree of words in the complete set.
      * @param words The list to keep the words sequence.
      * @param cases The list with cases to analyze. This usually comes from assessments.
      */
-    public static void getFirstWords(final Node<String> node, final LinkedList<String> words, 
+    public static void getFirstWords(final Node<String> node, final LinkedList<String> words,
             final List<KnownCase> cases) {
-        if (node == null || node.isVisited()) {
+        getFirstWords(node, Collections.newSetFromMap(new IdentityHashMap<>()), words, cases);
+    }
+
+    private static void getFirstWords(final Node<String> node, final Set<Node<String>> visited,
+            final LinkedList<String> words, final List<KnownCase> cases) {
+        if (node == null || !visited.add(node)) {
             return;
         }
-        node.setVisited(true);
         String val = node.getValue();
 
         /**
@@ -82,16 +91,60 @@ public class TreeUtils {
         }
 
         if (c == null || c.isCorrect()) {
-            getFirstWords(node.getRight(), words, cases);
+            getFirstWords(node.getRight(), visited, words, cases);
             // makes sure that it goes until the last leaf
             if (node.getRight() == null) {
-                getFirstWords(node.getLeft(), words, cases);
+                getFirstWords(node.getLeft(), visited, words, cases);
             }
         } else {
-            getFirstWords(node.getLeft(), words, cases);
+            getFirstWords(node.getLeft(), visited, words, cases);
             // makes sure that it goes until the last leaf
             if (node.getLeft() == null) {
-                getFirstWords(node.getRight(), words, cases);
+                getFirstWords(node.getRight(), visited, words, cases);
+            }
+        }
+    }
+
+    /**
+     * Gets the best first words sequence from the given cases, like {@link #getFirstWords(Node, LinkedList, List)}, in
+     * an {@link ImplicitTree}. The visited slots are kept in a bitset of this call, so many walks can run in the same
+     * tree at the same time.
+     *
+     * @param tree The tree of words in the complete set.
+     * @param words The list to keep the words sequence.
+     * @param cases The list with cases to analyze. This usually comes from assessments.
+     */
+    public static void getFirstWords(final ImplicitTree<String> tree, final LinkedList<String> words,
+            final List<KnownCase> cases) {
+        getFirstWords(tree, tree.getRoot(), new BitSet(tree.getSlotCount()), words, cases);
+    }
+
+    private static void getFirstWords(final ImplicitTree<String> tree, final int slot, final BitSet visited,
+            final LinkedList<String> words, final List<KnownCase> cases) {
+        if (slot < 0 || visited.get(slot)) {
+            return;
+        }
+        visited.set(slot);
+        String val = tree.getValue(slot);
+
+        KnownCase c = Util.getCaseFromWord(cases, val);
+        if (c != null) {
+            words.add(val);
+        }
+
+        final int left = tree.getLeft(slot);
+        final int right = tree.getRight(slot);
+        if (c == null || c.isCorrect()) {
+            getFirstWords(tree, right, visited, words, cases);
+            // makes sure that it goes until the last leaf
+            if (right < 0) {
+                getFirstWords(tree, left, visited, words, cases);
+            }
+        } else {
+            getFirstWords(tree, left, visited, words, cases);
+            // makes sure that it goes until the last leaf
+            if (left < 0) {
+                getFirstWords(tree, right, visited, words, cases);
             }
         }
     }
@@ -0,0 +1,184 @@
+package br.com.efono.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * The result of processing a batch of inputs in parallel. The results are kept in the same order of the inputs, and
+ * the inputs that failed are collected with their exceptions instead of stopping the whole batch.
+ *
+ * @author João Bolsson (joaovictorbolsson@gmail.com)
+ * @version 2026, Oct 18.
+ * @param <I> Input type.
+ * @param <O> Output type.
+ */
+public final class BatchResult<I, O> {
+
+    private final List<I> inputs;
+    private final Object[] results;
+    private final RuntimeException[] exceptions;
+    private final List<Failure<I>> failures;
+
+    private BatchResult(final List<I> inputs, final Object[] results, final RuntimeException[] exceptions) {
+        this.inputs = inputs;
+        this.results = results;
+        this.exceptions = exceptions;
+
+        final List<Failure<I>> list = new ArrayList<>();
+        for (int i = 0; i < exceptions.length; i++) {
+            if (exceptions[i] != null) {
+                list.add(new Failure<>(i, inputs.get(i), exceptions[i]));
+            }
+        }
+        this.failures = Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Applies the given function to all the inputs on the common fork-join pool.
+     *
+     * @param <I> Input type.
+     * @param <O> Output type.
+     * @param inputs Inputs to process.
+     * @param function Function to apply in each input. Must be thread safe.
+     * @return The results in the same order of the inputs.
+     */
+    public static <I, O> BatchResult<I, O> process(final List<I> inputs, final Function<? super I, ? extends O> function) {
+        Objects.requireNonNull(function);
+        final List<I> list;
+        if (inputs == null) {
+            list = Collections.emptyList();
+        } else if (inputs instanceof RandomAccess) {
+            list = inputs;
+        } else {
+            list = new ArrayList<>(inputs);
+        }
+        final Object[] results = new Object[list.size()];
+        final RuntimeException[] exceptions = new RuntimeException[list.size()];
+
+        // each index is written by only one task, and the stream finishes before the arrays are read
+        IntStream.range(0, list.size()).parallel().forEach(i -> {
+            try {
+                results[i] = function.apply(list.get(i));
+            } catch (final RuntimeException e) {
+                exceptions[i] = e;
+            }
+        });
+        return new BatchResult<>(list, results, exceptions);
+    }
+
+    /**
+     * @return The number of processed inputs.
+     */
+    public int size() {
+        return results.length;
+    }
+
+    /**
+     * Gets the input at the given index.
+     *
+     * @param index Index of the input.
+     * @return The input.
+     */
+    public I getInput(final int index) {
+        return inputs.get(index);
+    }
+
+    /**
+     * Gets the result of the input at the given index.
+     *
+     * @param index Index of the input.
+     * @return The result or null if the input failed.
+     */
+    @SuppressWarnings("unchecked")
+    public O get(final int index) {
+        return (O) results[index];
+    }
+
+    /**
+     * Checks if the input at the given index failed.
+     *
+     * @param index Index of the input.
+     * @return True - the input failed, otherwise - false.
+     */
+    public boolean isFailed(final int index) {
+        return exceptions[index] != null;
+    }
+
+    /**
+     * @return The results of the inputs that didn't fail, in the same order of the inputs.
+     */
+    @SuppressWarnings("unchecked")
+    public List<O> getResults() {
+        final List<O> list = new ArrayList<>(results.length - failures.size());
+        for (int i = 0; i < results.length; i++) {
+            if (exceptions[i] == null) {
+                list.add((O) results[i]);
+            }
+        }
+        return list;
+    }
+
+    /**
+     * @return The inputs that failed, in the same order of the inputs.
+     */
+    public List<Failure<I>> getFailures() {
+        return failures;
+    }
+
+    /**
+     * @return True - if at least one input failed, otherwise - false.
+     */
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+
+    /**
+     * An input that failed.
+     *
+     * @param <I> Input type.
+     */
+    public static final class Failure<I> {
+
+        private final int index;
+        private final I input;
+        private final RuntimeException exception;
+
+        private Failure(final int index, final I input, final RuntimeException exception) {
+            this.index = index;
+            this.input = input;
+            this.exception = exception;
+        }
+
+        /**
+         * @return The index of the input in the batch.
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * @return The input that failed.
+         */
+        public I getInput() {
+            return input;
+        }
+
+        /**
+         * @return The exception thrown while processing the input.
+         */
+        public RuntimeException getException() {
+            return exception;
+        }
+
+        @Override
+        public String toString() {
+            return "Failure{" + "index=" + index + ", input=" + input + ", exception=" + exception + '}';
+        }
+    }
+
+}
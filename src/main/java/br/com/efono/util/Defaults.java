@@ -1,8 +1,8 @@
 package br.com.efono.util;
 
+import br.com.efono.model.Instrument;
 import br.com.efono.model.Phoneme;
 import br.com.efono.tree.BinaryTree;
-import java.text.Normalizer;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -58,15 +58,48 @@ public class Defaults {
 
     /**
      * The key is the word and the value is the target phonemes for this word. This should be initialized with data from
-     * our base.
+     * our base. After changing it, call {@link #reloadInstrument()}.
      */
     public static final Map<String, List<Phoneme>> TARGET_PHONEMES = new HashMap<>();
 
     /**
-     * The key is the word and the value is the most difficult words that have the same phonemes in the key.
+     * The key is the word and the value is the most difficult words that have the same phonemes in the key. After
+     * changing it, call {@link #reloadInstrument()}.
      */
     public static final Map<String, List<String>> SIMILAR_WORDS = new HashMap<>();
 
+    private static volatile Instrument instrument;
+
+    /**
+     * Gets the default instrument: {@link #SORTED_WORDS} with {@link #TARGET_PHONEMES} and {@link #SIMILAR_WORDS}. It's
+     * built once, with the values at the first call, and used by all the methods that don't receive an instrument.
+     *
+     * @return The default instrument.
+     */
+    public static Instrument getInstrument() {
+        Instrument current = instrument;
+        if (current == null) {
+            synchronized (Defaults.class) {
+                current = instrument;
+                if (current == null) {
+                    current = Instrument.fromDefaults();
+                    instrument = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Discards the default instrument, so the next call to {@link #getInstrument()} builds it again with the current
+     * values. This must be called after changing {@link #TARGET_PHONEMES} or {@link #SIMILAR_WORDS}.
+     */
+    public static void reloadInstrument() {
+        synchronized (Defaults.class) {
+            instrument = null;
+        }
+    }
+
     /**
      * Sorts the given array with words like: <code>easy, hard, easy, hard words...</code>
      *
@@ -101,42 +134,37 @@ public class Defaults {
 
     /**
      * Finds the index of the given word in the array {@link Defaults#SORTED_WORDS}. If <code>(word == null)</code> then
-     * <code>-1</code> will be returned even if there is a null element in the array.
+     * <code>-1</code> will be returned even if there is a null element in the array. See {@link WordCatalog}.
      *
      * @param word Word to find the index.
      * @return The index of the given word or -1 if not found.
      */
     public static int findIndexOf(final String word) {
-        return findIndexOf(word, SORTED_WORDS);
+        return WordCatalog.getDefault().indexOf(word);
     }
 
     /**
      * Finds the index of the given word in the given array. If <code>(word == null)</code> then <code>-1</code> will be
-     * returned even if there is a null element in the array.
+     * returned even if there is a null element in the array. Prefer a {@link WordCatalog} to find many words in the
+     * same array.
      *
      * @param word Word to find the index.
      * @param words The source array.
      * @return The index of the given word or -1 if not found.
      */
     public static int findIndexOf(final String word, final String[] words) {
+        if (words == SORTED_WORDS) {
+            return findIndexOf(word);
+        }
         if (word != null && words != null) {
+            String key = WordCatalog.fold(word);
             for (int i = 0; i < words.length; i++) {
-                String w = removeAccents(words[i]);
-
-                if (w != null && w.equalsIgnoreCase(removeAccents(word))) {
+                if (key.equals(WordCatalog.fold(words[i]))) {
                     return i;
                 }
             }
         }
-        System.out.println("The word " + word + " is not in our database. Someone is looking for it.");
         return -1;
     }
 
-    private static String removeAccents(final String input) {
-        if (input != null) {
-            return Normalizer.normalize(input, Normalizer.Form.NFKD).replaceAll("\\p{M}", "");
-        }
-        return null;
-    }
-
 }
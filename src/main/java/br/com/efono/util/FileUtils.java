@@ -1,12 +1,16 @@
 package br.com.efono.util;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileReader;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  *
@@ -19,28 +23,116 @@ public class FileUtils {
      * Reads the given CSV file with the known cases.
      *
      * @param file File to read.
-     * @param separator Column separator.
+     * @param separator Column separator. A single char separator is read by {@link #splitCSV(String, char)}, so quoted
+     * fields are supported, otherwise it's used as a regular expression.
      * @return A list with all lines read. The array indexes represent each column.
      */
     public static List<String[]> readCSV(final File file, final String separator) {
         final List<String[]> list = new ArrayList<>();
         if (file != null && separator != null) {
-            try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    if (!line.trim().isEmpty()) {
-                        String[] row = line.split(separator);
-                        list.add(row);
-                    }
-                }
-            } catch (final FileNotFoundException ex) {
+            try (Stream<String> lines = lines(file)) {
+                list.addAll(lines.parallel().filter(line -> !line.trim().isEmpty())
+                        .map(line -> separator.length() == 1 ? splitCSV(line, separator.charAt(0))
+                        : line.split(separator))
+                        .collect(Collectors.toList()));
+            } catch (final NoSuchFileException ex) {
                 // TODO: substituir por sistema de logs
                 System.out.println("File " + file + " not found: " + ex);
-            } catch (final IOException ex) {
+            } catch (final IOException | UncheckedIOException ex) {
                 System.out.println("Couldn't read file " + file + ": " + ex);
             }
         }
         return list;
     }
 
+    /**
+     * Reads the lines of the given file as UTF-8. The file is memory-mapped by windows, so it is read in constant
+     * memory, and the stream can be made parallel: it is split at line boundaries. The lines end at \n, \r or \r\n,
+     * like in {@link java.io.BufferedReader#readLine()}. The stream must be closed after use.
+     *
+     * @param file File to read.
+     * @return A stream with the lines, without the line terminators.
+     * @throws IOException If the file couldn't be opened.
+     */
+    public static Stream<String> lines(final File file) throws IOException {
+        return lines(file, LineSpliterator.WINDOW_SIZE);
+    }
+
+    /**
+     * Reads the lines of the given file as UTF-8. See {@link #lines(File)}.
+     *
+     * @param file File to read.
+     * @param windowSize Size of the mapped windows.
+     * @return A stream with the lines, without the line terminators.
+     * @throws IOException If the file couldn't be opened.
+     */
+    static Stream<String> lines(final File file, final int windowSize) throws IOException {
+        final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        try {
+            return StreamSupport.stream(new LineSpliterator(channel, windowSize), false).onClose(() -> {
+                try {
+                    channel.close();
+                } catch (final IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (final IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Reads the given CSV file as a stream. See {@link #lines(File)} and {@link #splitCSV(String, char)}. Blank lines
+     * are ignored. Quoted fields can't contain line breaks.
+     *
+     * @param file File to read.
+     * @param separator Column separator.
+     * @return A stream with all lines read. The array indexes represent each column. The stream must be closed after
+     * use.
+     * @throws IOException If the file couldn't be opened.
+     */
+    public static Stream<String[]> streamCSV(final File file, final char separator) throws IOException {
+        return lines(file).filter(line -> !line.trim().isEmpty()).map(line -> splitCSV(line, separator));
+    }
+
+    /**
+     * Splits a CSV line in its columns. A field can be quoted (<code>"a,b"</code>), and a quote inside a quoted field
+     * is escaped by another quote (<code>"a""b"</code>). Unlike {@link String#split(String)}, the trailing empty
+     * fields are kept.
+     *
+     * @param line Line to split.
+     * @param separator Column separator.
+     * @return An array with the columns.
+     */
+    public static String[] splitCSV(final String line, final char separator) {
+        final List<String> fields = new ArrayList<>();
+        final StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == separator) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields.toArray(new String[fields.size()]);
+    }
+
 }
@@ -0,0 +1,160 @@
+package br.com.efono.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Reads the lines of a file through memory-mapped windows, decoding them as UTF-8. Only a window of the file is mapped
+ * at a time, so files of any size are read in constant memory. The spliterator is split at line boundaries, so the
+ * lines can be processed in parallel.
+ *
+ * A spliterator owns all the lines that start between its position and its end, even if the last one goes beyond the
+ * end. The lines end at \n, \r or \r\n, like in {@link java.io.BufferedReader#readLine()}.
+ *
+ * @author João Bolsson (joaovictorbolsson@gmail.com)
+ * @version 2026, Oct 18.
+ */
+final class LineSpliterator implements Spliterator<String> {
+
+    /**
+     * Size of the mapped windows.
+     */
+    static final int WINDOW_SIZE = 1 << 25;
+
+    /**
+     * Spliterators smaller than this are not split.
+     */
+    private static final int MIN_SPLIT_SIZE = 1 << 16;
+
+    private static final byte[] BOM = new byte[]{(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    private final FileChannel channel;
+    private final long size;
+    private final int windowSize;
+    private long position;
+    private long end;
+
+    private MappedByteBuffer window;
+    private long windowStart;
+    private byte[] line = new byte[128];
+
+    /**
+     * Creates a spliterator over all the lines in the given channel.
+     *
+     * @param channel An open channel.
+     * @param windowSize Size of the mapped windows.
+     * @throws IOException If the size of the channel couldn't be read.
+     */
+    LineSpliterator(final FileChannel channel, final int windowSize) throws IOException {
+        this(channel, channel.size(), windowSize, 0, channel.size());
+        if (startsWithBOM()) {
+            position = BOM.length;
+        }
+    }
+
+    private LineSpliterator(final FileChannel channel, final long size, final int windowSize, final long position,
+            final long end) {
+        this.channel = channel;
+        this.size = size;
+        this.windowSize = windowSize;
+        this.position = position;
+        this.end = end;
+    }
+
+    private boolean startsWithBOM() {
+        if (size < BOM.length) {
+            return false;
+        }
+        for (int i = 0; i < BOM.length; i++) {
+            if (byteAt(i) != BOM[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private byte byteAt(final long index) {
+        if (window == null || index < windowStart || index >= windowStart + window.limit()) {
+            try {
+                window = channel.map(FileChannel.MapMode.READ_ONLY, index, Math.min(windowSize, size - index));
+                windowStart = index;
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+        return window.get((int) (index - windowStart));
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super String> action) {
+        if (position >= end) {
+            return false;
+        }
+        int length = 0;
+        long index = position;
+        while (index < size) {
+            byte b = byteAt(index++);
+            if (b == '\n') {
+                break;
+            }
+            if (b == '\r') {
+                // like BufferedReader.readLine: \r, \n or \r\n
+                if (index < size && byteAt(index) == '\n') {
+                    index++;
+                }
+                break;
+            }
+            if (length == line.length) {
+                line = Arrays.copyOf(line, line.length * 2);
+            }
+            line[length++] = b;
+        }
+        position = index;
+        action.accept(new String(line, 0, length, StandardCharsets.UTF_8));
+        return true;
+    }
+
+    @Override
+    public Spliterator<String> trySplit() {
+        if (end - position < MIN_SPLIT_SIZE) {
+            return null;
+        }
+        // the first line starting after the middle
+        long split = position + (end - position) / 2;
+        while (split < end && !isLineStart(split)) {
+            split++;
+        }
+        if (split >= end) {
+            return null;
+        }
+        LineSpliterator prefix = new LineSpliterator(channel, size, windowSize, position, split);
+        position = split;
+        return prefix;
+    }
+
+    /**
+     * @return True - a line starts at the given index, after a \n, a \r or a \r\n.
+     */
+    private boolean isLineStart(final long index) {
+        byte previous = byteAt(index - 1);
+        return previous == '\n' || (previous == '\r' && byteAt(index) != '\n');
+    }
+
+    @Override
+    public long estimateSize() {
+        // bytes, not lines: it's only used to balance the splits
+        return end - position;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL | IMMUTABLE;
+    }
+
+}
@@ -0,0 +1,122 @@
+package br.com.efono.util;
+
+import br.com.efono.model.Phoneme;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A reusable {@link PhonemeSink} that keeps the received phonemes in arrays. After {@link #clear()}, the same buffer
+ * can be filled again without allocating anything, unless a transcription has more phonemes than the buffer has ever
+ * received.
+ *
+ * @author João Bolsson (joaovictorbolsson@gmail.com)
+ * @version 2026, Oct 18.
+ */
+public final class PhonemeBuffer implements PhonemeSink {
+
+    private int[] symbols;
+    private Phoneme.POSITION[] positions;
+    private int size = 0;
+
+    /**
+     * Creates an empty buffer.
+     */
+    public PhonemeBuffer() {
+        this(16);
+    }
+
+    /**
+     * Creates an empty buffer.
+     *
+     * @param capacity Initial capacity.
+     */
+    public PhonemeBuffer(final int capacity) {
+        symbols = new int[Math.max(1, capacity)];
+        positions = new Phoneme.POSITION[symbols.length];
+    }
+
+    @Override
+    public void accept(final int symbol, final Phoneme.POSITION position) {
+        if (size == symbols.length) {
+            symbols = Arrays.copyOf(symbols, size * 2);
+            positions = Arrays.copyOf(positions, size * 2);
+        }
+        symbols[size] = symbol;
+        positions[size] = position;
+        size++;
+    }
+
+    /**
+     * Removes all the phonemes, keeping the arrays to be reused.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * @return The number of phonemes in the buffer.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the symbol id of the phoneme at the given index.
+     *
+     * @param index Phoneme index.
+     * @return The symbol id. See {@link SymbolTable#symbolOf(int)}.
+     */
+    public int getSymbol(final int index) {
+        checkIndex(index);
+        return symbols[index];
+    }
+
+    /**
+     * Gets the position of the phoneme at the given index.
+     *
+     * @param index Phoneme index.
+     * @return The phoneme position.
+     */
+    public Phoneme.POSITION getPosition(final int index) {
+        checkIndex(index);
+        return positions[index];
+    }
+
+    /**
+     * Counts how many phonemes in the buffer have the given symbol and position.
+     *
+     * @param symbol The symbol id.
+     * @param position The position or null to count all the positions.
+     * @return The number of phonemes.
+     */
+    public int count(final int symbol, final Phoneme.POSITION position) {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (symbols[i] == symbol && (position == null || positions[i] == position)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Creates the phonemes in the buffer.
+     *
+     * @return A new list with the phonemes in the buffer.
+     */
+    public List<Phoneme> toPhonemes() {
+        final List<Phoneme> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(Phoneme.of(symbols[i], positions[i]));
+        }
+        return list;
+    }
+
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+    }
+
+}
@@ -0,0 +1,150 @@
+package br.com.efono.util;
+
+import br.com.efono.model.Phoneme;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A bounded cache for {@link Util#getConsonantPhonemes(String)}. The same correct transcriptions are found thousands
+ * of times in the assessments, so each one is parsed only once. The cache is keyed by the clean transcription (see
+ * {@link Util#cleanTranscription(String)}) and the least recently used entries are evicted when the cache is full.
+ *
+ * The returned lists are unmodifiable and shared between the callers. The cache is discarded when
+ * {@link Util#reloadTables()} is called, because the tables change the way the transcriptions are parsed.
+ *
+ * @author João Bolsson (joaovictorbolsson@gmail.com)
+ * @version 2026, Oct 18.
+ */
+public final class PhonemeCache {
+
+    /**
+     * Default maximum number of transcriptions in the cache.
+     */
+    public static final int DEFAULT_MAX_SIZE = 10000;
+
+    private static final PhonemeCache INSTANCE = new PhonemeCache(DEFAULT_MAX_SIZE);
+
+    private final int maxSize;
+    private final LinkedHashMap<String, List<Phoneme>> map;
+
+    private TranscriptionLexer lexer;
+    private long hits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+
+    /**
+     * Creates a cache.
+     *
+     * @param maxSize Maximum number of transcriptions in the cache.
+     */
+    public PhonemeCache(final int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("The cache size must be greater than 0: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.map = new LinkedHashMap<String, List<Phoneme>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, List<Phoneme>> eldest) {
+                if (size() > PhonemeCache.this.maxSize) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * @return The cache shared by the application.
+     */
+    public static PhonemeCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets consonant phonemes from the given transcription with their respective position at the word. See
+     * {@link Util#getConsonantPhonemes(String)}.
+     *
+     * @param transcription Given transcription.
+     * @return An unmodifiable ordered list with the consonant phonemes.
+     */
+    public List<Phoneme> getConsonantPhonemes(final String transcription) {
+        TranscriptionLexer current = TranscriptionLexer.getInstance();
+        String key = current.clean(transcription);
+        synchronized (this) {
+            checkLexer(current);
+            List<Phoneme> phonemes = map.get(key);
+            if (phonemes != null) {
+                hits++;
+                return phonemes;
+            }
+            misses++;
+        }
+        // parsing out of the lock: two threads may parse the same transcription, but both results are equal
+        List<Phoneme> phonemes = Collections.unmodifiableList(current.getConsonantPhonemes(transcription));
+        synchronized (this) {
+            if (current == lexer) {
+                map.put(key, phonemes);
+            }
+        }
+        return phonemes;
+    }
+
+    private void checkLexer(final TranscriptionLexer current) {
+        if (lexer != current) {
+            map.clear();
+            lexer = current;
+        }
+    }
+
+    /**
+     * Removes all the transcriptions in the cache. The counters are kept.
+     */
+    public synchronized void clear() {
+        map.clear();
+    }
+
+    /**
+     * @return The number of transcriptions in the cache.
+     */
+    public synchronized int size() {
+        return map.size();
+    }
+
+    /**
+     * @return The maximum number of transcriptions in the cache.
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @return How many times a transcription was found in the cache.
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return How many times a transcription was not found in the cache and had to be parsed.
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return How many transcriptions were removed because the cache was full.
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "PhonemeCache{" + "size=" + map.size() + ", maxSize=" + maxSize + ", hits=" + hits + ", misses="
+                + misses + ", evictions=" + evictions + '}';
+    }
+
+}
@@ -0,0 +1,23 @@
+package br.com.efono.util;
+
+import br.com.efono.model.Phoneme;
+
+/**
+ * Receives the consonant phonemes extracted from a transcription, in the same order they are found. The phonemes are
+ * given by their symbol id in {@link SymbolTable}, so no object is created for them.
+ *
+ * @author João Bolsson (joaovictorbolsson@gmail.com)
+ * @version 2026, Oct 18.
+ */
+@FunctionalInterface
+public interface PhonemeSink {
+
+    /**
+     * Receives a phoneme.
+     *
+     * @param symbol The symbol id. See {@link SymbolTable#symbolOf(int)}.
+     * @param position The phoneme position in the word.
+     */
+    void accept(int symbol, Phoneme.POSITION position);
+
+}
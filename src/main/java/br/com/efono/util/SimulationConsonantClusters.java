@@ -1,12 +1,14 @@
 package br.com.efono.util;
 
 import br.com.efono.model.Assessment;
+import br.com.efono.model.Instrument;
 import br.com.efono.model.KnownCase;
 import br.com.efono.model.Phoneme;
+import br.com.efono.model.PhonemeSet;
 import br.com.efono.model.SimulationConsonantClustersInfo;
-import java.util.LinkedHashMap;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  *
@@ -24,59 +26,63 @@ public class SimulationConsonantClusters {
      * @return An object that keeps all the information from the analysis.
      */
     public static SimulationConsonantClustersInfo runInferencesAnalysisCorrect(final Assessment assessment) {
-        if (assessment != null) {
-            List<Phoneme> allClustersInAssessment = new NoRepeatList<>();
-            List<KnownCase> cases = assessment.getCases();
-
-            Map<String, List<Phoneme>> mapWordsPhonemes = new LinkedHashMap<>();
-            cases.forEach(c -> mapWordsPhonemes.put(c.getWord(), c.getPhonemes()));
-
-            List<Phoneme> clustersParts = new NoRepeatList<>();
-            cases.forEach(c -> {
-                // all the clusters parts: target and produced phonemes parts
-                List<Phoneme> targetSplit = new NoRepeatList<>();
-                List<Phoneme> producedSplit = new NoRepeatList<>();
-
-                Defaults.TARGET_PHONEMES.get(c.getWord()).stream().filter(p -> p.isConsonantCluster()).forEach(
-                        p -> targetSplit.addAll(p.splitPhonemes()));
-
-                c.getPhonemes().stream().filter(p -> p.isConsonantCluster()).forEach(p -> {
-                    producedSplit.addAll(p.splitPhonemes());
-                    allClustersInAssessment.add(p);
-                });
+        return runInferencesAnalysisCorrect(assessment, Defaults.getInstrument());
+    }
 
-                clustersParts.addAll(producedSplit);
-            });
+    /**
+     * Runs the analysis like {@link #runInferencesAnalysisCorrect(Assessment)}, with the target words of the given
+     * instrument.
+     *
+     * @param assessment Assessment to analyze.
+     * @param instrument The instrument.
+     * @return An object that keeps all the information from the analysis.
+     */
+    public static SimulationConsonantClustersInfo runInferencesAnalysisCorrect(final Assessment assessment,
+            final Instrument instrument) {
+        if (assessment != null) {
+            final PhonemeSet assessmentSet = new PhonemeSet();
+            final List<Phoneme> allClustersInAssessment = new ArrayList<>();
+
+            // all the clusters parts produced in the assessment
+            final PhonemeSet partsSet = new PhonemeSet();
+            final List<Phoneme> clustersParts = new ArrayList<>();
+            assessment.forEachCase(c -> c.getPhonemes().stream().filter(p -> p.isConsonantCluster()).forEach(
+                    p -> {
+                        add(p, assessmentSet, allClustersInAssessment);
+                        p.splitPhonemes().forEach(part -> add(part, partsSet, clustersParts));
+                    }));
 
             List<Phoneme> inferredPhonemes = Util.getPossibleClusters(clustersParts);
 
             /**
              * Contains all the consonant clusters that are in target words.
              */
-            List<Phoneme> allConsonantClustersInTargetWords = new NoRepeatList<>();
-            Defaults.TARGET_PHONEMES.values().forEach(value -> value.stream().filter(p -> p.isConsonantCluster()).forEach(p -> allConsonantClustersInTargetWords.add(p)));
+            final PhonemeSet targetSet = new PhonemeSet();
+            final List<Phoneme> allConsonantClustersInTargetWords = getClustersInTargetWords(targetSet, instrument);
+
+            final PhonemeSet inferredSet = new PhonemeSet(inferredPhonemes);
+            final PhonemeSet inferredInTargetSet = inferredSet.intersection(targetSet);
 
             /**
              * Contains all the inferred phonemes that are in target words.
              */
-            List<Phoneme> inferredPhonemesInTargetWords = new NoRepeatList<>();
-            inferredPhonemes.stream().filter(p -> allConsonantClustersInTargetWords.contains(p)).forEach(p -> inferredPhonemesInTargetWords.add(p));
+            List<Phoneme> inferredPhonemesInTargetWords = inferredInTargetSet.filter(inferredPhonemes);
 
             // inferidos que estão nas palavras alvo e que ela conseguiu produzir
-            List<Phoneme> inferredReproducedInTargetWords = new NoRepeatList<>();
-            inferredPhonemes.stream().filter(p -> allConsonantClustersInTargetWords.contains(p) && allClustersInAssessment.contains(p)).forEach(p -> inferredReproducedInTargetWords.add(p));
+            List<Phoneme> inferredReproducedInTargetWords = inferredInTargetSet.intersection(assessmentSet)
+                    .filter(inferredPhonemes);
 
             // inferidos que estão nas palavras alvo e que ela não reproduziu
-            List<Phoneme> inferredNotReproducedInTargetWords = new NoRepeatList<>();
-            inferredPhonemes.stream().filter(p -> allConsonantClustersInTargetWords.contains(p) && !allClustersInAssessment.contains(p)).forEach(p -> inferredNotReproducedInTargetWords.add(p));
+            List<Phoneme> inferredNotReproducedInTargetWords = inferredInTargetSet.difference(assessmentSet)
+                    .filter(inferredPhonemes);
 
             // inferidos que não estão nas palavras alvo e que ela conseguiu produzir
-            List<Phoneme> inferredReproducedNotInTargetWords = new NoRepeatList<>();
-            inferredPhonemes.stream().filter(p -> !allConsonantClustersInTargetWords.contains(p) && allClustersInAssessment.contains(p)).forEach(p -> inferredReproducedNotInTargetWords.add(p));
+            List<Phoneme> inferredReproducedNotInTargetWords = inferredSet.intersection(assessmentSet)
+                    .difference(targetSet).filter(inferredPhonemes);
 
             // inferidos que não estão nas palavras alvo e que ela não reproduziu
-            List<Phoneme> inferredNotReproducedNotInTargetWords = new NoRepeatList<>();
-            inferredPhonemes.stream().filter(p -> !allConsonantClustersInTargetWords.contains(p) && !allClustersInAssessment.contains(p)).forEach(p -> inferredNotReproducedNotInTargetWords.add(p));
+            List<Phoneme> inferredNotReproducedNotInTargetWords = inferredSet.difference(targetSet)
+                    .difference(assessmentSet).filter(inferredPhonemes);
 
             /*
             inferredPhonemes = todo o conjunto azul claro (A)
@@ -113,24 +119,41 @@ public class SimulationConsonantClusters {
      * @return An object that keeps all the information from the analysis.
      */
     public static SimulationConsonantClustersInfo runInferencesAnalysisIncorrect(final Assessment assessment) {
-        if (assessment != null) {
-            List<Phoneme> allClustersInAssessment = new NoRepeatList<>();
-            List<KnownCase> cases = assessment.getCases();
-
-            List<Phoneme> clustersParts = new NoRepeatList<>();
+        return runInferencesAnalysisIncorrect(assessment, Defaults.getInstrument());
+    }
 
-            cases.forEach(c -> {
-                List<Phoneme> targetSplit = new NoRepeatList<>();
-                Defaults.TARGET_PHONEMES.get(c.getWord()).stream().filter(p -> p.isConsonantCluster()).forEach(p -> targetSplit.addAll(p.splitPhonemes()));
+    /**
+     * Runs the analysis like {@link #runInferencesAnalysisIncorrect(Assessment)}, with the target phonemes of the
+     * given instrument.
+     *
+     * @param assessment Assessment to analyze.
+     * @param instrument The instrument.
+     * @return An object that keeps all the information from the analysis.
+     */
+    public static SimulationConsonantClustersInfo runInferencesAnalysisIncorrect(final Assessment assessment,
+            final Instrument instrument) {
+        if (assessment != null) {
+            final PhonemeSet assessmentSet = new PhonemeSet();
+            final List<Phoneme> allClustersInAssessment = new ArrayList<>();
 
-                List<Phoneme> producedSplit = new NoRepeatList<>();
-                c.getPhonemes().stream().filter(p -> p.isConsonantCluster()).forEach(p -> producedSplit.addAll(p.splitPhonemes()));
+            // the target clusters parts that were not produced
+            final PhonemeSet partsSet = new PhonemeSet();
+            final List<Phoneme> clustersParts = new ArrayList<>();
 
-                targetSplit.stream().filter(p -> !producedSplit.contains(p)).forEach(p -> clustersParts.add(p));
+            assessment.forEachCase(c -> {
+                final PhonemeSet targetSplit = new PhonemeSet();
+                final List<Phoneme> targetParts = new ArrayList<>();
+                getTargetClusters(c, instrument).forEach(
+                        p -> p.splitPhonemes().forEach(part -> add(part, targetSplit, targetParts)));
 
+                final PhonemeSet producedSplit = new PhonemeSet();
                 c.getPhonemes().stream().filter(p -> p.isConsonantCluster()).forEach(p -> {
-                    allClustersInAssessment.add(p);
+                    producedSplit.addAll(p.splitPhonemes());
+                    add(p, assessmentSet, allClustersInAssessment);
                 });
+
+                targetSplit.difference(producedSplit).filter(targetParts).forEach(
+                        p -> add(p, partsSet, clustersParts));
             });
 
             List<Phoneme> inferredPhonemes = Util.getPossibleClusters(clustersParts);
@@ -138,34 +161,22 @@ public class SimulationConsonantClusters {
             /**
              * Contains all the consonant clusters that are in target words.
              */
-            List<Phoneme> allConsonantClustersInTargetWords = new NoRepeatList<>();
-            Defaults.TARGET_PHONEMES.values().forEach(value -> {
-                value.stream().filter(p -> p.isConsonantCluster()).forEach(
-                        p -> allConsonantClustersInTargetWords.add(p));
-            });
+            final PhonemeSet targetSet = new PhonemeSet();
+            final List<Phoneme> allConsonantClustersInTargetWords = getClustersInTargetWords(targetSet, instrument);
 
-            List<Phoneme> allClustersNotReproduced = new NoRepeatList<>();
-            allConsonantClustersInTargetWords.stream().filter(p -> !allClustersInAssessment.contains(p)).forEach(
-                    p -> allClustersNotReproduced.add(p));
+            List<Phoneme> allClustersNotReproduced = targetSet.difference(assessmentSet)
+                    .filter(allConsonantClustersInTargetWords);
 
             /**
              * inferredPhonemes that are in target words.
              */
-            List<Phoneme> inferredPhonemesInTargetWords = new NoRepeatList<>();
-            inferredPhonemes.stream().filter(p -> allConsonantClustersInTargetWords.contains(p)).forEach(
-                    p -> inferredPhonemesInTargetWords.add(p));
+            final PhonemeSet inferredInTargetSet = new PhonemeSet(inferredPhonemes).intersection(targetSet);
+            List<Phoneme> inferredPhonemesInTargetWords = inferredInTargetSet.filter(inferredPhonemes);
 
             // os que eu inferi que ela não conseguiria produzir que estão nas palavras alvo e que ela realmente não produziu
-            List<Phoneme> validInferred = new NoRepeatList<>();
+            List<Phoneme> validInferred = inferredInTargetSet.difference(assessmentSet).filter(inferredPhonemes);
             // os que eu inferi que ela não conseguiria produzir que estão nas palavras alvo mas que ela produziu
-            List<Phoneme> invalidInferred = new NoRepeatList<>();
-            inferredPhonemesInTargetWords.forEach(p -> {
-                if (!allClustersInAssessment.contains(p)) { // realmente não produziu
-                    validInferred.add(p);
-                } else {
-                    invalidInferred.add(p);
-                }
-            });
+            List<Phoneme> invalidInferred = inferredInTargetSet.intersection(assessmentSet).filter(inferredPhonemes);
 
             /*
             inferredPhonemes = inferidos que a criança NÃO consegue produzir (D)
@@ -183,4 +194,33 @@ public class SimulationConsonantClusters {
 
     }
 
+    /**
+     * Gets all the consonant clusters in the target words, in the order they are found.
+     *
+     * @param set Set to receive the clusters.
+     * @param instrument The instrument.
+     * @return A list with the clusters, without repetitions.
+     */
+    private static List<Phoneme> getClustersInTargetWords(final PhonemeSet set, final Instrument instrument) {
+        final List<Phoneme> list = new ArrayList<>();
+        instrument.getTargets().getAllClusters().forEach(p -> add(p, set, list));
+        return list;
+    }
+
+    /**
+     * Gets the consonant clusters in the target phonemes of the word of the given case.
+     */
+    private static Stream<Phoneme> getTargetClusters(final KnownCase c, final Instrument instrument) {
+        return instrument.getTargets().getClusters(c.getWordIndex()).stream();
+    }
+
+    /**
+     * Adds the phoneme in the list only if it is not in the set yet.
+     */
+    private static void add(final Phoneme phoneme, final PhonemeSet set, final List<Phoneme> list) {
+        if (set.add(phoneme)) {
+            list.add(phoneme);
+        }
+    }
+
 }
@@ -0,0 +1,317 @@
+package br.com.efono.util;
+
+import br.com.efono.model.Assessment;
+import br.com.efono.model.Instrument;
+import br.com.efono.model.KnownCaseComparator;
+import br.com.efono.model.SimulationInfo;
+import br.com.efono.model.Statistics;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Runs the simulations of {@link SimulationWordsSequence} for a job matrix: each assessment with each one of the
+ * given variants (comparator, split mode and inventory/PCC-R mode). The jobs run in the given executor, like a
+ * {@link ForkJoinPool} (see {@link #newExecutor(int)}) or, in newer JDKs, an executor with a virtual thread per task.
+ *
+ * The simulations only read the {@link Instrument}, which is immutable, so the jobs don't share any mutable state.
+ * Each job writes only its own cells of the {@link Results}, and the results are always in the order of the
+ * assessments and variants, no matter the order that the jobs finished.
+ *
+ * @author João Bolsson (joaovictorbolsson@gmail.com)
+ * @version 2026, Oct 18.
+ */
+public final class SimulationEngine {
+
+    private final Instrument instrument;
+    private final int minimum;
+    private final ExecutorService executor;
+
+    /**
+     * Creates an engine.
+     *
+     * @param instrument The instrument of the simulations.
+     * @param minimum Number of times that each phoneme must be tested.
+     * @param executor Executor to run the jobs. It's not shut down by the engine.
+     */
+    public SimulationEngine(final Instrument instrument, final int minimum, final ExecutorService executor) {
+        this.instrument = Objects.requireNonNull(instrument);
+        this.minimum = minimum;
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    /**
+     * Creates an executor to run simulations.
+     *
+     * @param parallelism Number of threads. Values lower than 1 use all the available processors.
+     * @return A fork-join executor.
+     */
+    public static ExecutorService newExecutor(final int parallelism) {
+        return new ForkJoinPool(parallelism < 1 ? Runtime.getRuntime().availableProcessors() : parallelism);
+    }
+
+    /**
+     * Runs all the variants for all the assessments. There is a job for each assessment, which sorts its cases once for
+     * each comparator in a {@link SimulationPlan} and runs all the variants with it.
+     *
+     * @param assessments The assessments.
+     * @param variants The variants to run.
+     * @return The results.
+     * @throws IllegalStateException If the thread was interrupted or some job failed with a checked exception.
+     */
+    public Results run(final List<Assessment> assessments, final List<Variant> variants) {
+        final Results results = new Results(assessments, variants);
+        final Set<KnownCaseComparator> comparators = new HashSet<>();
+        variants.forEach(v -> comparators.add(v.comp));
+        final List<Future<?>> futures = new ArrayList<>(assessments.size());
+        for (int a = 0; a < results.assessments.size(); a++) {
+            final int index = a;
+            futures.add(executor.submit(() -> {
+                // the cases are sorted once for each comparator and reused by all the variants
+                final SimulationPlan plan = new SimulationPlan(results.assessments.get(index), comparators,
+                        instrument);
+                for (int v = 0; v < results.variants.size(); v++) {
+                    results.infos[v][index] = results.variants.get(v).run(plan, minimum);
+                }
+            }));
+        }
+        try {
+            // Future#get makes the cells written by the jobs visible in this thread
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } catch (final InterruptedException ex) {
+            futures.forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The simulation was interrupted.", ex);
+        } catch (final ExecutionException ex) {
+            futures.forEach(f -> f.cancel(true));
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new IllegalStateException("A simulation failed: " + ex.getCause(), ex.getCause());
+        }
+        return results;
+    }
+
+    /**
+     * A variant of the simulation: a comparator to sort the cases, the split mode and the inventory/PCC-R mode of
+     * {@link SimulationWordsSequence#runSimulation(Assessment, KnownCaseComparator, int, boolean, boolean, Instrument)}
+     * or the blocks of words of
+     * {@link SimulationWordsSequence#runSimulation2(Assessment, KnownCaseComparator, int, boolean, Instrument)}.
+     */
+    public static final class Variant {
+
+        private final KnownCaseComparator comp;
+        private final boolean splitConsonantClusters;
+        private final boolean phoneticInventory;
+        private final boolean blocks;
+
+        private Variant(final KnownCaseComparator comp, final boolean splitConsonantClusters,
+                final boolean phoneticInventory, final boolean blocks) {
+            this.comp = comp;
+            this.splitConsonantClusters = splitConsonantClusters;
+            this.phoneticInventory = phoneticInventory;
+            this.blocks = blocks;
+        }
+
+        /**
+         * @param comp Comparator to sort the cases.
+         * @param splitConsonantClusters True - the consonant clusters are counted as two phonemes.
+         * @param phoneticInventory True - phonetic inventory, false - PCC-R.
+         * @return A variant of {@link SimulationWordsSequence#runSimulation}.
+         */
+        public static Variant of(final KnownCaseComparator comp, final boolean splitConsonantClusters,
+                final boolean phoneticInventory) {
+            return new Variant(comp, splitConsonantClusters, phoneticInventory, false);
+        }
+
+        /**
+         * @param comp Comparator to sort the cases.
+         * @param splitConsonantClusters True - the consonant clusters are counted as two phonemes.
+         * @return A variant of {@link SimulationWordsSequence#runSimulation2}, with blocks of words.
+         */
+        public static Variant blocks(final KnownCaseComparator comp, final boolean splitConsonantClusters) {
+            return new Variant(comp, splitConsonantClusters, false, true);
+        }
+
+        /**
+         * Runs this variant with the given plan.
+         *
+         * @param plan A plan with the comparator of this variant.
+         * @param minimum Number of times that each phoneme must be tested.
+         * @return The information about the simulation.
+         */
+        public SimulationInfo run(final SimulationPlan plan, final int minimum) {
+            if (blocks) {
+                return plan.runSimulation2(comp, minimum, splitConsonantClusters);
+            }
+            return plan.runSimulation(comp, minimum, splitConsonantClusters, phoneticInventory);
+        }
+
+        /**
+         * @return The comparator.
+         */
+        public KnownCaseComparator getComparator() {
+            return comp;
+        }
+
+        /**
+         * @return True - the consonant clusters are counted as two phonemes.
+         */
+        public boolean isSplitConsonantClusters() {
+            return splitConsonantClusters;
+        }
+
+        /**
+         * @return True - phonetic inventory, false - PCC-R.
+         */
+        public boolean isPhoneticInventory() {
+            return phoneticInventory;
+        }
+
+        /**
+         * @return True - blocks of words (runSimulation2).
+         */
+        public boolean isBlocks() {
+            return blocks;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(comp, splitConsonantClusters, phoneticInventory, blocks);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            final Variant other = (Variant) obj;
+            return comp == other.comp && splitConsonantClusters == other.splitConsonantClusters
+                    && phoneticInventory == other.phoneticInventory && blocks == other.blocks;
+        }
+
+        @Override
+        public String toString() {
+            return comp + (blocks ? "-blocks" : phoneticInventory ? "-Inv" : "-Test")
+                    + (splitConsonantClusters ? "" : "-noSplit");
+        }
+    }
+
+    /**
+     * The results of a run: a {@link SimulationInfo} for each variant and assessment. Results of runs with the same
+     * variants can be merged, like the runs of batches of assessments.
+     */
+    public static final class Results {
+
+        private final List<Assessment> assessments;
+        private final List<Variant> variants;
+
+        /**
+         * The results at <code>[variant][assessment]</code>.
+         */
+        private final SimulationInfo[][] infos;
+
+        private Results(final List<Assessment> assessments, final List<Variant> variants) {
+            this.assessments = Collections.unmodifiableList(new ArrayList<>(assessments));
+            this.variants = Collections.unmodifiableList(new ArrayList<>(variants));
+            this.infos = new SimulationInfo[this.variants.size()][this.assessments.size()];
+        }
+
+        /**
+         * @return A read-only list with the assessments, in the order of the results.
+         */
+        public List<Assessment> getAssessments() {
+            return assessments;
+        }
+
+        /**
+         * @return A read-only list with the variants.
+         */
+        public List<Variant> getVariants() {
+            return variants;
+        }
+
+        /**
+         * @param variant The variant.
+         * @return A read-only list with the results of the variant, in the order of the assessments.
+         * @throws IllegalArgumentException If the variant was not run.
+         */
+        public List<SimulationInfo> get(final Variant variant) {
+            return Collections.unmodifiableList(Arrays.asList(infos[indexOf(variant)]));
+        }
+
+        /**
+         * @param variant The variant.
+         * @param assessment Index of the assessment.
+         * @return The result of the variant with the assessment.
+         */
+        public SimulationInfo get(final Variant variant, final int assessment) {
+            return infos[indexOf(variant)][assessment];
+        }
+
+        private int indexOf(final Variant variant) {
+            int index = variants.indexOf(variant);
+            if (index < 0) {
+                throw new IllegalArgumentException("The variant " + variant + " was not run.");
+            }
+            return index;
+        }
+
+        /**
+         * Extracts the statistics of a variant, in the order of the assessments. See
+         * {@link Statistics#extractStatistics(SimulationInfo)}.
+         *
+         * @param variant The variant.
+         * @param statistics Statistics to fill.
+         * @return The given statistics.
+         */
+        public Statistics extractStatistics(final Variant variant, final Statistics statistics) {
+            for (SimulationInfo info : infos[indexOf(variant)]) {
+                statistics.extractStatistics(info);
+            }
+            return statistics;
+        }
+
+        /**
+         * Merges these results with the results of other assessments, which come after the assessments of these ones.
+         *
+         * @param other Other results, with the same variants.
+         * @return New results with the assessments of both.
+         * @throws IllegalArgumentException If the results have different variants.
+         */
+        public Results merge(final Results other) {
+            if (!variants.equals(other.variants)) {
+                throw new IllegalArgumentException("Can't merge results of different variants: " + variants
+                        + " and " + other.variants);
+            }
+            final List<Assessment> all = new ArrayList<>(assessments);
+            all.addAll(other.assessments);
+            final Results merged = new Results(all, variants);
+            for (int v = 0; v < infos.length; v++) {
+                System.arraycopy(infos[v], 0, merged.infos[v], 0, assessments.size());
+                System.arraycopy(other.infos[v], 0, merged.infos[v], assessments.size(), other.assessments.size());
+            }
+            return merged;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " with [" + assessments.size() + "] assessments and variants "
+                    + variants;
+        }
+    }
+
+}
@@ -0,0 +1,187 @@
+package br.com.efono.util;
+
+import br.com.efono.model.Assessment;
+import br.com.efono.model.Instrument;
+import br.com.efono.model.KnownCase;
+import br.com.efono.model.KnownCaseComparator;
+import br.com.efono.model.SimulationInfo;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * The orders of the cases of an assessment for a set of comparators, computed once and reused by all the simulations
+ * of the assessment: split or not the consonant clusters, phonetic inventory or PCC-R, blocks of words and any minimum.
+ * Each order is an array with the indexes of the cases in {@link Assessment#getCaseList()}, so the simulations walk the
+ * cases through the order instead of sorting a new copy of the list every time.
+ *
+ * The cases are copied once when the plan is created and the plan is immutable, so later changes in the assessment
+ * are not seen by the plan.
+ *
+ * @author João Bolsson (joaovictorbolsson@gmail.com)
+ * @version 2026, Oct 18.
+ */
+public final class SimulationPlan {
+
+    private final Assessment assessment;
+    private final Instrument instrument;
+
+    /**
+     * The cases of the assessment when the plan was created.
+     */
+    private final KnownCase[] cases;
+
+    /**
+     * The order of each comparator.
+     */
+    private final Map<KnownCaseComparator, int[]> orders = new EnumMap<>(KnownCaseComparator.class);
+
+    /**
+     * The order of the assessment itself, used with a null comparator.
+     */
+    private final int[] identity;
+
+    /**
+     * Creates a plan with the orders of the given comparators.
+     *
+     * @param assessment The assessment.
+     * @param comparators The comparators that will be used in the simulations.
+     * @param instrument The instrument.
+     */
+    public SimulationPlan(final Assessment assessment, final Collection<KnownCaseComparator> comparators,
+            final Instrument instrument) {
+        this.assessment = Objects.requireNonNull(assessment);
+        this.instrument = instrument;
+        final List<KnownCase> list = assessment.getCaseList();
+        this.cases = list.toArray(new KnownCase[list.size()]);
+        this.identity = SimulationWordsSequence.order(list, null, instrument);
+        for (KnownCaseComparator comp : comparators) {
+            if (comp != null && !orders.containsKey(comp)) {
+                orders.put(comp, SimulationWordsSequence.order(list, comp, instrument));
+            }
+        }
+    }
+
+    /**
+     * @return The assessment.
+     */
+    public Assessment getAssessment() {
+        return assessment;
+    }
+
+    /**
+     * @param comp A comparator of the plan or null.
+     * @return True - the plan has the order of the comparator, otherwise - false. A null comparator is always in the
+     * plan: the cases are in the order of the assessment.
+     */
+    public boolean contains(final KnownCaseComparator comp) {
+        return comp == null || orders.containsKey(comp);
+    }
+
+    private int[] get(final KnownCaseComparator comp) {
+        if (comp == null) {
+            return identity;
+        }
+        final int[] order = orders.get(comp);
+        if (order == null) {
+            throw new IllegalArgumentException("The comparator " + comp + " is not in this plan.");
+        }
+        return order;
+    }
+
+    /**
+     * @param comp A comparator of the plan or null.
+     * @return A copy of the order: the indexes of the cases in {@link Assessment#getCaseList()}, in the sorted order.
+     * @throws IllegalArgumentException If the comparator is not in the plan.
+     */
+    public int[] getOrder(final KnownCaseComparator comp) {
+        return get(comp).clone();
+    }
+
+    /**
+     * @param comp A comparator of the plan or null.
+     * @return A read-only view of the cases in the order of the comparator, like
+     * {@link SimulationWordsSequence#sortList(List, KnownCaseComparator, Instrument)}.
+     * @throws IllegalArgumentException If the comparator is not in the plan.
+     */
+    public List<KnownCase> getCases(final KnownCaseComparator comp) {
+        return new OrderedCases(cases, get(comp));
+    }
+
+    /**
+     * Runs a simulation like
+     * {@link SimulationWordsSequence#runSimulation(Assessment, KnownCaseComparator, int, boolean, boolean, Instrument)}
+     * with the order of the plan.
+     *
+     * @param comp A comparator of the plan or null.
+     * @param minimum Number of times that each phoneme must be produced or tested.
+     * @param splitConsonantClusters True - the consonant clusters are counted as two phonemes.
+     * @param phoneticInventory True - phonetic inventory, false - PCC-R.
+     * @return The information about the simulation.
+     * @throws IllegalArgumentException If the comparator is not in the plan.
+     */
+    public SimulationInfo runSimulation(final KnownCaseComparator comp, final int minimum,
+            final boolean splitConsonantClusters, final boolean phoneticInventory) {
+        final List<KnownCase> sorted = getCases(comp);
+        if (minimum > 0) {
+            return SimulationWordsSequence.simulate(assessment, sorted, comp, minimum, splitConsonantClusters,
+                    phoneticInventory, instrument);
+        }
+        return new SimulationInfo(assessment, comp, splitConsonantClusters);
+    }
+
+    /**
+     * Runs a simulation with blocks of words like
+     * {@link SimulationWordsSequence#runSimulation2(Assessment, KnownCaseComparator, int, boolean, Instrument)} with the
+     * order of the plan.
+     *
+     * @param comp A comparator of the plan or null.
+     * @param minimum Number of times that each phoneme must be tested.
+     * @param splitConsonantClusters True - the consonant clusters are counted as two phonemes.
+     * @return The information about the simulation.
+     * @throws IllegalArgumentException If the comparator is not in the plan.
+     */
+    public SimulationInfo runSimulation2(final KnownCaseComparator comp, final int minimum,
+            final boolean splitConsonantClusters) {
+        final List<KnownCase> sorted = getCases(comp);
+        if (minimum > 0) {
+            return SimulationWordsSequence.simulateBlocks(assessment, sorted, comp, minimum, splitConsonantClusters,
+                    instrument);
+        }
+        return new SimulationInfo(assessment, comp, splitConsonantClusters);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " with [" + cases.length + "] cases and comparators " + orders.keySet();
+    }
+
+    /**
+     * A read-only view of the cases through an order.
+     */
+    private static class OrderedCases extends AbstractList<KnownCase> implements RandomAccess {
+
+        private final KnownCase[] cases;
+        private final int[] order;
+
+        OrderedCases(final KnownCase[] cases, final int[] order) {
+            this.cases = cases;
+            this.order = order;
+        }
+
+        @Override
+        public KnownCase get(final int index) {
+            return cases[order[index]];
+        }
+
+        @Override
+        public int size() {
+            return order.length;
+        }
+    }
+
+}
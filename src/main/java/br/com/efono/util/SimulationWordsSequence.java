@@ -1,15 +1,17 @@
 package br.com.efono.util;
 
 import br.com.efono.model.Assessment;
+import br.com.efono.model.Instrument;
 import br.com.efono.model.KnownCase;
 import br.com.efono.model.KnownCaseComparator;
 import br.com.efono.model.Phoneme;
+import br.com.efono.model.PhonemeCounter;
 import br.com.efono.model.SimulationInfo;
+import br.com.efono.model.TargetPhonemes;
+import br.com.efono.model.WordMask;
 import br.com.efono.tree.TreeUtils;
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -56,115 +58,234 @@ public class SimulationWordsSequence {
      */
     public static SimulationInfo runSimulation(final Assessment assessment, final KnownCaseComparator comp,
             final int minimum, boolean splitConsonantClusters, final boolean phoneticInventory) {
-        if (assessment != null && minimum > 0) {
-            final Map<Phoneme, Integer> mapCounter = new HashMap<>();
+        return runSimulation(assessment, comp, minimum, splitConsonantClusters, phoneticInventory,
+                Defaults.getInstrument());
+    }
 
-            List<KnownCase> cases = assessment.getCases();
-            sortList(cases, comp);
+    /**
+     * Runs the simulation with the words sequence in the given assessment, using the words, tree and target phonemes
+     * of the given instrument.
+     *
+     * @param assessment Assessment.
+     * @param comp Comparator to sort KnownCases or null.
+     * @param minimum Number of times that the same phoneme in the same position must be produced to be considered in
+     * the phonetic inventory.
+     * @param splitConsonantClusters True - this will count the consonant clusters as two phonemes:
+     * <code>bɾ(OCME) -> b(OCME) + ɾ(OCME).</code>.
+     * @param phoneticInventory True - will compute words required for phonetic inventory. False - it'll compute words
+     * required for phonemes testing (PCC-R).
+     * @param instrument The instrument.
+     * @return The information about the simulation.
+     */
+    public static SimulationInfo runSimulation(final Assessment assessment, final KnownCaseComparator comp,
+            final int minimum, boolean splitConsonantClusters, final boolean phoneticInventory,
+            final Instrument instrument) {
+        if (assessment != null && minimum > 0) {
+            List<KnownCase> cases = getCases(assessment, instrument);
+            sortList(cases, comp, instrument);
 
-            List<String> wordsRequired = getWordsRequired(cases, mapCounter, splitConsonantClusters, minimum,
-                    phoneticInventory);
-            /**
-             * TODO: todos os fonemas produzidos ou testados (depende da flag phoneticInventory) estão em "mapCounter".
-             * Os fonemas testados (alvos) deverão ser calculados a partir dos gabaritos corretos. Aí sim, podemos
-             * calcular o PCC-R.
-             */
-            return new SimulationInfo(mapCounter, wordsRequired, assessment, comp, splitConsonantClusters);
+            return simulate(assessment, cases, comp, minimum, splitConsonantClusters, phoneticInventory, instrument);
         }
         return new SimulationInfo(assessment, comp, splitConsonantClusters);
     }
 
+    /**
+     * Gets a copy of the cases of the assessment, without the cases of words that are not in the instrument.
+     *
+     * @param assessment Assessment.
+     * @param instrument The instrument.
+     * @return The cases of the words of the instrument, in the order of the assessment.
+     */
+    private static List<KnownCase> getCases(final Assessment assessment, final Instrument instrument) {
+        final WordMask words = instrument.getWordMask();
+        final List<KnownCase> cases = new ArrayList<>(assessment.getCaseList().size());
+        for (KnownCase c : assessment.getCaseList()) {
+            if (words.contains(c.getWordIndex())) {
+                cases.add(c);
+            }
+        }
+        return cases;
+    }
+
+    /**
+     * Runs the simulation with the cases of the assessment already sorted.
+     *
+     * @param assessment Assessment.
+     * @param cases The cases of the assessment, sorted with the comparator.
+     * @param comp Comparator used to sort the cases.
+     * @param minimum Number of times that each phoneme must be produced or tested, greater than 0.
+     * @param splitConsonantClusters True - the consonant clusters are counted as two phonemes.
+     * @param phoneticInventory True - phonetic inventory, false - PCC-R.
+     * @param instrument The instrument.
+     * @return The information about the simulation.
+     */
+    static SimulationInfo simulate(final Assessment assessment, final List<KnownCase> cases,
+            final KnownCaseComparator comp, final int minimum, final boolean splitConsonantClusters,
+            final boolean phoneticInventory, final Instrument instrument) {
+        final PhonemeCounter counter = new PhonemeCounter();
+        List<String> wordsRequired = countWordsRequired(cases, counter, splitConsonantClusters, minimum,
+                phoneticInventory, instrument);
+        /**
+         * TODO: todos os fonemas produzidos ou testados (depende da flag phoneticInventory) estão em "counter". Os
+         * fonemas testados (alvos) deverão ser calculados a partir dos gabaritos corretos. Aí sim, podemos calcular o
+         * PCC-R.
+         */
+        return new SimulationInfo(counter, wordsRequired, assessment, comp, splitConsonantClusters);
+    }
+
     // todo: adicionar esse mecanismo com as 7 palavras, serão mais, mas pode melhorar a precisão na hora de advinhar o PCC-R
     public static SimulationInfo runSimulation2(final Assessment assessment, final KnownCaseComparator comp,
             final int minimum, boolean splitConsonantClusters) {
+        return runSimulation2(assessment, comp, minimum, splitConsonantClusters, Defaults.getInstrument());
+    }
+
+    /**
+     * Runs the simulation with blocks of words: for each word that tests a phoneme not tested a minimum of times, the
+     * next words with that phoneme are tested too. The list isn't the smallest one, for that see
+     * {@link WordSelector#exact()}.
+     *
+     * @param assessment Assessment.
+     * @param comp Comparator to sort KnownCases or null.
+     * @param minimum Number of times that each phoneme must be tested.
+     * @param splitConsonantClusters True - the consonant clusters are counted as two phonemes.
+     * @param instrument The instrument.
+     * @return The information about the simulation.
+     */
+    public static SimulationInfo runSimulation2(final Assessment assessment, final KnownCaseComparator comp,
+            final int minimum, boolean splitConsonantClusters, final Instrument instrument) {
         if (assessment != null && minimum > 0) {
-            final Map<Phoneme, Integer> mapCounter = new HashMap<>();
-
-            List<KnownCase> cases = assessment.getCases();
-            sortList(cases, comp);
-
-            final List<String> wordsRequired = new LinkedList<>();
-
-            if (cases != null) {
-                mapCounter.clear();
-                cases.forEach(c -> {
-                    List<Phoneme> phonemes = Defaults.TARGET_PHONEMES.get(c.getWord());
-
-                    final List<Phoneme> list = new ArrayList<>();
-                    phonemes.forEach(phoneme -> {
-                        // bɾ(OCME) -> b(OCME) + ɾ(OCME)
-                        if (phoneme.isConsonantCluster() && splitConsonantClusters) {
-                            String[] split = phoneme.getPhoneme().split("");
-                            for (String s : split) {
-                                // repeated phonemes are allowed here, because we wanna count
-                                list.add(new Phoneme(s, phoneme.getPosition()));
-                            }
-                        } else {
-                            // repeated phonemes are allowed
-                            list.add(phoneme);
-                        }
-                    });
-
-                    List<Phoneme> toBeTested = new LinkedList<>();
-
-                    for (Phoneme p : list) {
-                        int count = 1;
-                        if (mapCounter.containsKey(p)) {
-                            count = mapCounter.get(p) + 1;
-                        }
-                        mapCounter.put(p, count);
-
-                        if (count <= minimum && !wordsRequired.contains(c.getWord())) {
-                            wordsRequired.add(c.getWord());
-                            toBeTested.add(p);
-                        }
-                    }
+            List<KnownCase> cases = getCases(assessment, instrument);
+            sortList(cases, comp, instrument);
 
-                    List<String> nextWords = getNextWords(toBeTested, splitConsonantClusters);
+            return simulateBlocks(assessment, cases, comp, minimum, splitConsonantClusters, instrument);
+        }
+        return new SimulationInfo(assessment, comp, splitConsonantClusters);
+    }
 
-                    testNextWords(nextWords, cases, minimum, splitConsonantClusters, mapCounter, wordsRequired);
-                });
+    /**
+     * Runs the simulation with blocks of words with the cases of the assessment already sorted.
+     *
+     * @param assessment Assessment.
+     * @param cases The cases of the assessment, sorted with the comparator.
+     * @param comp Comparator used to sort the cases.
+     * @param minimum Number of times that each phoneme must be tested, greater than 0.
+     * @param splitConsonantClusters True - the consonant clusters are counted as two phonemes.
+     * @param instrument The instrument.
+     * @return The information about the simulation.
+     */
+    static SimulationInfo simulateBlocks(final Assessment assessment, final List<KnownCase> cases,
+            final KnownCaseComparator comp, final int minimum, final boolean splitConsonantClusters,
+            final Instrument instrument) {
+        final PhonemeCounter counter = new PhonemeCounter();
+        final List<String> wordsRequired = new ArrayList<>();
+        // required words by word index + 1, the slot 0 is the empty case
+        final boolean[] required = new boolean[WordCatalog.getDefault().size() + 1];
+        final WordMask words = instrument.getWordMask();
+        for (KnownCase c : cases) {
+            if (!words.contains(c.getWordIndex())) {
+                // the word is not in the instrument
+                continue;
+            }
+            // only the first phoneme not tested a minimum of times is tested by the next words
+            int toBeTested = countTargetIds(c, splitConsonantClusters, counter, minimum, instrument);
+            if (toBeTested >= 0 && require(c, required, wordsRequired)) {
+                // the inverted index of the instrument has the words with the phoneme
+                final WordMask nextWords = instrument.getTargets().getWordsWith(toBeTested, splitConsonantClusters);
+                testNextWords(nextWords, cases, minimum, splitConsonantClusters, counter, required, wordsRequired,
+                        instrument);
             }
+        }
+        return new SimulationInfo(counter, wordsRequired, assessment, comp, splitConsonantClusters);
+    }
 
-            return new SimulationInfo(mapCounter, wordsRequired, assessment, comp, splitConsonantClusters);
+    private static void testNextWords(final WordMask nextWords, final List<KnownCase> cases,
+            final int minimum, boolean splitConsonantClusters, final PhonemeCounter counter, final boolean[] required,
+            final List<String> wordsRequired, final Instrument instrument) {
+        for (KnownCase c : cases) {
+            if (nextWords.contains(c.getWordIndex()) && countTargetIds(c, splitConsonantClusters, counter, minimum, instrument) >= 0) {
+                require(c, required, wordsRequired);
+            }
         }
-        return new SimulationInfo(assessment, comp, splitConsonantClusters);
     }
 
-    private static void testNextWords(final List<String> nextWords, final List<KnownCase> cases, final int minimum,
-            boolean splitConsonantClusters, final Map<Phoneme, Integer> mapCounter, final List<String> wordsRequired) {
-        cases.forEach(c -> {
-            if (nextWords.contains(c.getWord())) {
-                List<Phoneme> phonemes = Defaults.TARGET_PHONEMES.get(c.getWord());
-
-                final List<Phoneme> list = new ArrayList<>();
-                phonemes.forEach(phoneme -> {
-                    // bɾ(OCME) -> b(OCME) + ɾ(OCME)
-                    if (phoneme.isConsonantCluster() && splitConsonantClusters) {
-                        String[] split = phoneme.getPhoneme().split("");
-                        for (String s : split) {
-                            // repeated phonemes are allowed here, because we wanna count
-                            list.add(new Phoneme(s, phoneme.getPosition()));
-                        }
-                    } else {
-                        // repeated phonemes are allowed
-                        list.add(phoneme);
-                    }
-                });
+    /**
+     * Adds the word of the case to the required words if it's not there yet.
+     *
+     * @return True - the word was added, false - it was already required.
+     */
+    private static boolean require(final KnownCase c, final boolean[] required, final List<String> wordsRequired) {
+        int slot = c.getWordIndex() + 1;
+        if (required[slot]) {
+            return false;
+        }
+        required[slot] = true;
+        wordsRequired.add(c.getWord());
+        return true;
+    }
 
-                for (Phoneme p : list) {
-                    int count = 1;
-                    if (mapCounter.containsKey(p)) {
-                        count = mapCounter.get(p) + 1;
-                    }
-                    mapCounter.put(p, count);
+    /**
+     * Counts the phonemes produced in the given case by their ids. Repeated phonemes are counted again.
+     *
+     * @return The id of the first phoneme that was counted at most <code>minimum</code> times or -1.
+     */
+    private static int countProduced(final KnownCase c, final boolean splitConsonantClusters,
+            final PhonemeCounter counter, final int minimum) {
+        int first = -1;
+        for (int i = 0, size = c.getPhonemeCount(); i < size; i++) {
+            int id = c.getPhonemeId(i);
+            if (splitConsonantClusters) {
+                first = count(Phoneme.byId(id), true, counter, minimum, first);
+            } else if (counter.increment(id) <= minimum && first < 0) {
+                first = id;
+            }
+        }
+        return first;
+    }
 
-                    if (count <= minimum && !wordsRequired.contains(c.getWord())) {
-                        wordsRequired.add(c.getWord());
-                    }
+    /**
+     * Counts one phoneme, bɾ(OCME) -> b(OCME) + ɾ(OCME) if the clusters are split.
+     *
+     * @return The given first id or, if it's -1, the id of the first phoneme counted at most <code>minimum</code>
+     * times.
+     */
+    private static int count(final Phoneme phoneme, final boolean splitConsonantClusters,
+            final PhonemeCounter counter, final int minimum, int first) {
+        if (splitConsonantClusters) {
+            for (int j = 0, size = phoneme.getSplitCount(); j < size; j++) {
+                int id = phoneme.getSplitId(j);
+                if (counter.increment(id) <= minimum && first < 0) {
+                    first = id;
                 }
             }
-        });
+        } else if (counter.increment(phoneme) <= minimum && first < 0) {
+            first = phoneme.getId();
+        }
+        return first;
+    }
+
+    /**
+     * Counts the target phonemes of the word of the given case: the phoneme ids in the {@link TargetPhonemes} of the
+     * instrument, with the consonant clusters already split. Repeated phonemes are counted again.
+     *
+     * @param c The case.
+     * @param splitConsonantClusters True - the consonant clusters are counted as two phonemes.
+     * @param counter Counter to increment.
+     * @param minimum The minimum of times that each phoneme must be counted.
+     * @param instrument The instrument.
+     * @return The id of the first phoneme that was counted at most <code>minimum</code> times or -1.
+     */
+    private static int countTargetIds(final KnownCase c, final boolean splitConsonantClusters,
+            final PhonemeCounter counter, final int minimum, final Instrument instrument) {
+        final TargetPhonemes targets = instrument.getTargets();
+        final int word = c.getWordIndex();
+        int first = -1;
+        for (int i = 0, size = targets.size(word, splitConsonantClusters); i < size; i++) {
+            int id = targets.get(word, splitConsonantClusters, i);
+            if (counter.increment(id) <= minimum && first < 0) {
+                first = id;
+            }
+        }
+        return first;
     }
 
     /**
@@ -177,36 +298,31 @@ public class SimulationWordsSequence {
      * @return A list with all the words that contains the phonemes in the given list.
      */
     public static List<String> getNextWords(final List<Phoneme> toBeTested, final boolean splitConsonantClusters) {
-        List<String> nextWords = new LinkedList<>();
-        Iterator<Map.Entry<String, List<Phoneme>>> it = Defaults.TARGET_PHONEMES.entrySet().iterator();
-        while (it.hasNext()) {
-            Map.Entry<String, List<Phoneme>> next = it.next();
-            List<Phoneme> value = next.getValue();
-
-            List<Phoneme> phon = new ArrayList<>();
-            value.forEach(phoneme -> {
-                // bɾ(OCME) -> b(OCME) + ɾ(OCME)
-                if (phoneme.isConsonantCluster() && splitConsonantClusters) {
-                    String[] split = phoneme.getPhoneme().split("");
-                    for (String s : split) {
-                        // repeated phonemes are allowed here, because we wanna count
-                        phon.add(new Phoneme(s, phoneme.getPosition()));
-                    }
-                } else {
-                    // repeated phonemes are allowed
-                    phon.add(phoneme);
-                }
-            });
+        return getNextWords(toBeTested, splitConsonantClusters, Defaults.getInstrument());
+    }
 
-            for (Phoneme p : toBeTested) {
-                // TODO: aqui vai pegar TODAS as palavras que contém esses fonemas, e não apenas 1 ou 2 necessárias pra testar o mínimo de vezes necessárias
-                if (phon.contains(p) && !nextWords.contains(next.getKey())) {
-                    nextWords.add(next.getKey());
-                    break;
-                }
+    /**
+     * Gets all the words of the given instrument that contains the phonemes in the given list.
+     *
+     * @param toBeTested Phonemes to be tested.
+     * @param splitConsonantClusters True - this will count the consonant clusters as two phonemes.
+     * @param instrument The instrument.
+     * @return A list with all the words that contains the phonemes in the given list.
+     */
+    public static List<String> getNextWords(final List<Phoneme> toBeTested, final boolean splitConsonantClusters,
+            final Instrument instrument) {
+        final WordMask words = instrument.getTargets().getWordsWith(toBeTested, splitConsonantClusters);
+        // in the order of the instrument
+        final String[] sorted = new String[instrument.size()];
+        for (int w = words.next(0); w >= 0; w = words.next(w + 1)) {
+            sorted[instrument.indexOfCatalogWord(w)] = WordCatalog.getDefault().getWord(w);
+        }
+        final List<String> nextWords = new ArrayList<>(words.size());
+        for (String word : sorted) {
+            if (word != null) {
+                nextWords.add(word);
             }
         }
-
         return nextWords;
     }
 
@@ -222,6 +338,7 @@ public class SimulationWordsSequence {
      *
      * @param cases The cases to analyze.
      * @param mapCounter A map only to count how many times each phoneme was tested, according with the criteria bellow.
+     * The counts are copied into the map when the method finishes.
      * @param splitConsonantClusters True - the consonant clusters will be transformed into 2 consonants phonemes. Ex.:
      * bɾ(OCME) -> b(OCME) + ɾ(OCME). False - keep the consonant phonemes as they are. Letting this flag with false
      * possibly will return more words because it's more difficult to find the phoneme bɾ(OCME) in the cases, but
@@ -234,69 +351,136 @@ public class SimulationWordsSequence {
      */
     public static List<String> getWordsRequired(final List<KnownCase> cases, final Map<Phoneme, Integer> mapCounter,
             boolean splitConsonantClusters, final int minimum, final boolean phoneticInventory) {
-        final List<String> wordsRequired = new LinkedList<>();
-
-        // TODO: vai pegar somente as palavras que estão nos casos e não considerando todas as palavras do conjunto. Como estou trabalhando apenas com avaliações completas, isso não é um problema agora
         if (cases != null && mapCounter != null) {
+            final PhonemeCounter counter = new PhonemeCounter();
+            List<String> wordsRequired = countWordsRequired(cases, counter, splitConsonantClusters, minimum,
+                    phoneticInventory);
             mapCounter.clear();
-            cases.forEach(c -> {
-                /**
-                 * c.getPhonemes() contains all the produced phonemes, so it's useful for us to get the phonetic
-                 * inventory information. For a phoneme to be considered in phonetic inventory it must be produced a
-                 * minimum of times. For PCC-R, only matters the number of times that a phoneme was tested, because with
-                 * that we can calculate later the percentage of correct productions in Assessment. For that, it's good
-                 * that a phoneme can be tested a minimum of times as well, to avoid false positive and negative cases.
-                 *
-                 * TODO: e se um fonema tiver 2 produções: correta e incorreta. Deveria ter uma palavra a mais pra
-                 * desempatar...
-                 */
-                List<Phoneme> phonemes = c.getPhonemes();
-                if (!phoneticInventory) {
-                    phonemes = Defaults.TARGET_PHONEMES.get(c.getWord());
-                }
+            mapCounter.putAll(counter.asMap());
+            return wordsRequired;
+        }
+        return new ArrayList<>();
+    }
 
-                // TODO: metodo aqui
-                final List<Phoneme> list = new ArrayList<>();
-                phonemes.forEach(phoneme -> {
-                    // bɾ(OCME) -> b(OCME) + ɾ(OCME)
-                    if (phoneme.isConsonantCluster() && splitConsonantClusters) {
-                        String[] split = phoneme.getPhoneme().split("");
-                        for (String s : split) {
-                            // repeated phonemes are allowed here, because we wanna count
-                            list.add(new Phoneme(s, phoneme.getPosition()));
-                        }
-                    } else {
-                        // repeated phonemes are allowed
-                        list.add(phoneme);
-                    }
-                });
+    /**
+     * Gets the words required for phonetic inventory according with criteria: a word that contains at least one phoneme
+     * which was not tested a <code>minimum</code> of times, then that word is important and will be in the required
+     * list.The words are analyzed according with the order in the <code>cases</code> list, so changing the order of the
+     * array can reproduce different results.The phonetic inventory contains all the phonemes that were spoken correctly
+     * at minimum of times.
+     *
+     * In this method only will be considered phonemes spoken in the list of cases. So here, we can have incomplete
+     * assessments, since probably the phonetic inventory will be incomplete as well.
+     *
+     * @param cases The cases to analyze.
+     * @param counter Counter of how many times each phoneme was tested, according with the criteria bellow. It's
+     * cleared before counting.
+     * @param splitConsonantClusters True - the consonant clusters will be transformed into 2 consonants phonemes. Ex.:
+     * bɾ(OCME) -> b(OCME) + ɾ(OCME). False - keep the consonant phonemes as they are. Letting this flag with false
+     * possibly will return more words because it's more difficult to find the phoneme bɾ(OCME) in the cases, but
+     * r(OCME) can appear in many others consonant clusters, an b(OCME) as well (br, bl).
+     * @param minimum The minimum of times that each phoneme must be reproduced in order to be considered in the
+     * phonetic inventory. Higher values can return more required words.
+     * @param phoneticInventory True - will compute words required for phonetic inventory. False - it'll compute words
+     * required for phonemes testing (PCC-R).
+     * @return A list with the required words, according with the criteria above.
+     */
+    public static List<String> countWordsRequired(final List<KnownCase> cases, final PhonemeCounter counter,
+            boolean splitConsonantClusters, final int minimum, final boolean phoneticInventory) {
+        return countWordsRequired(cases, counter, splitConsonantClusters, minimum, phoneticInventory,
+                Defaults.getInstrument());
+    }
 
-                for (Phoneme p : list) {
-                    int count = 1;
-                    if (mapCounter.containsKey(p)) {
-                        count = mapCounter.get(p) + 1;
-                    }
-                    mapCounter.put(p, count);
-
-                    if (count <= minimum) {
-                        /**
-                         * If this word contains at least one phoneme which was not tested at minimum of times, then the
-                         * word is important and will be "required".
-                         *
-                         * If all the phonemes tested by this word were already tested at minimum 2 times, so the word
-                         * doesn't would need to be here.
-                         */
-                        if (!wordsRequired.contains(c.getWord())) {
-                            wordsRequired.add(c.getWord());
-                        }
-                    }
-                }
-            });
+    /**
+     * Gets the words required like {@link #countWordsRequired(List, PhonemeCounter, boolean, int, boolean)}, but with
+     * the target phonemes of the given instrument.
+     *
+     * @param cases The cases to analyze.
+     * @param counter Counter of how many times each phoneme was tested. It's cleared before counting.
+     * @param splitConsonantClusters True - the consonant clusters will be transformed into 2 consonants phonemes.
+     * @param minimum The minimum of times that each phoneme must be reproduced.
+     * @param phoneticInventory True - will compute words required for phonetic inventory. False - it'll compute words
+     * required for phonemes testing (PCC-R).
+     * @param instrument The instrument.
+     * @return A list with the required words.
+     */
+    public static List<String> countWordsRequired(final List<KnownCase> cases, final PhonemeCounter counter,
+            boolean splitConsonantClusters, final int minimum, final boolean phoneticInventory,
+            final Instrument instrument) {
+        final int[] words = countWordIdsRequired(cases, counter, splitConsonantClusters, minimum, phoneticInventory,
+                instrument);
+        final List<String> wordsRequired = new ArrayList<>(words.length);
+        for (int word : words) {
+            wordsRequired.add(KnownCase.wordOf(word));
         }
-
         return wordsRequired;
     }
 
+    /**
+     * Gets the words required like
+     * {@link #countWordsRequired(List, PhonemeCounter, boolean, int, boolean, Instrument)}, but returns the indexes of
+     * the words in the default {@link WordCatalog}. The cases of words that are not in the instrument are ignored. The
+     * phonemes are counted by their ids, with the target phonemes of the instrument already split, and the required
+     * words are kept in a 128-bit mask, so no object is created for each case.
+     *
+     * @param cases The cases to analyze.
+     * @param counter Counter of how many times each phoneme was tested. It's cleared before counting.
+     * @param splitConsonantClusters True - the consonant clusters will be transformed into 2 consonants phonemes.
+     * @param minimum The minimum of times that each phoneme must be reproduced.
+     * @param phoneticInventory True - will compute words required for phonetic inventory. False - it'll compute words
+     * required for phonemes testing (PCC-R).
+     * @param instrument The instrument.
+     * @return The indexes of the required words, in the order they were required.
+     */
+    public static int[] countWordIdsRequired(final List<KnownCase> cases, final PhonemeCounter counter,
+            boolean splitConsonantClusters, final int minimum, final boolean phoneticInventory,
+            final Instrument instrument) {
+        // TODO: vai pegar somente as palavras que estão nos casos e não considerando todas as palavras do conjunto. Como estou trabalhando apenas com avaliações completas, isso não é um problema agora
+        if (cases == null || counter == null) {
+            return new int[0];
+        }
+        if (WordCatalog.getDefault().size() > WordMask.CAPACITY) {
+            throw new IllegalStateException("The catalog has more than " + WordMask.CAPACITY + " words.");
+        }
+        final int[] words = new int[Math.min(cases.size(), WordCatalog.getDefault().size())];
+        int count = 0;
+        final WordMask.Builder required = new WordMask.Builder();
+        final WordMask instrumentWords = instrument.getWordMask();
+
+        counter.clear();
+        for (KnownCase c : cases) {
+            if (!instrumentWords.contains(c.getWordIndex())) {
+                // the word is not in the instrument
+                continue;
+            }
+            /**
+             * c.getPhonemes() contains all the produced phonemes, so it's useful for us to get the phonetic inventory
+             * information. For a phoneme to be considered in phonetic inventory it must be produced a minimum of
+             * times. For PCC-R, only matters the number of times that a phoneme was tested, because with that we can
+             * calculate later the percentage of correct productions in Assessment. For that, it's good that a phoneme
+             * can be tested a minimum of times as well, to avoid false positive and negative cases.
+             *
+             * TODO: e se um fonema tiver 2 produções: correta e incorreta. Deveria ter uma palavra a mais pra
+             * desempatar...
+             */
+            /**
+             * If this word contains at least one phoneme which was not tested at minimum of times, then the word is
+             * important and will be "required".
+             *
+             * If all the phonemes tested by this word were already tested at minimum 2 times, so the word doesn't
+             * would need to be here.
+             */
+            int first = phoneticInventory
+                    ? countProduced(c, splitConsonantClusters, counter, minimum)
+                    : countTargetIds(c, splitConsonantClusters, counter, minimum, instrument);
+            if (first >= 0 && required.add(c.getWordIndex())) {
+                words[count++] = c.getWordIndex();
+            }
+        }
+
+        return count == words.length ? words : Arrays.copyOf(words, count);
+    }
+
     // TODO: mover esse método para SimulationUtils
     /**
      * Sorts the list with cases according with the given comparator.
@@ -305,55 +489,103 @@ public class SimulationWordsSequence {
      * @param comp {@link KnownCaseComparator} to use.
      */
     public static void sortList(final List<KnownCase> list, final KnownCaseComparator comp) {
+        sortList(list, comp, Defaults.getInstrument());
+    }
+
+    /**
+     * Sorts the list with cases according with the given comparator and the words of the given instrument.
+     *
+     * @param list List to sort.
+     * @param comp {@link KnownCaseComparator} to use.
+     * @param instrument The instrument.
+     */
+    public static void sortList(final List<KnownCase> list, final KnownCaseComparator comp,
+            final Instrument instrument) {
         if (list != null && comp != null) {
-            switch (comp) {
-                case EasyHardWords: {
-                    // sorting just to have the right indexes inside the list: [easiest, ..., hardest]
-                    list.sort(KnownCaseComparator.EasyWordsFirst.getComparator());
-                    // all the words
-                    final LinkedList<String> words = new LinkedList<>();
-                    for (int i = 0; i < list.size(); i++) {
-                        if (!words.contains(list.get(i).getWord())) {
-                            words.add(list.get(i).getWord());
-                        }
+            final int[] ranks = ranks(list, comp, instrument);
+            if (ranks != null) {
+                KnownCaseComparator.sort(list, ranks);
+            } else {
+                comp.sort(list, instrument);
+            }
+        }
+    }
+
+    /**
+     * Gets the order of the given cases like {@link #sortList(List, KnownCaseComparator, Instrument)}, without changing
+     * or copying the list. The same order can be used by many simulations of the same cases, like in
+     * {@link SimulationPlan}.
+     *
+     * @param list List with the cases.
+     * @param comp {@link KnownCaseComparator} to use or null to keep the order of the list.
+     * @param instrument The instrument.
+     * @return The indexes of the cases in the list, in the sorted order.
+     */
+    public static int[] order(final List<KnownCase> list, final KnownCaseComparator comp,
+            final Instrument instrument) {
+        if (comp == null) {
+            final int[] order = new int[list.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            return order;
+        }
+        final int[] ranks = ranks(list, comp, instrument);
+        return ranks != null ? KnownCaseComparator.order(list, ranks) : comp.order(list, instrument);
+    }
+
+    /**
+     * Builds the rank table to sort the given cases with the comparator, for the comparators that depend on the words
+     * in the list or on the productions of the cases.
+     *
+     * @return The rank table or null if the comparator uses its own table.
+     */
+    private static int[] ranks(final List<KnownCase> list, final KnownCaseComparator comp,
+            final Instrument instrument) {
+        switch (comp) {
+            case EasyHardWords: {
+                // all the words in the list: [easiest, ..., hardest]
+                final boolean[] present = new boolean[WordCatalog.getDefault().size()];
+                int count = 0;
+                for (KnownCase c : list) {
+                    if (c.getWordIndex() >= 0 && !present[c.getWordIndex()]) {
+                        present[c.getWordIndex()] = true;
+                        count++;
                     }
-                    /**
-                     * Sorts considering only the words that are in the list of cases, avoiding getting indexes from
-                     * global {@link Defaults#SORTED_WORDS}.
-                     */
-                    String[] easyHardWords = Defaults.getEasyHardWords(words.toArray(new String[0]));
-                    list.sort((KnownCase o1, KnownCase o2) -> {
-                        int indexOfo1 = Defaults.findIndexOf(o1.getWord(), easyHardWords);
-                        int indexOfo2 = Defaults.findIndexOf(o2.getWord(), easyHardWords);
-                        return indexOfo1 - indexOfo2;
-                    });
-                    break;
                 }
-                case BinaryTreeComparator: {
-                    final List<String> insertionOrder = new LinkedList<>();
-
-                    TreeUtils.buildSequenceOrder(Defaults.TREE.getRoot(), insertionOrder, list);
-
-                    /**
-                     * Sorts the list as insertion order in the tree. This means that the first word will be the middle
-                     * word in the tree (root node) and the next one will always be easier or harder than the previous
-                     * one according with the result from the user. The numbers represents the words indexes at
-                     * {@link Defaults#SORTED_WORDS}. Example: the case (41) was incorrect, so the next case to be
-                     * analyzed will be 20 (easier than 41); the case (20) was correct, so the next will be 31 (harder
-                     * than 20 and easier than 41); and so on. When the algorithm arrive in some leaf node, it starts to
-                     * returning back to parents nodes and visit the ones in the other side of its node parent.
-                     */
-                    list.sort((KnownCase o1, KnownCase o2) -> {
-                        int indexOfo1 = Defaults.findIndexOf(o1.getWord(), insertionOrder.toArray(new String[0]));
-                        int indexOfo2 = Defaults.findIndexOf(o2.getWord(), insertionOrder.toArray(new String[0]));
-                        return indexOfo1 - indexOfo2;
-                    });
-                    break;
+                final List<String> words = new ArrayList<>(count);
+                for (String word : instrument.getWords()) {
+                    int index = WordCatalog.getDefault().indexOf(word);
+                    if (index >= 0 && present[index]) {
+                        // the word is added only once
+                        present[index] = false;
+                        words.add(word);
+                    }
                 }
-                default:
-                    list.sort(comp.getComparator());
-                    break;
+                /**
+                 * Sorts considering only the words that are in the list of cases, avoiding getting indexes from
+                 * global {@link Defaults#SORTED_WORDS}.
+                 */
+                return KnownCaseComparator.ranks(Defaults.getEasyHardWords(words.toArray(new String[0])), false);
+            }
+            case BinaryTreeComparator: {
+                final List<String> insertionOrder = new ArrayList<>();
+
+                TreeUtils.buildSequenceOrder(instrument.getTree().getRoot(), insertionOrder, list);
+
+                /**
+                 * Sorts the list as insertion order in the tree. This means that the first word will be the middle
+                 * word in the tree (root node) and the next one will always be easier or harder than the previous
+                 * one according with the result from the user. The numbers represents the words indexes at
+                 * {@link Defaults#SORTED_WORDS}. Example: the case (41) was incorrect, so the next case to be
+                 * analyzed will be 20 (easier than 41); the case (20) was correct, so the next will be 31 (harder
+                 * than 20 and easier than 41); and so on. When the algorithm arrive in some leaf node, it starts to
+                 * returning back to parents nodes and visit the ones in the other side of its node parent.
+                 */
+                return KnownCaseComparator.ranks(insertionOrder.toArray(new String[0]), false);
             }
+            default:
+                return null;
         }
     }
 
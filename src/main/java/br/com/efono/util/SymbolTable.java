@@ -0,0 +1,113 @@
+package br.com.efono.util;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Global table of the consonant symbols found in the transcriptions. Each symbol receives a dense and stable
+ * <code>int</code> id the first time it is seen, so the phonemes can be handled without creating strings. The ids are
+ * never reused nor removed, even if the transcription tables are reloaded.
+ *
+ * @author João Bolsson (joaovictorbolsson@gmail.com)
+ * @version 2026, Oct 18.
+ */
+public final class SymbolTable {
+
+    /**
+     * Ids + 1 of the single char symbols, 0 when the char has no id yet.
+     */
+    private static final int[] CHAR_IDS = new int[Character.MAX_VALUE + 1];
+
+    private static final Map<String, Integer> IDS = new ConcurrentHashMap<>();
+
+    private static volatile String[] symbols = new String[64];
+    private static int size = 0;
+
+    private SymbolTable() {
+    }
+
+    /**
+     * Gets the id of the given symbol, registering it if needed.
+     *
+     * @param symbol The symbol.
+     * @return The symbol id.
+     */
+    public static int idOf(final String symbol) {
+        if (symbol.length() == 1) {
+            return idOf(symbol.charAt(0));
+        }
+        Integer id = IDS.get(symbol);
+        if (id != null) {
+            return id;
+        }
+        synchronized (SymbolTable.class) {
+            id = IDS.get(symbol);
+            return id != null ? id : register(symbol);
+        }
+    }
+
+    /**
+     * Gets the id of the given single char symbol, registering it if needed. It doesn't allocate anything when the
+     * symbol already has an id.
+     *
+     * @param symbol The symbol.
+     * @return The symbol id.
+     */
+    public static int idOf(final char symbol) {
+        int id = CHAR_IDS[symbol];
+        if (id > 0) {
+            return id - 1;
+        }
+        synchronized (SymbolTable.class) {
+            id = CHAR_IDS[symbol];
+            if (id > 0) {
+                return id - 1;
+            }
+            id = register(String.valueOf(symbol));
+            CHAR_IDS[symbol] = id + 1;
+            return id;
+        }
+    }
+
+    private static int register(final String symbol) {
+        String[] current = symbols;
+        if (size == current.length) {
+            current = Arrays.copyOf(current, current.length * 2);
+        }
+        int id = size++;
+        current[id] = symbol;
+        IDS.put(symbol, id);
+        // publishing the array again, so the new symbol is visible to all threads
+        symbols = current;
+        return id;
+    }
+
+    /**
+     * Gets the symbol with the given id.
+     *
+     * @param id Symbol id.
+     * @return The symbol.
+     * @throws IllegalArgumentException If there is no symbol with the given id.
+     */
+    public static String symbolOf(final int id) {
+        String[] current = symbols;
+        if (id >= 0 && id < current.length && current[id] != null) {
+            return current[id];
+        }
+        synchronized (SymbolTable.class) {
+            if (id < 0 || id >= size) {
+                throw new IllegalArgumentException("There is no symbol with id " + id);
+            }
+            return symbols[id];
+        }
+    }
+
+    /**
+     * @return The number of symbols with an id. All the ids are lower than this value.
+     */
+    public static synchronized int size() {
+        return size;
+    }
+
+}
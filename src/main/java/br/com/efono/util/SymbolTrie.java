@@ -0,0 +1,162 @@
+package br.com.efono.util;
+
+import java.util.Arrays;
+
+/**
+ * A trie with phoneme symbols represented by more than one char, like the consonant clusters, the labialization
+ * phonemes and the special consonants. It is used to segment a sequence of consonant chars by longest match in a
+ * single scan, so there is no limit in the number of symbols that can be registered.
+ *
+ * @author João Bolsson (joaovictorbolsson@gmail.com)
+ * @version 2026, Oct 18.
+ */
+public final class SymbolTrie {
+
+    private final Node root = new Node();
+    private int size = 0;
+
+    /**
+     * Creates a trie with the given symbols.
+     *
+     * @param symbols Symbols to add.
+     */
+    public SymbolTrie(final String[]... symbols) {
+        for (String[] array : symbols) {
+            for (String s : array) {
+                add(s);
+            }
+        }
+    }
+
+    /**
+     * Adds a symbol in this trie.
+     *
+     * @param symbol Symbol to add.
+     */
+    public void add(final String symbol) {
+        if (symbol == null || symbol.isEmpty()) {
+            throw new IllegalArgumentException("Symbol can't be null or empty.");
+        }
+        Node node = root;
+        for (int i = 0; i < symbol.length(); i++) {
+            node = node.getOrCreate(symbol.charAt(i));
+        }
+        if (node.symbol == null) {
+            size++;
+        }
+        node.symbol = symbol;
+        node.id = SymbolTable.idOf(symbol);
+    }
+
+    /**
+     * @return The number of symbols in this trie.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the given string is a symbol in this trie.
+     *
+     * @param symbol The symbol.
+     * @return True - the symbol is in this trie, otherwise - false.
+     */
+    public boolean contains(final String symbol) {
+        return symbol != null && match(symbol.toCharArray(), 0, symbol.length()) == symbol.length();
+    }
+
+    /**
+     * Finds the longest symbol in the trie that starts at the given position.
+     *
+     * @param chars Chars to look in.
+     * @param start Start position (inclusive).
+     * @param end End position (exclusive).
+     * @return The length of the longest symbol found or 0 if there is no symbol at the given position.
+     */
+    public int match(final char[] chars, final int start, final int end) {
+        Node node = root;
+        int longest = 0;
+        for (int i = start; i < end; i++) {
+            node = node.get(chars[i]);
+            if (node == null) {
+                break;
+            }
+            if (node.symbol != null) {
+                longest = i - start + 1;
+            }
+        }
+        return longest;
+    }
+
+    /**
+     * Gets the symbol with the given length at the given position. This avoids creating new strings for the symbols
+     * that are in the trie.
+     *
+     * @param chars Chars to look in.
+     * @param start Start position (inclusive).
+     * @param length Symbol length.
+     * @return The symbol in the trie or null if it's not in the trie.
+     */
+    public String symbolAt(final char[] chars, final int start, final int length) {
+        Node node = nodeAt(chars, start, length);
+        return node == null ? null : node.symbol;
+    }
+
+    /**
+     * Gets the id of the symbol with the given length at the given position.
+     *
+     * @param chars Chars to look in.
+     * @param start Start position (inclusive).
+     * @param length Symbol length.
+     * @return The symbol id in {@link SymbolTable} or -1 if it's not in the trie.
+     */
+    public int idAt(final char[] chars, final int start, final int length) {
+        Node node = nodeAt(chars, start, length);
+        return node == null || node.symbol == null ? -1 : node.id;
+    }
+
+    private Node nodeAt(final char[] chars, final int start, final int length) {
+        Node node = root;
+        for (int i = start; i < start + length && node != null; i++) {
+            node = node.get(chars[i]);
+        }
+        return node;
+    }
+
+    /**
+     * A node in the trie. The children are kept in sorted arrays: there are only a few of them.
+     */
+    private static final class Node {
+
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private String symbol;
+        private int id = -1;
+
+        private Node get(final char c) {
+            int index = Arrays.binarySearch(keys, c);
+            return index >= 0 ? children[index] : null;
+        }
+
+        private Node getOrCreate(final char c) {
+            int index = Arrays.binarySearch(keys, c);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertion = -(index + 1);
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertion);
+            System.arraycopy(children, 0, newChildren, 0, insertion);
+            System.arraycopy(keys, insertion, newKeys, insertion + 1, keys.length - insertion);
+            System.arraycopy(children, insertion, newChildren, insertion + 1, children.length - insertion);
+            Node node = new Node();
+            newKeys[insertion] = c;
+            newChildren[insertion] = node;
+            keys = newKeys;
+            children = newChildren;
+            return node;
+        }
+    }
+
+}
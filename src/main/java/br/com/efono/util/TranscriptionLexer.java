@@ -0,0 +1,530 @@
+package br.com.efono.util;
+
+import br.com.efono.model.Phoneme;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang3.StringEscapeUtils;
+
+/**
+ * Lexer for phonetic transcriptions. All the tables ({@link Util#SPECIAL}, {@link Util#EQUIVALENT_PHONEMES},
+ * {@link Phoneme#VOWELS}, {@link Phoneme#SEMI_VOWELS}, ...) are compiled once when the lexer is created, so each
+ * transcription is cleaned in a single pass over its characters and then segmented in a second pass over the clean
+ * symbols, without any regular expression.
+ *
+ * The transcription is cleaned, every vowel and semi vowel splits the consonant chars in chunks and each chunk is
+ * segmented in symbols by the longest match in a {@link SymbolTrie} with {@link Phoneme#CONSONANT_CLUSTERS},
+ * {@link Phoneme#LABIALIZATION} and {@link Phoneme#SPECIAL_CONSONANTS}. The first symbol of the first chunk is the
+ * Initial Onset, the last symbol of the last chunk is the Final Coda and the other ones are classified by
+ * {@link #getMedialPhonemes(String)}.
+ *
+ * If {@link Util#SPECIAL} or {@link Util#EQUIVALENT_PHONEMES} are changed, then {@link Util#reloadTables()} must be
+ * called to rebuild the lexer.
+ *
+ * @author João Bolsson (joaovictorbolsson@gmail.com)
+ * @version 2026, Oct 18.
+ */
+public final class TranscriptionLexer {
+
+    /**
+     * Classes of the symbols found in a transcription.
+     */
+    public enum SymbolClass {
+
+        /**
+         * A vowel. See {@link Phoneme#VOWELS}.
+         */
+        VOWEL,
+        /**
+         * A semi vowel. See {@link Phoneme#SEMI_VOWELS}.
+         */
+        SEMI_VOWEL,
+        /**
+         * Any symbol that is not classified in other class.
+         */
+        CONSONANT,
+        /**
+         * A symbol that modifies the previous one, like the nasalization in /s̃/ or the labialization in /kʷ/. When it
+         * is found alone it's handled as a consonant symbol.
+         */
+        DIACRITIC,
+        /**
+         * Symbols that don't represent a phoneme and will be removed. See {@link Util#SPECIAL}.
+         */
+        NOISE
+    }
+
+    private static final SymbolClass[] CLASSES = SymbolClass.values();
+
+    private static volatile TranscriptionLexer instance;
+
+    /**
+     * The class of each char in the Basic Multilingual Plane, indexed by {@link SymbolClass#ordinal()}.
+     */
+    private final byte[] classes = new byte[Character.MAX_VALUE + 1];
+
+    /**
+     * Vowels and semi vowels represented by more than one char, indexed by their first char. The longest ones come
+     * first.
+     */
+    private final char[][][] sequences = new char[Character.MAX_VALUE + 1][][];
+
+    /**
+     * True for the chars that are, by themselves, a vowel in {@link Phoneme#VOWELS}.
+     */
+    private final boolean[] singleVowels = new boolean[Character.MAX_VALUE + 1];
+
+    private final char[][] equivalentKeys;
+    private final char[][] equivalentValues;
+
+    private final SymbolTrie trie;
+
+    /**
+     * True for the ids in {@link SymbolTable} of {@link Phoneme#CONSONANT_CLUSTERS}.
+     */
+    private final boolean[] clusters;
+
+    private TranscriptionLexer() {
+        this(Phoneme.LABIALIZATION, Phoneme.SPECIAL_CONSONANTS);
+    }
+
+    /**
+     * Creates a lexer with other special consonants. There is no limit in the number of symbols, they are all
+     * segmented by the longest match in the trie.
+     *
+     * @param labialization Labialized consonants, like {@link Phoneme#LABIALIZATION}.
+     * @param specialConsonants Other consonants represented by more than one char, like
+     * {@link Phoneme#SPECIAL_CONSONANTS}.
+     */
+    TranscriptionLexer(final String[] labialization, final String[] specialConsonants) {
+        trie = new SymbolTrie(Phoneme.CONSONANT_CLUSTERS, labialization, specialConsonants);
+        Arrays.fill(classes, (byte) SymbolClass.CONSONANT.ordinal());
+        for (char c = 0; c <= ' '; c++) {
+            classes[c] = (byte) SymbolClass.NOISE.ordinal();
+        }
+
+        for (String special : Util.SPECIAL) {
+            // the entries are escaped regular expressions of a single symbol: "\\[", "\\.", ...
+            for (char c : special.replace("\\", "").toCharArray()) {
+                classes[c] = (byte) SymbolClass.NOISE.ordinal();
+            }
+        }
+
+        register(Phoneme.VOWELS, SymbolClass.VOWEL);
+        register(Phoneme.SEMI_VOWELS, SymbolClass.SEMI_VOWEL);
+        for (String vowel : Phoneme.VOWELS) {
+            if (vowel.length() == 1) {
+                singleVowels[vowel.charAt(0)] = true;
+            }
+        }
+
+        int maxId = -1;
+        for (String cluster : Phoneme.CONSONANT_CLUSTERS) {
+            maxId = Math.max(maxId, SymbolTable.idOf(cluster));
+        }
+        clusters = new boolean[maxId + 1];
+        for (String cluster : Phoneme.CONSONANT_CLUSTERS) {
+            clusters[SymbolTable.idOf(cluster)] = true;
+        }
+
+        for (String phoneme : labialization) {
+            markDiacritics(phoneme);
+        }
+        for (String phoneme : specialConsonants) {
+            markDiacritics(phoneme);
+        }
+
+        equivalentKeys = new char[Util.EQUIVALENT_PHONEMES.size()][];
+        equivalentValues = new char[Util.EQUIVALENT_PHONEMES.size()][];
+        Iterator<Map.Entry<String, String>> it = Util.EQUIVALENT_PHONEMES.entrySet().iterator();
+        for (int i = 0; it.hasNext(); i++) {
+            Map.Entry<String, String> next = it.next();
+            equivalentKeys[i] = next.getKey().toCharArray();
+            equivalentValues[i] = next.getValue().toCharArray();
+        }
+    }
+
+    private void register(final String[] symbols, final SymbolClass symbolClass) {
+        for (String s : symbols) {
+            char first = s.charAt(0);
+            if (s.length() == 1) {
+                classes[first] = (byte) symbolClass.ordinal();
+            } else {
+                char[][] current = sequences[first] == null ? new char[0][] : sequences[first];
+                char[][] updated = Arrays.copyOf(current, current.length + 1);
+                updated[current.length] = s.toCharArray();
+                // the longest sequences must be tried first
+                Arrays.sort(updated, (a, b) -> b.length - a.length);
+                sequences[first] = updated;
+                markDiacritics(s);
+            }
+        }
+    }
+
+    private void markDiacritics(final String symbol) {
+        for (int i = 1; i < symbol.length(); i++) {
+            char c = symbol.charAt(i);
+            if (classes[c] == SymbolClass.CONSONANT.ordinal()) {
+                classes[c] = (byte) SymbolClass.DIACRITIC.ordinal();
+            }
+        }
+    }
+
+    /**
+     * Gets the lexer built with the current tables.
+     *
+     * @return The lexer instance.
+     */
+    public static TranscriptionLexer getInstance() {
+        TranscriptionLexer lexer = instance;
+        if (lexer == null) {
+            synchronized (TranscriptionLexer.class) {
+                lexer = instance;
+                if (lexer == null) {
+                    lexer = new TranscriptionLexer();
+                    instance = lexer;
+                }
+            }
+        }
+        return lexer;
+    }
+
+    /**
+     * Discards the current lexer, so the next call to {@link #getInstance()} will compile the tables again.
+     */
+    static void reload() {
+        synchronized (TranscriptionLexer.class) {
+            instance = null;
+        }
+    }
+
+    /**
+     * Gets the class of the given symbol.
+     *
+     * @param symbol The symbol.
+     * @return The symbol class.
+     */
+    public SymbolClass classify(final char symbol) {
+        return CLASSES[classes[symbol]];
+    }
+
+    /**
+     * Clean transcription and removes anything that doesn't represent a phoneme. See
+     * {@link Util#cleanTranscription(String)}.
+     *
+     * @param transcription The given transcription.
+     * @return The transcription containing only characters representing a phoneme.
+     */
+    public String clean(final String transcription) {
+        Symbols symbols = clean(transcription, new Symbols());
+        return new String(symbols.chars, 0, symbols.length);
+    }
+
+    /**
+     * Cleans the transcription into the given buffer.
+     *
+     * @param transcription The given transcription.
+     * @param symbols Buffer to receive the clean symbols.
+     * @return The given buffer.
+     */
+    private Symbols clean(final String transcription, final Symbols symbols) {
+        symbols.length = 0;
+        if (transcription != null) {
+            String source = transcription;
+            if (source.indexOf('\\') >= 0) {
+                source = StringEscapeUtils.unescapeJava(source);
+            }
+            symbols.ensureCapacity(source.length());
+
+            for (int i = 0; i < source.length(); i++) {
+                char c = source.charAt(i);
+                if (classes[c] != SymbolClass.NOISE.ordinal()) {
+                    symbols.append(c);
+                    replaceEquivalent(symbols);
+                }
+            }
+        }
+        return symbols;
+    }
+
+    private void replaceEquivalent(final Symbols symbols) {
+        for (int k = 0; k < equivalentKeys.length; k++) {
+            char[] key = equivalentKeys[k];
+            if (endsWith(symbols.chars, 0, symbols.length, key)) {
+                symbols.length -= key.length;
+                for (char c : equivalentValues[k]) {
+                    symbols.append(c);
+                }
+                return;
+            }
+        }
+    }
+
+    private static boolean endsWith(final char[] buffer, final int start, final int end, final char[] suffix) {
+        if (suffix.length == 0 || end - start < suffix.length) {
+            return false;
+        }
+        int offset = end - suffix.length;
+        for (int i = 0; i < suffix.length; i++) {
+            if (buffer[offset + i] != suffix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the length of the vowel or semi vowel at the given position.
+     *
+     * @return The length of the vowel or 0 if there is no vowel in the position.
+     */
+    private int vowelAt(final char[] buffer, final int position, final int length) {
+        char c = buffer[position];
+        char[][] candidates = sequences[c];
+        if (candidates != null) {
+            for (char[] candidate : candidates) {
+                if (position + candidate.length <= length) {
+                    boolean match = true;
+                    for (int i = 1; i < candidate.length && match; i++) {
+                        match = buffer[position + i] == candidate[i];
+                    }
+                    if (match) {
+                        return candidate.length;
+                    }
+                }
+            }
+        }
+        int symbolClass = classes[c];
+        if (symbolClass == SymbolClass.VOWEL.ordinal() || symbolClass == SymbolClass.SEMI_VOWEL.ordinal()) {
+            return 1;
+        }
+        return 0;
+    }
+
+    /**
+     * Gets consonant phonemes from the given transcription with their respective position at the word. See
+     * {@link Util#getConsonantPhonemes(String)}.
+     *
+     * @param transcription Given transcription.
+     * @return An ordered list with the consonant phonemes.
+     */
+    public List<Phoneme> getConsonantPhonemes(final String transcription) {
+        if (isBlank(transcription)) {
+            return Collections.emptyList();
+        }
+        final List<Phoneme> list = new ArrayList<>();
+        getConsonantPhonemes(transcription, (symbol, position)
+                -> list.add(Phoneme.of(symbol, position)));
+        return list;
+    }
+
+    /**
+     * Extracts the consonant phonemes from the given transcription into the given sink, in the same order of
+     * {@link #getConsonantPhonemes(String)}. Once the buffers of the current thread are big enough for the
+     * transcriptions, nothing is allocated (except for escaped transcriptions, which must be unescaped first).
+     *
+     * @param transcription Given transcription.
+     * @param sink Receives the phonemes.
+     */
+    public void getConsonantPhonemes(final String transcription, final PhonemeSink sink) {
+        if (isBlank(transcription)) {
+            return;
+        }
+        Scratch scratch = Scratch.acquire();
+        try {
+            Symbols symbols = clean(transcription, scratch.symbols);
+            extract(symbols.chars, symbols.length, scratch.bounds(symbols.length + 1), sink);
+        } finally {
+            scratch.release();
+        }
+    }
+
+    private void extract(final char[] buffer, final int length, final int[] bounds, final PhonemeSink sink) {
+        if (length == 0) {
+            return;
+        }
+
+        // a semi vowel at the beginning is read as the Initial Onset, the consonants will be read with the first chunk
+        boolean initialOnset = !singleVowels[buffer[0]];
+        if (initialOnset && vowelAt(buffer, 0, length) > 0) {
+            sink.accept(SymbolTable.idOf(buffer[0]), Phoneme.POSITION.OI);
+            initialOnset = false;
+        }
+
+        int finalCoda = -1;
+        int chunkStart = -1;
+        int position = 0;
+        while (position <= length) {
+            int vowel = position < length ? vowelAt(buffer, position, length) : 1;
+            if (vowel > 0) {
+                if (chunkStart >= 0) {
+                    int count = segment(buffer, chunkStart, position, bounds);
+                    int first = 0;
+                    int last = count;
+                    if (chunkStart == 0 && initialOnset) {
+                        int onset = symbolId(buffer, bounds[0], bounds[1]);
+                        sink.accept(onset, isCluster(onset) ? Phoneme.POSITION.OCI : Phoneme.POSITION.OI);
+                        first++;
+                    }
+                    if (position == length && last > first) {
+                        // the final coda will be added only at the end
+                        last--;
+                        finalCoda = symbolId(buffer, bounds[last], bounds[last + 1]);
+                    }
+                    addSymbols(buffer, bounds, first, last, sink);
+                    chunkStart = -1;
+                }
+                position += vowel;
+            } else {
+                if (chunkStart < 0) {
+                    chunkStart = position;
+                }
+                position++;
+            }
+        }
+
+        // Final Coda must be added only at the end, because it keep the same order of the phonemes in transcription
+        if (finalCoda >= 0) {
+            sink.accept(finalCoda, Phoneme.POSITION.CF);
+        }
+    }
+
+    /**
+     * Gets the phonemes in the given consonant symbols found between two vowels, with their respective position. See
+     * {@link Util#checkPhoneme(String)}.
+     *
+     * @param consonants Consonant symbols.
+     * @return An ordered list with the consonant phonemes.
+     */
+    public List<Phoneme> getMedialPhonemes(final String consonants) {
+        final List<Phoneme> list = new ArrayList<>();
+        if (consonants != null && !consonants.isEmpty()) {
+            char[] buffer = consonants.toCharArray();
+            int[] bounds = new int[buffer.length + 1];
+            int count = segment(buffer, 0, buffer.length, bounds);
+            addSymbols(buffer, bounds, 0, count, (symbol, position)
+                    -> list.add(Phoneme.of(symbol, position)));
+        }
+        return list;
+    }
+
+    /**
+     * Splits the given consonant chars in symbols by the longest match in the {@link SymbolTrie}. The chars that
+     * don't start a known symbol are symbols by themselves.
+     *
+     * @return The number of symbols found. The symbol <code>i</code> goes from <code>bounds[i]</code> to
+     * <code>bounds[i + 1]</code>.
+     */
+    private int segment(final char[] buffer, final int start, final int end, final int[] bounds) {
+        int count = 0;
+        int position = start;
+        while (position < end) {
+            bounds[count++] = position;
+            position += Math.max(1, trie.match(buffer, position, end));
+        }
+        bounds[count] = end;
+        return count;
+    }
+
+    /**
+     * Classifies the consonant symbols between two vowels: a consonant cluster is always a Medial Complex Onset, the
+     * last symbol is a Medial Onset and the first one, when followed by other symbols, is a Medial Coda (never a
+     * Final Coda, because it is at the end of the word).
+     */
+    private void addSymbols(final char[] buffer, final int[] bounds, final int first, final int last,
+            final PhonemeSink sink) {
+        for (int i = first; i < last; i++) {
+            int symbol = symbolId(buffer, bounds[i], bounds[i + 1]);
+            if (isCluster(symbol)) {
+                sink.accept(symbol, Phoneme.POSITION.OCME);
+            } else if (i == first && i + 1 < last) {
+                sink.accept(symbol, Phoneme.POSITION.CM);
+            } else {
+                // case of bisʃkɛtə, which /ʃ/ is a Medial Onset and not a consonant cluster.
+                sink.accept(symbol, Phoneme.POSITION.OM);
+            }
+        }
+    }
+
+    /**
+     * Gets the id of a symbol found by {@link #segment(char[], int, int, int[])}: a single char or a symbol in the
+     * trie.
+     */
+    private int symbolId(final char[] buffer, final int start, final int end) {
+        return end - start == 1 ? SymbolTable.idOf(buffer[start]) : trie.idAt(buffer, start, end - start);
+    }
+
+    private boolean isCluster(final int symbol) {
+        return symbol < clusters.length && clusters[symbol];
+    }
+
+    /**
+     * Growable buffer with the clean symbols of a transcription.
+     */
+    private static final class Symbols {
+
+        private char[] chars = new char[32];
+        private int length;
+
+        private void ensureCapacity(final int capacity) {
+            if (chars.length < capacity) {
+                chars = Arrays.copyOf(chars, Math.max(capacity, chars.length * 2));
+            }
+        }
+
+        private void append(final char c) {
+            ensureCapacity(length + 1);
+            chars[length++] = c;
+        }
+    }
+
+    /**
+     * Buffers reused by the calls in the same thread.
+     */
+    private static final class Scratch {
+
+        private static final ThreadLocal<Scratch> CURRENT = ThreadLocal.withInitial(Scratch::new);
+
+        private final Symbols symbols = new Symbols();
+        private int[] bounds = new int[33];
+        private boolean inUse = false;
+
+        /**
+         * Gets the buffers of the current thread. A sink that calls the lexer again receives new buffers.
+         */
+        private static Scratch acquire() {
+            Scratch scratch = CURRENT.get();
+            if (scratch.inUse) {
+                scratch = new Scratch();
+            }
+            scratch.inUse = true;
+            return scratch;
+        }
+
+        private void release() {
+            inUse = false;
+        }
+
+        private int[] bounds(final int capacity) {
+            if (bounds.length < capacity) {
+                bounds = new int[Math.max(capacity, bounds.length * 2)];
+            }
+            return bounds;
+        }
+    }
+
+    private static boolean isBlank(final String str) {
+        if (str != null) {
+            for (int i = 0; i < str.length(); i++) {
+                if (str.charAt(i) > ' ') {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+}
@@ -3,23 +3,22 @@ package br.com.efono.util;
 import br.com.efono.model.Assessment;
 import br.com.efono.model.KnownCase;
 import br.com.efono.model.Phoneme;
+import br.com.efono.model.PhonemeSet;
 import static br.com.efono.model.Phoneme.CONSONANT_CLUSTERS;
 import static br.com.efono.model.Phoneme.SEMI_VOWELS;
 import static br.com.efono.model.Phoneme.VOWELS;
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileReader;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.NoSuchFileException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.apache.commons.lang3.StringEscapeUtils;
 
 /**
@@ -30,7 +29,7 @@ import org.apache.commons.lang3.StringEscapeUtils;
 public class Util {
 
     /**
-     * Special characters found on transcriptions.
+     * Special characters found on transcriptions. After changing it, call {@link #reloadTables()}.
      */
     public static final String[] SPECIAL = new String[]{"\\[", "\\'", "\"", "\\]", "\\.", "\\'", "\\‘", "\\’", "\\ʼ",
         "\\´", "\\ø"};
@@ -38,7 +37,7 @@ public class Util {
     /**
      * Map of equivalent phonemes. The key phoneme should be replaced by the value when found in a transcription.
      * Usually, this happens when there is a mistake from the user at the time of doing the transcription, and they can
-     * insert the 'key' phoneme instead of the 'value'.
+     * insert the 'key' phoneme instead of the 'value'. After changing it, call {@link #reloadTables()}.
      */
     public static final Map<String, String> EQUIVALENT_PHONEMES = new HashMap<>();
 
@@ -46,6 +45,21 @@ public class Util {
         EQUIVALENT_PHONEMES.put("nh", "ɲ");
     }
 
+    /**
+     * The parts of each one of {@link Phoneme#CONSONANT_CLUSTERS} at the Initial and Medial Complex Onsets.
+     */
+    private static final PhonemeSet[] CLUSTERS_PARTS_OCI = new PhonemeSet[CONSONANT_CLUSTERS.length];
+    private static final PhonemeSet[] CLUSTERS_PARTS_OCME = new PhonemeSet[CONSONANT_CLUSTERS.length];
+
+    static {
+        for (int i = 0; i < CONSONANT_CLUSTERS.length; i++) {
+            CLUSTERS_PARTS_OCI[i] = new PhonemeSet(
+                    Phoneme.of(CONSONANT_CLUSTERS[i], Phoneme.POSITION.OCI).splitPhonemes());
+            CLUSTERS_PARTS_OCME[i] = new PhonemeSet(
+                    Phoneme.of(CONSONANT_CLUSTERS[i], Phoneme.POSITION.OCME).splitPhonemes());
+        }
+    }
+
     /**
      * Read all the transcriptions from file. Each line must contains a single transcription.
      *
@@ -56,22 +70,15 @@ public class Util {
         System.out.println("Reading transcriptions from file: " + file);
         final List<String> list = new ArrayList<>();
         if (file != null) {
-            try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-                // each line has a transcription from database
-                String line = reader.readLine();
-
-                while (line != null) {
-                    if (!line.trim().isEmpty()) {
-                        list.add(StringEscapeUtils.unescapeJava(line));
-                    }
-
-                    line = reader.readLine();
-                }
+            // each line has a transcription from database
+            try (Stream<String> lines = FileUtils.lines(file)) {
+                list.addAll(lines.parallel().filter(line -> !line.trim().isEmpty())
+                        .map(StringEscapeUtils::unescapeJava).collect(Collectors.toList()));
                 System.out.println("Finish. Lines read: " + list.size());
-            } catch (final FileNotFoundException ex) {
+            } catch (final NoSuchFileException ex) {
                 // TODO: substituir por sistema de logs
                 System.out.println("File " + file + " not found: " + ex);
-            } catch (IOException ex) {
+            } catch (final IOException | UncheckedIOException ex) {
                 System.out.println("Couldn't read file " + file + ": " + ex);
             }
         }
@@ -86,25 +93,7 @@ public class Util {
      * @return The transcription containing only characters representing a phoneme.
      */
     public static String cleanTranscription(final String transcription) {
-        String clean = StringEscapeUtils.unescapeJava(transcription);
-        if (clean != null) {
-            // remove double spaces
-            clean = clean.trim().replaceAll(" +", "");
-
-            // remove special characters
-            for (String special : SPECIAL) {
-                clean = clean.replaceAll(special, "");
-            }
-
-            Iterator<Map.Entry<String, String>> it = EQUIVALENT_PHONEMES.entrySet().iterator();
-            while (it.hasNext()) {
-                Map.Entry<String, String> next = it.next();
-                clean = clean.replaceAll(next.getKey(), next.getValue());
-            }
-
-            return clean;
-        }
-        return "";
+        return TranscriptionLexer.getInstance().clean(transcription);
     }
 
     /**
@@ -119,9 +108,9 @@ public class Util {
             // if the first letter is a vowel, then Initial Onset doesn't exists here.
             if (!Arrays.asList(VOWELS).contains(clean.substring(0, 1))) {
                 if (Arrays.asList(CONSONANT_CLUSTERS).contains(clean.substring(0, 2))) {
-                    return new Phoneme(clean.substring(0, 2), Phoneme.POSITION.OCI);
+                    return Phoneme.of(clean.substring(0, 2), Phoneme.POSITION.OCI);
                 }
-                return new Phoneme(clean.substring(0, 1), Phoneme.POSITION.OI);
+                return Phoneme.of(clean.substring(0, 1), Phoneme.POSITION.OI);
             }
         }
         return null;
@@ -148,14 +137,14 @@ public class Util {
 
         for (String c : Phoneme.SPECIAL_CONSONANTS) {
             if (clean.endsWith(c)) {
-                return new Phoneme(c, Phoneme.POSITION.CF);
+                return Phoneme.of(c, Phoneme.POSITION.CF);
             }
         }
 
         String phoneme = clean.substring(clean.length() - 1);
         // if the final phoneme of the transcription is a consonant, then it's a Final Coda
         // TODO: testar somente codas finais válidas? (s) e (r)? quais são?
-        return new Phoneme(phoneme, Phoneme.POSITION.CF);
+        return Phoneme.of(phoneme, Phoneme.POSITION.CF);
     }
 
     /**
@@ -183,106 +172,12 @@ public class Util {
      */
     public static Phoneme[] checkPhoneme(final String phonemeTarget) {
         String phoneme = phonemeTarget;
-        final List<Phoneme> list = new ArrayList<>();
         if (phoneme != null) {
-            phoneme = StringEscapeUtils.unescapeJava(phoneme); // just in case...
-            phoneme = phoneme.trim();
-            if (!phoneme.trim().isEmpty()) {
-                // TODO: ter uma lista de fonemas consonantais válidos? existe algum pacote com esses fonemas? ver Phon
-                if (phoneme.length() == 1 || Arrays.asList(Phoneme.LABIALIZATION).contains(phoneme)
-                        || Arrays.asList(Phoneme.SPECIAL_CONSONANTS).contains(phoneme)) {
-                    list.add(new Phoneme(phoneme, Phoneme.POSITION.OM));
-                } else if (Arrays.asList(CONSONANT_CLUSTERS).contains(phoneme)) {
-                    list.add(new Phoneme(phoneme, Phoneme.POSITION.OCME));
-                } else {
-                    // the array has an inconsistensy. Treating it here...
-
-                    /**
-                     * some possibilities: ngʷ skɾ sʃk kɾʧ.
-                     */
-                    if (phoneme.length() == 3) {
-                        // treating kɾʧ: consonant cluster at the beggining: si’kɾʧi.
-                        for (String cluster : CONSONANT_CLUSTERS) {
-                            if (phoneme.startsWith(cluster)) {
-                                list.add(new Phoneme(cluster, Phoneme.POSITION.OCME));
-                                list.add(new Phoneme(phoneme.substring(cluster.length()), Phoneme.POSITION.OM));
-                                phoneme = "";
-                            }
-                        }
-                    }
-
-                    if (phoneme.length() > 0) {
-                        // always CM, because CF is at the end of the word.
-                        list.add(new Phoneme(phoneme.substring(0, 1), Phoneme.POSITION.CM));
-
-                        Phoneme next = new Phoneme(phoneme.substring(1));
-
-                        /**
-                         * The next phoneme can be only OM/OCME, because OI and OCME must be at the beginning of the
-                         * word, and codas it's not the case (it was just read before).
-                         */
-                        if (next.getPhoneme().length() == 1
-                                || Arrays.asList(Phoneme.LABIALIZATION).contains(next.getPhoneme())
-                                || Arrays.asList(Phoneme.SPECIAL_CONSONANTS).contains(next.getPhoneme())) {
-                            next.setPosition(Phoneme.POSITION.OM);
-                        } else {
-                            /**
-                             * Checks if the phoneme is a valid consonant cluster. If it's not, then split in two (and
-                             * only two) Medial Onsets.
-                             *
-                             * Case of bisʃkɛtə, which /ʃ/ is a Medial Onset and not a consonant cluster.
-                             */
-                            if (next.getPhoneme().length() == 2
-                                    && !Arrays.asList(Phoneme.CONSONANT_CLUSTERS).contains(next.getPhoneme())) {
-                                Arrays.asList(next.getPhoneme().split("")).forEach(phon -> {
-                                    list.add(new Phoneme(phon, Phoneme.POSITION.OM));
-                                });
-                                return list.toArray(new Phoneme[list.size()]);
-                            }
-
-                            next.setPosition(Phoneme.POSITION.OCME);
-                        }
-
-                        list.add(next);
-                    }
-                }
-            }
+            phoneme = StringEscapeUtils.unescapeJava(phoneme).trim(); // just in case...
+            List<Phoneme> list = TranscriptionLexer.getInstance().getMedialPhonemes(phoneme);
+            return list.toArray(new Phoneme[list.size()]);
         }
-        return list.toArray(new Phoneme[list.size()]);
-    }
-
-    /**
-     * Replace phonemes that are represented of more than 1 byte in the given string as indexes in a list with no more
-     * than 10 elements.
-     *
-     * See {@link Phoneme#LABIALIZATION} and {@link Phoneme#SPECIAL_CONSONANTS}.
-     *
-     * @param str The given string.
-     * @return The treat string without special representations.
-     */
-    public static String replaceSpecialPhonemes(final String str) {
-        if (str != null) {
-            String clean = str;
-
-            List<String> list = new LinkedList<>();
-            list.addAll(Arrays.asList(Phoneme.LABIALIZATION));
-            list.addAll(Arrays.asList(Phoneme.SPECIAL_CONSONANTS));
-
-            if (list.size() > 9) {
-                /**
-                 * If this happens, then it's time to increase the algorithm. More than 9 digits we won't be able to
-                 * replace correctly again when translate the indexes with their representations.
-                 */
-                throw new UnsupportedOperationException("The total size of special phonemes must not be greater than 9.");
-            }
-
-            int index = 0;
-            for (String p : list) {
-                clean = clean.replaceAll(p, Integer.toString(index++));
-            }
-            return clean;
-        }
-        return null;
+        return new Phoneme[0];
     }
 
     /**
@@ -292,62 +187,40 @@ public class Util {
      * @return An ordered list with the consonant phonemes or empty if inconsistencies were found.
      */
     public static List<Phoneme> getConsonantPhonemes(final String transcription) {
-        if (transcription != null && !transcription.trim().isEmpty()) {
-            String clean = cleanTranscription(transcription);
-
-            for (String vowel : VOWELS) {
-                clean = clean.replaceAll(vowel, " ");
-            }
-
-            for (String sv : SEMI_VOWELS) {
-                clean = clean.replaceAll(sv, " ");
-            }
-
-            // replace double spaces for just one: this will be used to separe the positions of the phonemes
-            clean = clean.trim().replaceAll(" +", " ");
-
-            List<Phoneme> list = new ArrayList<>();
-            Phoneme initialOnset = getInitialOnset(transcription);
-            if (initialOnset != null) {
-                list.add(initialOnset);
-
-                // remove the phoneme, because we already treat the inicial onset
-                clean = clean.replaceFirst(initialOnset.getPhoneme(), "");
-            }
-
-            Phoneme finalCoda = getFinalCoda(transcription);
-            if (finalCoda != null) {
-                // remove the phoneme, because we already treat the final coda
-                clean = replaceLast(clean, finalCoda.getPhoneme(), "");
-            }
-
-            // maps each labialization phoneme (if exists) to an index at Phoneme.LABIALIZATION
-            clean = replaceSpecialPhonemes(clean);
-
-            String[] split = clean.split(" ");
-
-            if (split.length >= 1) {
-                List<String> special = new LinkedList<>();
-                special.addAll(Arrays.asList(Phoneme.LABIALIZATION));
-                special.addAll(Arrays.asList(Phoneme.SPECIAL_CONSONANTS));
+        return TranscriptionLexer.getInstance().getConsonantPhonemes(transcription);
+    }
 
-                for (String phoneme : split) {
-                    // replaces all possible labialization phonemes. This array never must have an index greater than 9
-                    for (int i = 0; i < special.size(); i++) {
-                        phoneme = phoneme.replaceAll(i + "", special.get(i));
-                    }
-                    list.addAll(Arrays.asList(checkPhoneme(phoneme)));
-                }
-            }
+    /**
+     * Gets consonant phonemes from all the given transcriptions on the common fork-join pool. See
+     * {@link #getConsonantPhonemes(String)}.
+     *
+     * @param transcriptions Given transcriptions.
+     * @return The phonemes of each transcription in the same order of the given list, with the transcriptions that
+     * couldn't be parsed.
+     */
+    public static BatchResult<String, List<Phoneme>> getAllConsonantPhonemes(final List<String> transcriptions) {
+        final TranscriptionLexer lexer = TranscriptionLexer.getInstance();
+        return BatchResult.process(transcriptions, lexer::getConsonantPhonemes);
+    }
 
-            // Final Coda must be added only at the end, because it keep the same order of the phonemes in transcription
-            if (finalCoda != null) {
-                list.add(finalCoda);
-            }
+    /**
+     * Gets consonant phonemes from all the given transcriptions on the common fork-join pool. See
+     * {@link #getConsonantPhonemes(String)}.
+     *
+     * @param transcriptions Given transcriptions.
+     * @return The phonemes of each transcription in the same order of the given stream, with the transcriptions that
+     * couldn't be parsed.
+     */
+    public static BatchResult<String, List<Phoneme>> getAllConsonantPhonemes(final Stream<String> transcriptions) {
+        return getAllConsonantPhonemes(transcriptions == null ? null : transcriptions.collect(Collectors.toList()));
+    }
 
-            return list;
-        }
-        return Collections.emptyList();
+    /**
+     * Compiles again the tables used to treat transcriptions. This must be called after changing {@link #SPECIAL} or
+     * {@link #EQUIVALENT_PHONEMES}. The transcriptions in {@link PhonemeCache} are discarded.
+     */
+    public static void reloadTables() {
+        TranscriptionLexer.reload();
     }
 
     /**
@@ -433,7 +306,7 @@ public class Util {
             long countOCI = clustersParts.stream().filter(p -> p.getPosition().equals(Phoneme.POSITION.OCI)).count();
             long countOCM = clustersParts.stream().filter(p -> p.getPosition().equals(Phoneme.POSITION.OCME)).count();
             Arrays.asList(Phoneme.CONSONANT_CLUSTERS).forEach(s -> {
-                Phoneme pOCI = new Phoneme(s, Phoneme.POSITION.OCI);
+                Phoneme pOCI = Phoneme.of(s, Phoneme.POSITION.OCI);
                 /**
                  * If we have just 2 splitted phonemes, that means that the child only spoke "bl", for example, and then
                  * we can't infer nothing from that information.
@@ -442,7 +315,7 @@ public class Util {
                     inferredPhonemes.add(pOCI);
                 }
 
-                Phoneme pOCM = new Phoneme(s, Phoneme.POSITION.OCME);
+                Phoneme pOCM = Phoneme.of(s, Phoneme.POSITION.OCME);
                 if (countOCM > 2 && clustersParts.containsAll(pOCM.splitPhonemes())) {
                     inferredPhonemes.add(pOCM);
                 }
@@ -500,26 +373,30 @@ public class Util {
      * @return A non-null list with possible consonant clusters.
      */
     public static List<Phoneme> getPossibleClusters(final List<Phoneme> list) {
-        final List<Phoneme> possibleClusters = new NoRepeatList<>();
-        final List<Phoneme> clustersParts = new NoRepeatList<>();
-        clustersParts.addAll(list); // avoid elements repeated
-        long countOCI = clustersParts.stream().filter(p -> p.getPosition().equals(Phoneme.POSITION.OCI)).count();
-        long countOCM = clustersParts.stream().filter(p -> p.getPosition().equals(Phoneme.POSITION.OCME)).count();
-        Arrays.asList(Phoneme.CONSONANT_CLUSTERS).forEach(s -> {
-            Phoneme pOCI = new Phoneme(s, Phoneme.POSITION.OCI);
+        final List<Phoneme> possibleClusters = new ArrayList<>();
+        final PhonemeSet clustersParts = new PhonemeSet(list); // avoid elements repeated
+        int countOCI = 0;
+        int countOCM = 0;
+        for (Phoneme p : clustersParts) {
+            if (p.getPosition() == Phoneme.POSITION.OCI) {
+                countOCI++;
+            } else if (p.getPosition() == Phoneme.POSITION.OCME) {
+                countOCM++;
+            }
+        }
+        for (int i = 0; i < CONSONANT_CLUSTERS.length; i++) {
             /**
              * If we have just 2 splitted phonemes, that means that the child only spoke "bl", for example, and then we
              * can't infer nothing from that information.
              */
-            if (countOCI > 2 && clustersParts.containsAll(pOCI.splitPhonemes())) {
-                possibleClusters.add(pOCI);
+            if (countOCI > 2 && clustersParts.containsAll(CLUSTERS_PARTS_OCI[i])) {
+                possibleClusters.add(Phoneme.of(CONSONANT_CLUSTERS[i], Phoneme.POSITION.OCI));
             }
 
-            Phoneme pOCM = new Phoneme(s, Phoneme.POSITION.OCME);
-            if (countOCM > 2 && clustersParts.containsAll(pOCM.splitPhonemes())) {
-                possibleClusters.add(pOCM);
+            if (countOCM > 2 && clustersParts.containsAll(CLUSTERS_PARTS_OCME[i])) {
+                possibleClusters.add(Phoneme.of(CONSONANT_CLUSTERS[i], Phoneme.POSITION.OCME));
             }
-        });
+        }
 
         return possibleClusters;
     }
@@ -536,7 +413,7 @@ public class Util {
         StringBuilder builder = new StringBuilder("assessmentID,targetWord,transcription,correct,targetClusters,producedClusters1,producedClusters2\n");
 
         assessments.forEach(a -> {
-            a.getCases().forEach(c -> {
+            a.forEachCase(c -> {
                 List<Phoneme> targetClusters = targetPhonemes.get(c.getWord()).stream().filter(p -> p.isConsonantCluster()).collect(Collectors.toList());
                 List<Phoneme> producedClusters = c.getPhonemes().stream().filter(p -> p.isConsonantCluster()).collect(Collectors.toList());
 
@@ -588,7 +465,7 @@ public class Util {
 
         assessments.forEach(a -> {
             List<Phoneme> producedClusters = new NoRepeatList<>();
-            a.getCases().forEach(c -> {
+            a.forEachCase(c -> {
                 c.getPhonemes().stream().filter(p -> p.isConsonantCluster()).forEach(p -> producedClusters.add(p));
             });
 
@@ -0,0 +1,150 @@
+package br.com.efono.util;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * A list of words that can be looked up in constant time, ignoring accents and case: <code>Jacare</code>,
+ * <code>JACARÉ</code> and <code>Jacaré</code> are the same word. The key of each word is computed only once, when the
+ * catalog is created, and the keys of the queried words are cached, since the same words are looked up all the time.
+ *
+ * @author João Bolsson (joaovictorbolsson@gmail.com)
+ * @version 2026, Oct 18.
+ */
+public final class WordCatalog {
+
+    /**
+     * Maximum number of queried words with a cached key. The cache is discarded when it's full.
+     */
+    static final int MAX_FOLDED = 4096;
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}");
+
+    private static final Map<String, String> FOLDED = new ConcurrentHashMap<>();
+
+    private final String[] words;
+    private final Map<String, Integer> indexes;
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Creates a catalog with the given words. If two words have the same key, the first one is kept.
+     *
+     * @param words The words. Null elements are ignored.
+     */
+    public WordCatalog(final String[] words) {
+        this.words = words == null ? new String[0] : words.clone();
+        this.indexes = new HashMap<>(this.words.length * 2);
+        for (int i = 0; i < this.words.length; i++) {
+            if (this.words[i] != null) {
+                indexes.putIfAbsent(fold(this.words[i]), i);
+            }
+        }
+    }
+
+    /**
+     * @return The catalog with the words in {@link Defaults#SORTED_WORDS}.
+     */
+    public static WordCatalog getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    /**
+     * Gets the key used to compare the words: the word without accents and in lower case.
+     *
+     * @param word The word.
+     * @return The key of the word or null if the word is null.
+     */
+    public static String fold(final String word) {
+        if (word == null) {
+            return null;
+        }
+        String key = FOLDED.get(word);
+        if (key == null) {
+            key = MARKS.matcher(Normalizer.normalize(word, Normalizer.Form.NFKD)).replaceAll("")
+                    .toLowerCase(Locale.ROOT);
+            if (FOLDED.size() >= MAX_FOLDED) {
+                FOLDED.clear();
+            }
+            FOLDED.put(word, key);
+        }
+        return key;
+    }
+
+    /**
+     * Finds the index of the given word in the catalog.
+     *
+     * @param word Word to find the index.
+     * @return The index of the given word or -1 if not found.
+     */
+    public int indexOf(final String word) {
+        Integer index = word == null ? null : indexes.get(fold(word));
+        if (index == null) {
+            misses.incrementAndGet();
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Checks if the given word is in the catalog.
+     *
+     * @param word The word.
+     * @return True - the word is in the catalog, otherwise - false.
+     */
+    public boolean contains(final String word) {
+        return word != null && indexes.containsKey(fold(word));
+    }
+
+    /**
+     * Gets the word at the given index, as it's written in the catalog.
+     *
+     * @param index Index of the word.
+     * @return The word.
+     */
+    public String getWord(final int index) {
+        return words[index];
+    }
+
+    /**
+     * @return An unmodifiable list with the words in the catalog.
+     */
+    public List<String> getWords() {
+        return Collections.unmodifiableList(Arrays.asList(words));
+    }
+
+    /**
+     * @return The number of words in the catalog.
+     */
+    public int size() {
+        return words.length;
+    }
+
+    /**
+     * @return How many times a word that is not in the catalog was looked up.
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    @Override
+    public String toString() {
+        return "WordCatalog{" + "size=" + words.length + ", misses=" + misses.get() + '}';
+    }
+
+    /**
+     * Creates the default catalog only when it's used.
+     */
+    private static final class DefaultHolder {
+
+        private static final WordCatalog INSTANCE = new WordCatalog(Defaults.SORTED_WORDS);
+    }
+
+}
@@ -0,0 +1,621 @@
+package br.com.efono.util;
+
+import br.com.efono.model.Instrument;
+import br.com.efono.model.Phoneme;
+import br.com.efono.model.TargetPhonemes;
+import br.com.efono.model.WordMask;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+/**
+ * Selects the smallest list of words of an instrument that tests every target phoneme a minimum of times, like the
+ * blocks of words of {@link SimulationWordsSequence#runSimulation2} should do: only the words needed to test each
+ * phoneme, not all the words with the phoneme. Each word is a set of phonemes (with repetitions: a word with the same
+ * phoneme twice tests it twice), so this is a set multicover problem over the phoneme × word matrix.
+ *
+ * A phoneme that is in fewer than <code>minimum</code> target phonemes of the instrument can't be tested the minimum of
+ * times, so it only needs to be tested as many times as the instrument allows.
+ *
+ * There are two modes: {@link #greedy()}, which always takes the word that tests more phonemes still needed, and
+ * {@link #exact(ExecutorService)}, a branch-and-bound search that finds a smallest list. The search keeps the sets of
+ * words as bits of two longs (the instrument has up to {@link WordMask#CAPACITY} words) and runs the first branches of
+ * the search tree as parallel jobs, which share the best list found so far to prune the others.
+ *
+ * The selector is immutable, so it can be used by many threads.
+ *
+ * @author João Bolsson (joaovictorbolsson@gmail.com)
+ * @version 2026, Oct 18.
+ */
+public final class WordSelector {
+
+    /**
+     * Minimum number of jobs for each thread of the executor in the exact mode, so the threads stay busy even when a
+     * job is pruned early.
+     */
+    private static final int JOBS_PER_THREAD = 8;
+
+    /**
+     * Maximum depth of the search tree that is expanded to create the jobs of the exact mode.
+     */
+    private static final int MAX_JOB_DEPTH = 6;
+
+    private final Instrument instrument;
+    private final int minimum;
+    private final boolean splitConsonantClusters;
+
+    /**
+     * Ids (see {@link Phoneme#getId()}) of the target phonemes of the instrument. The phonemes are indexed from 0 in
+     * all the other arrays.
+     */
+    private final int[] ids;
+
+    /**
+     * Number of times that each phoneme must be tested.
+     */
+    private final int[] demand;
+
+    /**
+     * The phonemes of each word of the instrument (index of the word in the instrument) and how many times the word
+     * tests each one.
+     */
+    private final int[][] wordPhonemes;
+    private final int[][] wordCounts;
+
+    /**
+     * How many times each word tests each phoneme: <code>counts[phoneme][word]</code>.
+     */
+    private final int[][] counts;
+
+    /**
+     * The words that test each phoneme: bits 0-63 (low) and 64-127 (high).
+     */
+    private final long[] low;
+    private final long[] high;
+
+    /**
+     * The maximum number of times that a single word tests each phoneme.
+     */
+    private final int[] maxCount;
+
+    /**
+     * The phonemes from the one in fewer words to the one in more words, used to find the lower bounds.
+     */
+    private final int[] boundOrder;
+
+    /**
+     * Creates a selector.
+     *
+     * @param instrument The instrument with the words and their target phonemes.
+     * @param minimum Number of times that each phoneme must be tested.
+     * @param splitConsonantClusters True - the consonant clusters are counted as two phonemes.
+     * @throws IllegalArgumentException If the instrument has more than {@link WordMask#CAPACITY} words.
+     */
+    public WordSelector(final Instrument instrument, final int minimum, final boolean splitConsonantClusters) {
+        this.instrument = Objects.requireNonNull(instrument);
+        this.minimum = minimum;
+        this.splitConsonantClusters = splitConsonantClusters;
+        final int words = instrument.size();
+        if (words > WordMask.CAPACITY) {
+            throw new IllegalArgumentException("The instrument has more than " + WordMask.CAPACITY + " words.");
+        }
+        final TargetPhonemes targets = instrument.getTargets();
+
+        // the ids are sparse, so the phonemes of the instrument get new indexes
+        final int[] indexOf = new int[Phoneme.count()];
+        Arrays.fill(indexOf, -1);
+        final List<Integer> found = new ArrayList<>();
+        final int[][] byWord = new int[words][];
+        for (int w = 0; w < words; w++) {
+            final int catalog = WordCatalog.getDefault().indexOf(instrument.getWord(w));
+            byWord[w] = new int[targets.size(catalog, splitConsonantClusters)];
+            for (int i = 0; i < byWord[w].length; i++) {
+                final int id = targets.get(catalog, splitConsonantClusters, i);
+                if (indexOf[id] < 0) {
+                    indexOf[id] = found.size();
+                    found.add(id);
+                }
+                byWord[w][i] = indexOf[id];
+            }
+        }
+
+        final int phonemes = found.size();
+        this.ids = new int[phonemes];
+        for (int p = 0; p < phonemes; p++) {
+            ids[p] = found.get(p);
+        }
+        this.counts = new int[phonemes][words];
+        for (int w = 0; w < words; w++) {
+            for (int p : byWord[w]) {
+                counts[p][w]++;
+            }
+        }
+        this.wordPhonemes = new int[words][];
+        this.wordCounts = new int[words][];
+        for (int w = 0; w < words; w++) {
+            final int[] distinct = Arrays.stream(byWord[w]).distinct().toArray();
+            wordPhonemes[w] = distinct;
+            wordCounts[w] = new int[distinct.length];
+            for (int i = 0; i < distinct.length; i++) {
+                wordCounts[w][i] = counts[distinct[i]][w];
+            }
+        }
+
+        this.demand = new int[phonemes];
+        this.low = new long[phonemes];
+        this.high = new long[phonemes];
+        this.maxCount = new int[phonemes];
+        for (int p = 0; p < phonemes; p++) {
+            int total = 0;
+            // the bits are the indexes of the words in the instrument
+            final WordMask.Builder builder = new WordMask.Builder();
+            for (int w = 0; w < words; w++) {
+                if (counts[p][w] > 0) {
+                    total += counts[p][w];
+                    maxCount[p] = Math.max(maxCount[p], counts[p][w]);
+                    builder.add(w);
+                }
+            }
+            final long[] bits = builder.build().toLongArray();
+            low[p] = bits[0];
+            high[p] = bits[1];
+            demand[p] = Math.max(0, Math.min(minimum, total));
+        }
+        this.boundOrder = IntStream.range(0, phonemes).boxed()
+                .sorted((a, b) -> Integer.compare(Long.bitCount(low[a]) + Long.bitCount(high[a]),
+                Long.bitCount(low[b]) + Long.bitCount(high[b])))
+                .mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * @return The instrument.
+     */
+    public Instrument getInstrument() {
+        return instrument;
+    }
+
+    /**
+     * @return Number of times that each phoneme must be tested.
+     */
+    public int getMinimum() {
+        return minimum;
+    }
+
+    /**
+     * @return True - the consonant clusters are counted as two phonemes.
+     */
+    public boolean isSplitConsonantClusters() {
+        return splitConsonantClusters;
+    }
+
+    /**
+     * @param phoneme A phoneme.
+     * @return The number of times that the phoneme must be tested: the minimum or less, if the words of the instrument
+     * don't test it the minimum of times. 0 if it's not a target phoneme of the instrument.
+     */
+    public int getDemand(final Phoneme phoneme) {
+        for (int p = 0; p < ids.length; p++) {
+            if (ids[p] == phoneme.getId()) {
+                return demand[p];
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Checks if the given words test every target phoneme of the instrument the number of times of
+     * {@link #getDemand(Phoneme)}.
+     *
+     * @param words The words. Words that are not in the instrument are ignored.
+     * @return True - the words test all the phonemes, otherwise - false.
+     */
+    public boolean covers(final Collection<String> words) {
+        final int[] remaining = demand.clone();
+        final boolean[] seen = new boolean[instrument.size()];
+        for (String word : words) {
+            final int w = instrument.indexOf(word);
+            if (w >= 0 && !seen[w]) {
+                seen[w] = true;
+                for (int i = 0; i < wordPhonemes[w].length; i++) {
+                    remaining[wordPhonemes[w][i]] -= wordCounts[w][i];
+                }
+            }
+        }
+        for (int r : remaining) {
+            if (r > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Selects the words with the greedy heuristic: the next word is the one that tests more phonemes that are still
+     * needed, the easiest one in a tie. Then, the words that are not needed anymore (the phonemes are tested by the
+     * words selected after them) are removed. It's fast, but the list may have more words than needed.
+     *
+     * @return The words, in the order of the instrument.
+     */
+    public List<String> greedy() {
+        final long[] selected = greedyMask();
+        return toWords(selected[0], selected[1]);
+    }
+
+    private long[] greedyMask() {
+        final int[] remaining = demand.clone();
+        int total = Arrays.stream(remaining).sum();
+        final List<Integer> order = new ArrayList<>();
+        final boolean[] selected = new boolean[wordPhonemes.length];
+        while (total > 0) {
+            int best = -1;
+            int bestGain = 0;
+            for (int w = 0; w < wordPhonemes.length; w++) {
+                if (!selected[w]) {
+                    final int gain = gain(w, remaining);
+                    if (gain > bestGain) {
+                        best = w;
+                        bestGain = gain;
+                    }
+                }
+            }
+            selected[best] = true;
+            order.add(best);
+            for (int i = 0; i < wordPhonemes[best].length; i++) {
+                final int p = wordPhonemes[best][i];
+                final int tested = Math.min(wordCounts[best][i], remaining[p]);
+                remaining[p] -= tested;
+                total -= tested;
+            }
+        }
+
+        // how many times the selected words test each phoneme, to remove the redundant ones
+        final int[] tested = new int[ids.length];
+        for (int w : order) {
+            for (int i = 0; i < wordPhonemes[w].length; i++) {
+                tested[wordPhonemes[w][i]] += wordCounts[w][i];
+            }
+        }
+        final long[] mask = new long[2];
+        for (int j = order.size() - 1; j >= 0; j--) {
+            final int w = order.get(j);
+            boolean redundant = true;
+            for (int i = 0; i < wordPhonemes[w].length && redundant; i++) {
+                final int p = wordPhonemes[w][i];
+                redundant = tested[p] - wordCounts[w][i] >= demand[p];
+            }
+            if (redundant) {
+                for (int i = 0; i < wordPhonemes[w].length; i++) {
+                    tested[wordPhonemes[w][i]] -= wordCounts[w][i];
+                }
+            } else {
+                mask[w >>> 6] |= 1L << w;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * @return How many of the remaining tests the word does.
+     */
+    private int gain(final int w, final int[] remaining) {
+        int gain = 0;
+        for (int i = 0; i < wordPhonemes[w].length; i++) {
+            gain += Math.min(wordCounts[w][i], remaining[wordPhonemes[w][i]]);
+        }
+        return gain;
+    }
+
+    /**
+     * Selects the words with an exact search, using all the available processors. See
+     * {@link #exact(ExecutorService)}.
+     *
+     * @return The words, in the order of the instrument.
+     */
+    public List<String> exact() {
+        final ExecutorService executor = SimulationEngine.newExecutor(0);
+        try {
+            return exact(executor);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Selects the smallest list of words with a branch-and-bound search. The search starts with the list of
+     * {@link #greedy()} and, at each step, picks the phoneme still needed that is in fewer words and branches on which
+     * of these words tests it. A branch is pruned when its lower bound isn't better than the best list: the sum of the
+     * words needed by phonemes that don't share any word, found with bitwise operations on the sets of words.
+     *
+     * The result doesn't depend on the number of threads: among the smallest lists, it's the one found first by a
+     * sequential search (or the greedy one, if it's already the smallest).
+     *
+     * @param executor Executor to run the jobs. It's not shut down by this method.
+     * @return The words, in the order of the instrument.
+     * @throws IllegalStateException If the thread was interrupted or some job failed with a checked exception.
+     */
+    public List<String> exact(final ExecutorService executor) {
+        final long[] greedy = greedyMask();
+        final long allLow = wordPhonemes.length >= 64 ? -1L : (1L << wordPhonemes.length) - 1;
+        final long allHigh = wordPhonemes.length <= 64 ? 0L : wordPhonemes.length == 128 ? -1L
+                : (1L << (wordPhonemes.length - 64)) - 1;
+
+        // the first levels of the search tree are expanded sequentially, in the order of the search, to create the jobs
+        final int threads = executor instanceof ForkJoinPool ? ((ForkJoinPool) executor).getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        Best best = null;
+        List<Search> jobs = new ArrayList<>();
+        for (int depth = 1; depth <= MAX_JOB_DEPTH; depth++) {
+            // the jobs are numbered again in each depth, so the lists found before are forgotten
+            best = new Best(Long.bitCount(greedy[0]) + Long.bitCount(greedy[1]), greedy[0], greedy[1]);
+            final Search root = new Search(best, 0);
+            root.jobs = new ArrayList<>();
+            root.jobDepth = depth;
+            root.search(0L, 0L, allLow, allHigh, 0);
+            jobs = root.jobs;
+            if (jobs.isEmpty() || jobs.size() >= JOBS_PER_THREAD * threads) {
+                break;
+            }
+        }
+
+        final List<Future<?>> futures = new ArrayList<>(jobs.size());
+        for (Search job : jobs) {
+            futures.add(executor.submit((Callable<Void>) () -> {
+                job.run();
+                return null;
+            }));
+        }
+        try {
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } catch (final InterruptedException ex) {
+            futures.forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The search was interrupted.", ex);
+        } catch (final ExecutionException ex) {
+            futures.forEach(f -> f.cancel(true));
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new IllegalStateException("The search failed: " + ex.getCause(), ex.getCause());
+        }
+        return best.toWords();
+    }
+
+    private List<String> toWords(final long selectedLow, final long selectedHigh) {
+        final List<String> words = new ArrayList<>(Long.bitCount(selectedLow) + Long.bitCount(selectedHigh));
+        for (int w = 0; w < wordPhonemes.length; w++) {
+            if (((w < 64 ? selectedLow : selectedHigh) & (1L << w)) != 0) {
+                words.add(instrument.getWord(w));
+            }
+        }
+        return words;
+    }
+
+    /**
+     * The best list of words found so far, shared by the jobs. A job with a lower number wins a tie, so the result is
+     * the same of a sequential search. The greedy list is the job -1.
+     */
+    private final class Best {
+
+        /**
+         * The size of the list in the high 32 bits and the job + 1 in the low ones, read without locking.
+         */
+        private volatile long key;
+        private long low;
+        private long high;
+
+        Best(final int size, final long low, final long high) {
+            this.key = (long) size << 32;
+            this.low = low;
+            this.high = high;
+        }
+
+        synchronized List<String> toWords() {
+            return WordSelector.this.toWords(low, high);
+        }
+
+        synchronized void offer(final int size, final int job, final long low, final long high) {
+            final long candidate = ((long) size << 32) | (job + 1);
+            if (candidate < key) {
+                this.low = low;
+                this.high = high;
+                this.key = candidate;
+            }
+        }
+
+        /**
+         * @param bound The lower bound of the lists of a branch.
+         * @param job The job of the branch.
+         * @return True - no list of the branch can be better than the best one.
+         */
+        boolean prunes(final int bound, final int job) {
+            final long current = key;
+            final int size = (int) (current >>> 32);
+            return bound > size || (bound == size && (int) current <= job + 1);
+        }
+    }
+
+    /**
+     * The state of the depth-first search of a job. A job starts in a node of the search tree, with some words already
+     * selected and others excluded, and searches all the branches below it.
+     */
+    private final class Search {
+
+        private final Best best;
+        private final int job;
+        private final int[] remaining;
+        private int total;
+
+        /**
+         * How many times each word tested each phoneme when it was selected, to undo the selection.
+         */
+        private final int[][] undo;
+
+        /**
+         * While the jobs are created: the nodes at {@link #jobDepth} are new jobs instead of being searched.
+         */
+        private List<Search> jobs;
+        private int jobDepth;
+
+        /**
+         * The node where the job starts.
+         */
+        private long startLow;
+        private long startHigh;
+        private long availableLow;
+        private long availableHigh;
+        private int startCount;
+
+        Search(final Best best, final int job) {
+            this.best = best;
+            this.job = job;
+            this.remaining = demand.clone();
+            this.total = Arrays.stream(remaining).sum();
+            this.undo = new int[wordPhonemes.length + 1][];
+        }
+
+        void run() {
+            search(startLow, startHigh, availableLow, availableHigh, startCount);
+        }
+
+        /**
+         * Searches the lists with the selected words and some of the available ones.
+         */
+        void search(final long selectedLow, final long selectedHigh, long availLow, long availHigh, final int count) {
+            if (total == 0) {
+                best.offer(count, jobs == null ? job : jobs.size(), selectedLow, selectedHigh);
+                return;
+            }
+            if (jobs != null && count == jobDepth) {
+                final Search next = new Search(best, jobs.size());
+                System.arraycopy(remaining, 0, next.remaining, 0, remaining.length);
+                next.total = total;
+                next.startLow = selectedLow;
+                next.startHigh = selectedHigh;
+                next.availableLow = availLow;
+                next.availableHigh = availHigh;
+                next.startCount = count;
+                jobs.add(next);
+                return;
+            }
+
+            // the phoneme in fewer available words
+            int branch = -1;
+            int fewest = Integer.MAX_VALUE;
+            for (int p = 0; p < remaining.length; p++) {
+                if (remaining[p] > 0) {
+                    final int words = Long.bitCount(low[p] & availLow) + Long.bitCount(high[p] & availHigh);
+                    if (words * maxCount[p] < remaining[p] && capacity(p, availLow, availHigh) < remaining[p]) {
+                        return;
+                    }
+                    if (words < fewest) {
+                        fewest = words;
+                        branch = p;
+                    }
+                }
+            }
+            if (best.prunes(count + lowerBound(availLow, availHigh), jobs == null ? job : jobs.size())) {
+                return;
+            }
+
+            // the words that test more phonemes first, to find good lists early
+            final int[] candidates = new int[fewest];
+            final int[] gains = new int[fewest];
+            int size = 0;
+            for (int w = 0; w < wordPhonemes.length; w++) {
+                if (((w < 64 ? low[branch] & availLow : high[branch] & availHigh) & (1L << w)) != 0) {
+                    final int gain = gain(w, remaining);
+                    int i = size++;
+                    for (; i > 0 && gains[i - 1] < gain; i--) {
+                        candidates[i] = candidates[i - 1];
+                        gains[i] = gains[i - 1];
+                    }
+                    candidates[i] = w;
+                    gains[i] = gain;
+                }
+            }
+
+            // the branch i selects the candidate i and excludes the candidates before it
+            for (int i = 0; i < size; i++) {
+                final int w = candidates[i];
+                final long bitLow = w < 64 ? 1L << w : 0L;
+                final long bitHigh = w < 64 ? 0L : 1L << w;
+                availLow &= ~bitLow;
+                availHigh &= ~bitHigh;
+                select(w, count);
+                search(selectedLow | bitLow, selectedHigh | bitHigh, availLow, availHigh, count + 1);
+                unselect(w, count);
+                if (capacity(branch, availLow, availHigh) < remaining[branch]) {
+                    break;
+                }
+            }
+        }
+
+        private void select(final int w, final int depth) {
+            final int[] tested = undo[depth] == null || undo[depth].length < wordPhonemes[w].length
+                    ? (undo[depth] = new int[wordPhonemes[w].length]) : undo[depth];
+            for (int i = 0; i < wordPhonemes[w].length; i++) {
+                final int p = wordPhonemes[w][i];
+                tested[i] = Math.min(wordCounts[w][i], remaining[p]);
+                remaining[p] -= tested[i];
+                total -= tested[i];
+            }
+        }
+
+        private void unselect(final int w, final int depth) {
+            final int[] tested = undo[depth];
+            for (int i = 0; i < wordPhonemes[w].length; i++) {
+                remaining[wordPhonemes[w][i]] += tested[i];
+                total += tested[i];
+            }
+        }
+
+        /**
+         * @return How many times the available words test the phoneme.
+         */
+        private int capacity(final int p, final long availLow, final long availHigh) {
+            if (maxCount[p] == 1) {
+                return Long.bitCount(low[p] & availLow) + Long.bitCount(high[p] & availHigh);
+            }
+            int capacity = 0;
+            for (int w = 0; w < wordPhonemes.length; w++) {
+                if (((w < 64 ? availLow : availHigh) & (1L << w)) != 0) {
+                    capacity += counts[p][w];
+                }
+            }
+            return capacity;
+        }
+
+        /**
+         * A lower bound of the number of words still needed: phonemes that don't share any available word need
+         * different words, so the words needed by each one of them are summed.
+         */
+        private int lowerBound(final long availLow, final long availHigh) {
+            long usedLow = 0L;
+            long usedHigh = 0L;
+            int bound = 0;
+            for (int p : boundOrder) {
+                if (remaining[p] > 0) {
+                    final long wordsLow = low[p] & availLow;
+                    final long wordsHigh = high[p] & availHigh;
+                    if ((wordsLow & usedLow) == 0 && (wordsHigh & usedHigh) == 0) {
+                        bound += (remaining[p] + maxCount[p] - 1) / maxCount[p];
+                        usedLow |= wordsLow;
+                        usedHigh |= wordsHigh;
+                    }
+                }
+            }
+            return bound;
+        }
+    }
+
+}
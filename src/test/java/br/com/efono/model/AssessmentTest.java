@@ -121,6 +121,80 @@ public class AssessmentTest {
         assertEquals(0, instance.getCases().size());
     }
 
+    /**
+     * Tests {@link Assessment#getCase(String)}, {@link Assessment#getCaseList()} and
+     * {@link Assessment#forEachCase(java.util.function.Consumer)}.
+     */
+    @Test
+    public void testCaseViews() {
+        KnownCase knownCase = new KnownCase("Relógio", "[χe’lɔʒu]", true);
+        KnownCase otherCase = new KnownCase("Sapato", "[sa’patu]", true);
+        KnownCase variant = new KnownCase("Relógio", "[χe’lɔʒiu]", false);
+
+        System.out.println("testCaseViews - lookup by word");
+        Assessment instance = new Assessment(Arrays.asList(knownCase, otherCase));
+        assertSame(knownCase, instance.getCase("RELOGIO"));
+        assertSame(otherCase, instance.getCase("Sapato"));
+        assertNull(instance.getCase("Anel"));
+        assertNull(instance.getCase("Teste"));
+        assertNull(instance.getCase(null));
+
+        System.out.println("testCaseViews - another case of the same word");
+        int hash = instance.hashCode();
+        instance.addCase(variant);
+        instance.addCase(new KnownCase("Relógio", "[χe’lɔʒiu]", true));
+        assertEquals(3, instance.size());
+        assertSame(knownCase, instance.getCase("Relógio"));
+        assertNotEquals(hash, instance.hashCode());
+        assertEquals(new Assessment(Arrays.asList(knownCase, otherCase, variant)).hashCode(), instance.hashCode());
+
+        System.out.println("testCaseViews - read-only view without copies");
+        List<KnownCase> view = instance.getCaseList();
+        assertSame(view, instance.getCaseList());
+        assertEquals(Arrays.asList(knownCase, otherCase, variant), view);
+        try {
+            view.add(otherCase);
+            fail("The view must be read-only");
+        } catch (final UnsupportedOperationException e) {
+            assertEquals(3, instance.size());
+        }
+        final List<KnownCase> visited = new ArrayList<>();
+        instance.forEachCase(visited::add);
+        assertEquals(view, visited);
+
+        System.out.println("testCaseViews - clear");
+        instance.clear();
+        assertTrue(view.isEmpty());
+        assertNull(instance.getCase("Relógio"));
+        assertEquals(new Assessment().hashCode(), instance.hashCode());
+    }
+
+    /**
+     * Tests {@link Assessment#Assessment(List)}: all the cases are kept, like in a list.
+     */
+    @Test
+    public void testCreateWithCases() {
+        KnownCase knownCase = new KnownCase("Relógio", "[χe’lɔʒu]", true);
+        KnownCase incorrect = new KnownCase("Relógio", "[χe’lɔʒu]", false);
+
+        System.out.println("testCreateWithCases - equal cases are kept");
+        Assessment instance = new Assessment(Arrays.asList(knownCase, incorrect, knownCase));
+        assertEquals(Arrays.asList(knownCase, incorrect, knownCase), instance.getCaseList());
+        assertSame(knownCase, instance.getCase("Relógio"));
+
+        System.out.println("testCreateWithCases - addCase still ignores equal cases");
+        instance.addCase(incorrect);
+        assertEquals(3, instance.size());
+
+        System.out.println("testCreateWithCases - null list");
+        try {
+            new Assessment(null);
+            fail("The list of cases is required");
+        } catch (final NullPointerException e) {
+            System.out.println("Exception: " + e);
+        }
+    }
+
     /**
      * Tests {@link Assessment#getPCCR(List)}.
      */
@@ -166,6 +240,7 @@ public class AssessmentTest {
                 new Phoneme("bl", Phoneme.POSITION.OCME),
                 new Phoneme("t", Phoneme.POSITION.OM),
                 new Phoneme("k", Phoneme.POSITION.OM)));
+        Defaults.reloadInstrument();
 
         // 11 produções totais
         // corretas: 9
@@ -0,0 +1,65 @@
+package br.com.efono.model;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Target phonemes of some words of our database, shared by the tests that need a small instrument.
+ *
+ * @author João Bolsson (joaovictorbolsson@gmail.com)
+ * @version 2026, Oct 18.
+ */
+public final class InstrumentFixture {
+
+    /**
+     * The words of {@link #create()}, in the order of the instrument.
+     */
+    public static final String[] WORDS = {"Anel", "Batom", "Navio", "Travesseiro"};
+
+    private static final Map<String, List<Phoneme>> TARGET_PHONEMES;
+
+    static {
+        final Map<String, List<Phoneme>> map = new HashMap<>();
+        map.put("Anel", Collections.singletonList(Phoneme.of("n", Phoneme.POSITION.OM)));
+        map.put("Batom", Arrays.asList(Phoneme.of("b", Phoneme.POSITION.OI), Phoneme.of("t", Phoneme.POSITION.OM)));
+        map.put("Navio", Arrays.asList(Phoneme.of("n", Phoneme.POSITION.OI), Phoneme.of("v", Phoneme.POSITION.OM)));
+        map.put("Travesseiro", Arrays.asList(Phoneme.of("tɾ", Phoneme.POSITION.OCI),
+                Phoneme.of("v", Phoneme.POSITION.OM)));
+        TARGET_PHONEMES = Collections.unmodifiableMap(map);
+    }
+
+    private InstrumentFixture() {
+        // only static methods
+    }
+
+    /**
+     * Gets the target phonemes of the given words: n(OM) in Anel, b(OI) and t(OM) in Batom, n(OI) and v(OM) in Navio,
+     * tɾ(OCI) and v(OM) in Travesseiro.
+     *
+     * @param words Words of {@link #WORDS}.
+     * @return A new map with the target phonemes of the given words, that can be changed by the test.
+     * @throws IllegalArgumentException If some word is not in {@link #WORDS}.
+     */
+    public static Map<String, List<Phoneme>> targetPhonemes(final String... words) {
+        final Map<String, List<Phoneme>> map = new HashMap<>();
+        for (String word : words) {
+            final List<Phoneme> phonemes = TARGET_PHONEMES.get(word);
+            if (phonemes == null) {
+                throw new IllegalArgumentException("The word [" + word + "] is not in the fixture");
+            }
+            map.put(word, phonemes);
+        }
+        return map;
+    }
+
+    /**
+     * @return An instrument with all the {@link #WORDS} and their target phonemes, without similar words.
+     */
+    public static Instrument create() {
+        return new Instrument("test", WORDS.clone(), targetPhonemes(WORDS), null);
+    }
+
+}
@@ -0,0 +1,194 @@
+package br.com.efono.model;
+
+import br.com.efono.util.Defaults;
+import br.com.efono.util.SimulationWordsSequence;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ * @author João Bolsson (joaovictorbolsson@gmail.com)
+ * @version 2026, Oct 18.
+ */
+public class InstrumentTest {
+
+    private static Instrument create() {
+        final Map<String, List<Phoneme>> targetPhonemes = InstrumentFixture.targetPhonemes("Anel", "Batom",
+                "Travesseiro");
+        targetPhonemes.put("jacare", Arrays.asList(Phoneme.of("ʒ", Phoneme.POSITION.OI),
+                Phoneme.of("k", Phoneme.POSITION.OM), Phoneme.of("ɾ", Phoneme.POSITION.OM)));
+
+        final Map<String, List<String>> similarWords = new HashMap<>();
+        similarWords.put("Batom", Arrays.asList("Travesseiro", "Jacaré", "Zebra"));
+
+        return new Instrument("test", new String[]{"Anel", "Batom", "Jacare", "Travesseiro"}, targetPhonemes,
+                similarWords);
+    }
+
+    /**
+     * Tests {@link Instrument#Instrument(String, String[], Map, Map)}.
+     */
+    @Test
+    public void testCreate() {
+        Instrument instrument = create();
+
+        System.out.println("testCreate - words from our database");
+        assertEquals("test", instrument.getName());
+        assertEquals(4, instrument.size());
+        assertArrayEquals(new String[]{"Anel", "Batom", "Jacaré", "Travesseiro"}, instrument.getWords());
+        assertArrayEquals(new String[]{"Anel", "Travesseiro", "Batom", "Jacaré"}, instrument.getEasyHardWords());
+        assertEquals(2, instrument.indexOf("JACARÉ"));
+        assertEquals(-1, instrument.indexOf("Zebra"));
+        assertEquals(-1, instrument.indexOf("not a word"));
+        assertEquals(WordMask.of("Anel", "Batom", "Jacaré", "Travesseiro"), instrument.getWordMask());
+
+        System.out.println("testCreate - only values of the words in the instrument");
+        assertEquals(3, instrument.getTargetPhonemes().get("Jacaré").size());
+        assertEquals(Arrays.asList("Travesseiro", "Jacaré"), instrument.getSimilarWords().get("Batom"));
+        assertNull(instrument.getSimilarWords().get("Anel"));
+
+        System.out.println("testCreate - read-only values");
+        try {
+            instrument.getTargetPhonemes().put("Anel", new ArrayList<>());
+            fail("The instrument is immutable");
+        } catch (final UnsupportedOperationException e) {
+            System.out.println("Exception: " + e);
+        }
+        instrument.getWords()[0] = "Cama";
+        assertEquals("Anel", instrument.getWord(0));
+
+        System.out.println("testCreate - tree with the instrument words");
+        assertEquals("Batom", instrument.getTree().getRoot().getValue());
+
+        System.out.println("testCreate - invalid words");
+        try {
+            new Instrument("invalid", new String[]{"Anel", "not a word"}, null, null);
+            fail("Only words from our database are accepted");
+        } catch (final IllegalArgumentException e) {
+            System.out.println("Exception: " + e);
+        }
+        try {
+            new Instrument("invalid", new String[]{"Anel", "ANEL"}, null, null);
+            fail("Repeated words are not accepted");
+        } catch (final IllegalArgumentException e) {
+            System.out.println("Exception: " + e);
+        }
+    }
+
+    /**
+     * Tests {@link Instrument#fromDefaults()} and {@link Instrument#subset(String, java.util.Collection)}.
+     */
+    @Test
+    public void testDefaultsAndSubset() {
+        final Map<String, List<Phoneme>> backup = new HashMap<>(Defaults.TARGET_PHONEMES);
+        final Instrument instrument;
+        try {
+            Defaults.TARGET_PHONEMES.putAll(InstrumentFixture.targetPhonemes("Anel"));
+            instrument = Instrument.fromDefaults();
+        } finally {
+            Defaults.TARGET_PHONEMES.clear();
+            Defaults.TARGET_PHONEMES.putAll(backup);
+        }
+
+        System.out.println("testDefaultsAndSubset - snapshot of the defaults");
+        assertArrayEquals(Defaults.SORTED_WORDS, instrument.getWords());
+        assertArrayEquals(Defaults.EASY_HARD_WORDS, instrument.getEasyHardWords());
+        assertEquals(WordMask.all(), instrument.getWordMask());
+        assertEquals(1, instrument.getTargetPhonemes().get("Anel").size());
+
+        System.out.println("testDefaultsAndSubset - subset keeps the order");
+        Instrument subset = instrument.subset("subset", Arrays.asList("Travesseiro", "Cama", "Anel"));
+        assertArrayEquals(new String[]{"Anel", "Cama", "Travesseiro"}, subset.getWords());
+        assertEquals(instrument.getTargetPhonemes().get("Anel"), subset.getTargetPhonemes().get("Anel"));
+
+        try {
+            create().subset("invalid", Collections.singletonList("Cama"));
+            fail("Only words of the instrument are accepted");
+        } catch (final IllegalArgumentException e) {
+            System.out.println("Exception: " + e);
+        }
+    }
+
+    /**
+     * Tests {@link Instrument#save(File)} and {@link Instrument#load(File)}.
+     *
+     * @throws IOException
+     */
+    @Test
+    public void testSaveAndLoad() throws IOException {
+        File file = File.createTempFile("instrument", ".json");
+        file.deleteOnExit();
+
+        System.out.println("testSaveAndLoad - same values");
+        Instrument expected = create();
+        expected.save(file);
+        Instrument instrument = Instrument.load(file);
+        assertEquals(expected.getName(), instrument.getName());
+        assertArrayEquals(expected.getWords(), instrument.getWords());
+        assertEquals(expected.getTargetPhonemes(), instrument.getTargetPhonemes());
+        assertEquals(expected.getSimilarWords(), instrument.getSimilarWords());
+
+        System.out.println("testSaveAndLoad - invalid files");
+        Files.write(file.toPath(), "{\"name\": \"invalid\"}".getBytes(StandardCharsets.UTF_8));
+        try {
+            Instrument.load(file);
+            fail("An instrument must have words");
+        } catch (final IOException e) {
+            System.out.println("Exception: " + e);
+        }
+        Files.write(file.toPath(), "{\"words\": [\"not a word\"]}".getBytes(StandardCharsets.UTF_8));
+        try {
+            Instrument.load(file);
+            fail("Only words from our database are accepted");
+        } catch (final IOException e) {
+            System.out.println("Exception: " + e);
+        }
+    }
+
+    /**
+     * Tests the use of two instruments side by side.
+     */
+    @Test
+    public void testSideBySide() {
+        Instrument instrument = create();
+        Instrument subset = instrument.subset("subset", Arrays.asList("Anel", "Jacaré"));
+
+        KnownCase anel = new KnownCase("Anel", "[a’nɛw]", true, Arrays.asList(Phoneme.of("n", Phoneme.POSITION.OM)));
+        KnownCase batom = new KnownCase("Batom", "[ba’kõw]", false, Arrays.asList(
+                Phoneme.of("b", Phoneme.POSITION.OI), Phoneme.of("k", Phoneme.POSITION.OM)));
+        KnownCase travesseiro = new KnownCase("Travesseiro", "[tɾavesejɾu]", true, Arrays.asList(
+                Phoneme.of("tɾ", Phoneme.POSITION.OCI)));
+        Assessment assessment = new Assessment(Arrays.asList(travesseiro, batom, anel));
+
+        System.out.println("testSideBySide - PCC-R");
+        assertEquals(0.75, assessment.getPCCR(instrument), 0);
+        assertEquals(1, assessment.getPCCR(subset), 0);
+
+        System.out.println("testSideBySide - sorting");
+        List<KnownCase> list = new ArrayList<>(assessment.getCaseList());
+        SimulationWordsSequence.sortList(list, KnownCaseComparator.HardWordsFirst, instrument);
+        assertEquals(Arrays.asList(travesseiro, batom, anel), list);
+        SimulationWordsSequence.sortList(list, KnownCaseComparator.HardWordsFirst, subset);
+        // the words that are not in the instrument are the easiest ones
+        assertEquals(Arrays.asList(anel, travesseiro, batom), list);
+
+        System.out.println("testSideBySide - simulation");
+        SimulationInfo info = SimulationWordsSequence.runSimulation(assessment, KnownCaseComparator.EasyWordsFirst, 1,
+                true, false, instrument);
+        assertEquals(Arrays.asList("Anel", "Batom", "Travesseiro"), info.getWordsRequired());
+        // in the order of the instrument
+        assertEquals(Arrays.asList("Jacaré", "Travesseiro"), SimulationWordsSequence.getNextWords(
+                Arrays.asList(Phoneme.of("ɾ", Phoneme.POSITION.OCI), Phoneme.of("ɾ", Phoneme.POSITION.OM)), true,
+                instrument));
+    }
+
+}
@@ -1,6 +1,10 @@
 package br.com.efono.model;
 
+import br.com.efono.util.Defaults;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
 import org.junit.Test;
 import static org.junit.Assert.*;
@@ -73,4 +77,73 @@ public class KnownCaseComparatorTest {
         }
     }
 
+    /**
+     * Tests {@link KnownCaseComparator#sort(List)} and {@link KnownCaseComparator#ranks(String[], boolean)}.
+     */
+    @Test
+    public void testCountingSort() {
+        KnownCase faca = new KnownCase("Faca", "", true);
+        KnownCase dedo = new KnownCase("Dedo", "", true);
+        KnownCase dedoIncorrect = new KnownCase("Dedo", "dedu", false);
+        KnownCase travesseiro = new KnownCase("Travesseiro", "", true);
+        KnownCase empty = new KnownCase();
+
+        final List<KnownCase> cases = Arrays.asList(faca, dedo, travesseiro, dedoIncorrect, empty);
+
+        System.out.println("testCountingSort - same order of the comparators");
+        for (KnownCaseComparator comp : KnownCaseComparator.values()) {
+            List<KnownCase> expected = new ArrayList<>(cases);
+            expected.sort(comp.getComparator());
+            List<KnownCase> list = new ArrayList<>(cases);
+            comp.sort(list);
+            assertEquals(comp.name(), expected, list);
+            // stable: the cases with the same word keep their order
+            assertTrue(list.indexOf(dedo) < list.indexOf(dedoIncorrect));
+        }
+        List<KnownCase> list = new ArrayList<>(cases);
+        KnownCaseComparator.HardWordsFirst.sort(list);
+        assertEquals(Arrays.asList(travesseiro, faca, dedo, dedoIncorrect, empty), list);
+
+        System.out.println("testCountingSort - custom order");
+        list = new LinkedList<>(cases);
+        KnownCaseComparator.sort(list, KnownCaseComparator.ranks(new String[]{"faca", "Travesseiro", "Faca"}, false));
+        assertEquals(Arrays.asList(dedo, dedoIncorrect, empty, faca, travesseiro), list);
+
+        KnownCaseComparator.sort(list, KnownCaseComparator.ranks(new String[]{"Faca", "Travesseiro"}, true));
+        assertEquals(Arrays.asList(travesseiro, faca, dedo, dedoIncorrect, empty), list);
+
+        list = new ArrayList<>();
+        KnownCaseComparator.EasyWordsFirst.sort(list);
+        assertTrue(list.isEmpty());
+    }
+
+    /**
+     * Tests {@link KnownCaseComparator#order(List, Instrument)}.
+     */
+    @Test
+    public void testOrder() {
+        KnownCase faca = new KnownCase("Faca", "", true);
+        KnownCase dedo = new KnownCase("Dedo", "", true);
+        KnownCase dedoIncorrect = new KnownCase("Dedo", "dedu", false);
+        KnownCase travesseiro = new KnownCase("Travesseiro", "", true);
+
+        final List<KnownCase> cases = Collections.unmodifiableList(Arrays.asList(faca, dedo, travesseiro,
+                dedoIncorrect));
+        final Instrument instrument = Defaults.getInstrument();
+
+        System.out.println("testOrder - same order of the sort, without changing the list");
+        for (KnownCaseComparator comp : KnownCaseComparator.values()) {
+            List<KnownCase> expected = new ArrayList<>(cases);
+            comp.sort(expected);
+            int[] order = comp.order(cases, instrument);
+            List<KnownCase> list = new ArrayList<>();
+            for (int i : order) {
+                list.add(cases.get(i));
+            }
+            assertEquals(comp.name(), expected, list);
+        }
+        assertArrayEquals(new int[]{2, 0, 1, 3}, KnownCaseComparator.HardWordsFirst.order(cases, instrument));
+        assertEquals(0, KnownCaseComparator.EasyWordsFirst.order(new ArrayList<>(), instrument).length);
+    }
+
 }
@@ -0,0 +1,165 @@
+package br.com.efono.model;
+
+import br.com.efono.util.UtilTest;
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ * @author João Bolsson (joaovictorbolsson@gmail.com)
+ * @version 2026, Oct 18.
+ */
+public class KnownCaseReaderTest {
+
+    /**
+     * Tests {@link KnownCaseReader#stream(File)}.
+     *
+     * @throws URISyntaxException
+     * @throws IOException
+     */
+    @Test
+    public void testStream() throws URISyntaxException, IOException {
+        System.out.println("testStream - all cases are read and treated");
+        File specialCases = new File(UtilTest.class.getResource("/data/specialCases.json").toURI());
+        try (Stream<KnownCase> stream = KnownCaseReader.stream(specialCases)) {
+            List<String> representations = stream.map(KnownCase::getRepresentation).collect(Collectors.toList());
+            assertEquals(3, representations.size());
+            assertEquals("floziɲa", representations.get(0));
+            assertEquals("kaziɲə", representations.get(1));
+            assertEquals("anɛwziɲu", representations.get(2));
+        }
+
+        System.out.println("testStream - same cases as loadFile");
+        File allCorrect = new File(UtilTest.class.getResource("/data/allCorrect.json").toURI());
+        try (Stream<KnownCase> stream = KnownCaseReader.stream(allCorrect)) {
+            List<KnownCase> cases = stream.collect(Collectors.toList());
+            List<KnownCase> expected = KnownCase.loadFile(allCorrect);
+            assertEquals(expected, cases);
+            for (int i = 0; i < cases.size(); i++) {
+                assertEquals(expected.get(i).getPhonemes(), cases.get(i).getPhonemes());
+            }
+        }
+    }
+
+    /**
+     * Tests {@link KnownCaseReader#nextBatch(int)}.
+     *
+     * @throws URISyntaxException
+     * @throws IOException
+     */
+    @Test
+    public void testNextBatch() throws URISyntaxException, IOException {
+        File allCorrect = new File(UtilTest.class.getResource("/data/allCorrect.json").toURI());
+        List<KnownCase> expected = KnownCase.loadFile(allCorrect);
+
+        System.out.println("testNextBatch - batches keep the file order");
+        try (KnownCaseReader reader = new KnownCaseReader(allCorrect)) {
+            KnownCase first = reader.next();
+            assertEquals(expected.get(0), first);
+
+            List<KnownCase> batch = reader.nextBatch(100);
+            assertEquals(100, batch.size());
+            assertEquals(expected.subList(1, 101), batch);
+
+            batch = reader.nextBatch(100);
+            assertEquals(62, batch.size());
+            assertEquals(expected.subList(101, 163), batch);
+
+            assertTrue(reader.nextBatch(100).isEmpty());
+            assertFalse(reader.hasNext());
+        }
+
+        System.out.println("testNextBatch - invalid batch size");
+        try (KnownCaseReader reader = new KnownCaseReader(allCorrect)) {
+            reader.nextBatch(0);
+            fail("The batch size must be validated");
+        } catch (final IllegalArgumentException e) {
+            System.out.println("Exception: " + e);
+        }
+    }
+
+    /**
+     * Tests the representations shared by the cases of the same reader.
+     *
+     * @throws IOException
+     */
+    @Test
+    public void testSharedRepresentations() throws IOException {
+        File file = File.createTempFile("cases", ".json");
+        file.deleteOnExit();
+        KnownCase.saveKnownCases(Arrays.asList(new KnownCase("Jacaré", "[ʒakaˈɾɛ]", true),
+                new KnownCase("Jacaré", "[ʒakaˈɾɛ]", false), new KnownCase("Jacaré", "[ʒakaˈɾɛ]", true)), file);
+
+        System.out.println("testSharedRepresentations - one instance in the same reader");
+        final List<KnownCase> cases;
+        try (KnownCaseReader reader = new KnownCaseReader(file)) {
+            cases = new ArrayList<>();
+            cases.add(reader.next());
+            cases.addAll(reader.nextBatch(10));
+        }
+        assertEquals(3, cases.size());
+        assertSame(cases.get(0).getRepresentation(), cases.get(1).getRepresentation());
+        assertSame(cases.get(0).getRepresentation(), cases.get(2).getRepresentation());
+
+        System.out.println("testSharedRepresentations - the pool is not kept after the reader");
+        try (Stream<KnownCase> stream = KnownCaseReader.stream(file)) {
+            KnownCase other = stream.findFirst().get();
+            assertEquals(cases.get(0).getRepresentation(), other.getRepresentation());
+            assertNotSame(cases.get(0).getRepresentation(), other.getRepresentation());
+        }
+    }
+
+    /**
+     * Tests the reader with invalid files.
+     *
+     * @throws IOException
+     */
+    @Test
+    public void testInvalidFiles() throws IOException {
+        System.out.println("testInvalidFiles - empty file");
+        File empty = File.createTempFile("test", ".json");
+        empty.deleteOnExit();
+        try (KnownCaseReader reader = new KnownCaseReader(empty)) {
+            assertFalse(reader.hasNext());
+            assertTrue(reader.nextBatch(10).isEmpty());
+        }
+
+        System.out.println("testInvalidFiles - not an array");
+        File object = File.createTempFile("test", ".json");
+        object.deleteOnExit();
+        Files.write(object.toPath(), "{\"word\": \"Anel\"}".getBytes(StandardCharsets.UTF_8));
+        try (KnownCaseReader reader = new KnownCaseReader(object)) {
+            fail("Only arrays are accepted: " + reader);
+        } catch (final IOException e) {
+            System.out.println("Exception: " + e);
+        }
+
+        System.out.println("testInvalidFiles - word that is not in our database");
+        File invalidWord = File.createTempFile("test", ".json");
+        invalidWord.deleteOnExit();
+        Files.write(invalidWord.toPath(), ("[{\"word\": \"Anel\", \"representation\": \"anɛw\", \"correct\": true},"
+                + "{\"word\": \"Teste\", \"representation\": \"tɛstʃi\", \"correct\": true}]")
+                .getBytes(StandardCharsets.UTF_8));
+        try (KnownCaseReader reader = new KnownCaseReader(invalidWord)) {
+            reader.nextBatch(10);
+            fail("The cases must be validated");
+        } catch (final IllegalArgumentException e) {
+            System.out.println("Exception: " + e);
+        }
+        try (KnownCaseReader reader = new KnownCaseReader(invalidWord)) {
+            KnownCase anel = reader.next();
+            assertEquals("Anel", anel.getWord());
+            assertTrue(anel.getPhonemes().isEmpty());
+        }
+    }
+
+}
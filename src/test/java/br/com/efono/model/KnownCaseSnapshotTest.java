@@ -0,0 +1,122 @@
+package br.com.efono.model;
+
+import br.com.efono.util.UtilTest;
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ * @author João Bolsson (joaovictorbolsson@gmail.com)
+ * @version 2026, Oct 18.
+ */
+public class KnownCaseSnapshotTest {
+
+    /**
+     * Tests {@link KnownCaseSnapshot#write(List, File)} and {@link KnownCaseSnapshot#open(File)}.
+     *
+     * @throws URISyntaxException
+     * @throws IOException
+     */
+    @Test
+    public void testWriteAndOpen() throws URISyntaxException, IOException {
+        File allCorrect = new File(UtilTest.class.getResource("/data/allCorrect.json").toURI());
+        List<KnownCase> expected = KnownCase.loadFile(allCorrect);
+
+        System.out.println("testWriteAndOpen - the snapshot has the same cases");
+        File file = File.createTempFile("test", KnownCaseSnapshot.EXTENSION);
+        file.deleteOnExit();
+        KnownCaseSnapshot.write(expected, file);
+        assertTrue(file.length() < allCorrect.length());
+
+        KnownCaseSnapshot snapshot = KnownCaseSnapshot.open(file);
+        assertEquals(expected.size(), snapshot.size());
+        for (int i = 0; i < expected.size(); i++) {
+            KnownCase c = snapshot.get(i);
+            assertEquals(expected.get(i), c);
+            assertEquals(expected.get(i).getWord(), c.getWord());
+            assertEquals(expected.get(i).isCorrect(), c.isCorrect());
+            assertEquals(expected.get(i).getPhonemes(), c.getPhonemes());
+        }
+
+        System.out.println("testWriteAndOpen - each read creates a new case");
+        assertNotSame(snapshot.get(0), snapshot.get(0));
+        assertEquals(snapshot.get(0), snapshot.get(0));
+        snapshot.get(0).putPhonemes(new ArrayList<>());
+        assertEquals(expected.get(0).getPhonemes(), snapshot.get(0).getPhonemes());
+
+        System.out.println("testWriteAndOpen - loadFile returns the snapshot, which is read-only");
+        List<KnownCase> loaded = KnownCase.loadFile(file);
+        assertTrue(loaded instanceof KnownCaseSnapshot);
+        assertEquals(expected, loaded);
+        try {
+            loaded.add(expected.get(0));
+            fail("The snapshot is read-only");
+        } catch (final UnsupportedOperationException e) {
+            System.out.println("Exception: " + e);
+        }
+
+        System.out.println("testWriteAndOpen - empty snapshot");
+        KnownCaseSnapshot.write(new ArrayList<>(), file);
+        assertTrue(KnownCaseSnapshot.open(file).isEmpty());
+
+        System.out.println("testWriteAndOpen - flags and positions");
+        List<KnownCase> cases = Arrays.asList(
+                new KnownCase("Jacaré", "ʒakaˈɾɛ", false, new ArrayList<>(Arrays.asList(
+                        Phoneme.of("ʒ", Phoneme.POSITION.OI), new Phoneme("ɾ", null)))),
+                new KnownCase("JACARE", "ʒakaˈɾɛ", true));
+        KnownCaseSnapshot.write(cases, file);
+        snapshot = KnownCaseSnapshot.open(file);
+        assertFalse(snapshot.get(0).isCorrect());
+        assertTrue(snapshot.get(1).isCorrect());
+        assertEquals("Jacaré", snapshot.get(1).getWord());
+        assertEquals(cases.get(0).getPhonemes(), snapshot.get(0).getPhonemes());
+        assertTrue(snapshot.get(1).getPhonemes().isEmpty());
+    }
+
+    /**
+     * Tests {@link KnownCaseSnapshot#open(File)} with invalid files.
+     *
+     * @throws IOException
+     */
+    @Test
+    public void testInvalidFiles() throws IOException {
+        File file = File.createTempFile("test", KnownCaseSnapshot.EXTENSION);
+        file.deleteOnExit();
+
+        System.out.println("testInvalidFiles - not a snapshot");
+        Files.write(file.toPath(), "[]".getBytes(StandardCharsets.UTF_8));
+        try {
+            KnownCaseSnapshot.open(file);
+            fail("Only snapshots are accepted");
+        } catch (final IOException e) {
+            System.out.println("Exception: " + e);
+        }
+
+        System.out.println("testInvalidFiles - truncated snapshot");
+        KnownCaseSnapshot.write(Arrays.asList(new KnownCase("Anel", "anɛw", true)), file);
+        byte[] bytes = Files.readAllBytes(file.toPath());
+        Files.write(file.toPath(), Arrays.copyOf(bytes, bytes.length / 2));
+        try {
+            KnownCaseSnapshot.open(file);
+            fail("A truncated snapshot must be rejected");
+        } catch (final IOException e) {
+            System.out.println("Exception: " + e);
+        }
+
+        System.out.println("testInvalidFiles - word that is not in our database");
+        try {
+            KnownCaseSnapshot.write(Arrays.asList(new KnownCase()), file);
+            fail("Only words in our database can be written");
+        } catch (final IllegalArgumentException e) {
+            System.out.println("Exception: " + e);
+        }
+    }
+
+}
@@ -451,4 +451,45 @@ public class KnownCaseTest {
         assertEquals(expected, instance.getCorrectProductions(targetPhonemes));
     }
 
+    /**
+     * Tests the compact representation of {@link KnownCase}: word index, shared representations and phoneme ids.
+     *
+     * @throws IOException
+     */
+    @Test
+    public void testCompactRepresentation() throws IOException {
+        System.out.println("testCompactRepresentation - word index");
+        KnownCase instance = new KnownCase("JACARE", "[ʒakaˈɾɛ]", true, Arrays.asList(
+                new Phoneme("ʒ", Phoneme.POSITION.OI),
+                new Phoneme("k", Phoneme.POSITION.OM)));
+        assertEquals(Defaults.findIndexOf("Jacaré"), instance.getWordIndex());
+        assertEquals("Jacaré", instance.getWord());
+        assertEquals(-1, new KnownCase().getWordIndex());
+
+        System.out.println("testCompactRepresentation - representations are not kept by the class");
+        KnownCase other = new KnownCase("Jacaré", new String("[ʒakaˈɾɛ]"), false);
+        assertEquals(instance.getRepresentation(), other.getRepresentation());
+        assertNotSame(instance.getRepresentation(), other.getRepresentation());
+
+        System.out.println("testCompactRepresentation - phonemes view");
+        assertEquals(2, instance.getPhonemeCount());
+        assertEquals(Phoneme.of("k", Phoneme.POSITION.OM).getId(), instance.getPhonemeId(1));
+        List<Phoneme> phonemes = instance.getPhonemes();
+        assertSame(Phoneme.of("ʒ", Phoneme.POSITION.OI), phonemes.get(0));
+        try {
+            phonemes.add(Phoneme.of("ɾ", Phoneme.POSITION.OM));
+            fail("The phonemes view must be read-only");
+        } catch (final UnsupportedOperationException e) {
+            assertEquals(2, instance.getPhonemeCount());
+        }
+
+        System.out.println("testCompactRepresentation - putPhonemes and copies");
+        KnownCase copy = new KnownCase(instance);
+        instance.putPhonemes(Arrays.asList(Phoneme.of("ɾ", Phoneme.POSITION.OM)));
+        assertEquals(Arrays.asList(Phoneme.of("ɾ", Phoneme.POSITION.OM)), instance.getPhonemes());
+        assertEquals(2, copy.getPhonemeCount());
+        assertEquals(2, phonemes.size());
+        assertEquals(instance, copy);
+    }
+
 }
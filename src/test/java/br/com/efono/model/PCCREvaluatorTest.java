@@ -0,0 +1,93 @@
+package br.com.efono.model;
+
+import br.com.efono.util.Defaults;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ * @author João Bolsson (joaovictorbolsson@gmail.com)
+ * @version 2026, Oct 18.
+ */
+public class PCCREvaluatorTest {
+
+    /**
+     * Tests {@link PCCREvaluator#evaluate(List)}.
+     */
+    @Test
+    public void testEvaluate() {
+        KnownCase anel = new KnownCase("Anel", "[a’nɛw]", true, Arrays.asList(
+                Phoneme.of("n", Phoneme.POSITION.OM)));
+        KnownCase batom = new KnownCase("Batom", "[ba’kõw]", false, Arrays.asList(
+                Phoneme.of("b", Phoneme.POSITION.OI),
+                Phoneme.of("k", Phoneme.POSITION.OM)));
+        KnownCase batomCorrect = new KnownCase("Batom", "[ba’tõw]", true, Arrays.asList(
+                Phoneme.of("b", Phoneme.POSITION.OI),
+                Phoneme.of("t", Phoneme.POSITION.OM)));
+
+        final List<Assessment> assessments = Arrays.asList(
+                new Assessment(Arrays.asList(anel, batom)),
+                new Assessment(Arrays.asList(anel, batom, batomCorrect)),
+                new Assessment(Collections.emptyList()));
+
+        PCCREvaluator evaluator = new PCCREvaluator(assessments, InstrumentFixture.targetPhonemes("Anel", "Batom"));
+        assertEquals(3, evaluator.size());
+
+        System.out.println("testEvaluate - many word sets");
+        double[][] result = evaluator.evaluate(Arrays.asList(WordMask.of("Anel"), WordMask.of("Batom"),
+                WordMask.of("Anel", "Batom"), WordMask.EMPTY));
+        assertArrayEquals(new double[]{1, 1, -1}, result[0], 0);
+        assertArrayEquals(new double[]{0.5, 0.75, -1}, result[1], 0);
+        assertArrayEquals(new double[]{2 / 3d, 0.8, -1}, result[2], 0);
+        assertArrayEquals(new double[]{-1, -1, -1}, result[3], 0);
+
+        System.out.println("testEvaluate - one assessment");
+        assertEquals(0.8, evaluator.getPCCR(1, WordMask.all()), 0);
+        try {
+            evaluator.getPCCR(3, WordMask.all());
+            fail("There is no assessment at this index");
+        } catch (final IndexOutOfBoundsException e) {
+            System.out.println("Exception: " + e);
+        }
+
+        System.out.println("testEvaluate - same values of Assessment#getPCCR");
+        final Map<String, List<Phoneme>> backup = new HashMap<>(Defaults.TARGET_PHONEMES);
+        try {
+            Defaults.TARGET_PHONEMES.putAll(InstrumentFixture.targetPhonemes("Anel", "Batom"));
+            Defaults.reloadInstrument();
+            result = new PCCREvaluator(assessments).evaluate(Arrays.asList(WordMask.all()));
+            for (int i = 0; i < assessments.size(); i++) {
+                assertEquals(assessments.get(i).getPCCR(Arrays.asList(Defaults.SORTED_WORDS)), result[0][i], 0);
+            }
+        } finally {
+            Defaults.TARGET_PHONEMES.clear();
+            Defaults.TARGET_PHONEMES.putAll(backup);
+            Defaults.reloadInstrument();
+        }
+
+        System.out.println("testEvaluate - the evaluator is a snapshot");
+        assessments.get(2).addCase(anel);
+        assertEquals(-1, evaluator.getPCCR(2, WordMask.all()), 0);
+    }
+
+    /**
+     * Tests {@link KnownCase#countCorrectProductions(List)}.
+     */
+    @Test
+    public void testCountCorrectProductions() {
+        System.out.println("testCountCorrectProductions - same size of getCorrectProductions");
+        KnownCase batom = new KnownCase("Batom", "[ba’kõw]", false, Arrays.asList(
+                Phoneme.of("b", Phoneme.POSITION.OI),
+                Phoneme.of("k", Phoneme.POSITION.OM)));
+        List<Phoneme> target = InstrumentFixture.targetPhonemes("Batom").get("Batom");
+        assertEquals(batom.getCorrectProductions(target).size(), batom.countCorrectProductions(target));
+        assertEquals(1, batom.countCorrectProductions(target));
+        assertEquals(0, batom.countCorrectProductions(null));
+        assertEquals(0, batom.countCorrectProductions(Arrays.asList((Phoneme) null)));
+    }
+
+}
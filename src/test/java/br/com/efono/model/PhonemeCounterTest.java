@@ -0,0 +1,91 @@
+package br.com.efono.model;
+
+import java.util.HashMap;
+import java.util.Map;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ * @author João Bolsson (joaovictorbolsson@gmail.com)
+ * @version 2026, Oct 18.
+ */
+public class PhonemeCounterTest {
+
+    private final Phoneme bOI = Phoneme.of("b", Phoneme.POSITION.OI);
+    private final Phoneme tOM = Phoneme.of("t", Phoneme.POSITION.OM);
+
+    /**
+     * Tests {@link PhonemeCounter#increment(Phoneme)} and {@link PhonemeCounter#get(Phoneme)}.
+     */
+    @Test
+    public void testIncrement() {
+        PhonemeCounter counter = new PhonemeCounter();
+
+        System.out.println("testIncrement - empty counter");
+        assertTrue(counter.isEmpty());
+        assertEquals(0, counter.get(bOI));
+        assertEquals(0, counter.get(null));
+
+        System.out.println("testIncrement - counting");
+        assertEquals(1, counter.increment(bOI));
+        assertEquals(2, counter.increment(new Phoneme("b", Phoneme.POSITION.OI)));
+        assertEquals(1, counter.increment(tOM));
+        assertEquals(2, counter.get(bOI));
+        assertEquals(0, counter.get(Phoneme.of("b", Phoneme.POSITION.OM)));
+        assertEquals(2, counter.size());
+
+        System.out.println("testIncrement - phoneme with a high id");
+        Phoneme last = Phoneme.of("test-phoneme-counter", Phoneme.POSITION.CF);
+        assertEquals(1, counter.increment(last));
+        assertEquals(3, counter.size());
+
+        System.out.println("testIncrement - set and clear");
+        counter.set(last, 0);
+        assertEquals(2, counter.size());
+        counter.set(tOM, 5);
+        assertEquals(5, counter.get(tOM));
+        counter.clear();
+        assertTrue(counter.isEmpty());
+        assertEquals(0, counter.get(bOI));
+    }
+
+    /**
+     * Tests {@link PhonemeCounter#asMap()}.
+     */
+    @Test
+    public void testAsMap() {
+        PhonemeCounter counter = new PhonemeCounter();
+        Map<Phoneme, Integer> view = counter.asMap();
+
+        System.out.println("testAsMap - the view reflects the counter");
+        assertTrue(view.isEmpty());
+        counter.increment(bOI);
+        counter.increment(bOI);
+        counter.increment(tOM);
+
+        Map<Phoneme, Integer> expected = new HashMap<>();
+        expected.put(new Phoneme("b", Phoneme.POSITION.OI), 2);
+        expected.put(new Phoneme("t", Phoneme.POSITION.OM), 1);
+        assertEquals(expected, view);
+        assertEquals(expected.hashCode(), view.hashCode());
+        assertTrue(view.containsKey(new Phoneme("t", Phoneme.POSITION.OM)));
+        assertFalse(view.containsKey("t"));
+        assertNull(view.get(Phoneme.of("t", Phoneme.POSITION.CF)));
+
+        System.out.println("testAsMap - read-only view");
+        try {
+            view.put(tOM, 3);
+            fail("The view must be read-only");
+        } catch (final UnsupportedOperationException e) {
+            assertEquals(Integer.valueOf(1), view.get(tOM));
+        }
+
+        System.out.println("testAsMap - counter from a map");
+        PhonemeCounter copy = new PhonemeCounter(expected);
+        assertEquals(counter, copy);
+        assertEquals(counter.hashCode(), copy.hashCode());
+        copy.increment(tOM);
+        assertNotEquals(counter, copy);
+    }
+
+}
@@ -0,0 +1,106 @@
+package br.com.efono.model;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ * @author João Bolsson (joaovictorbolsson@gmail.com)
+ * @version 2026, Oct 18.
+ */
+public class PhonemeSetTest {
+
+    private final Phoneme brOCI = Phoneme.of("bɾ", Phoneme.POSITION.OCI);
+    private final Phoneme blOCI = Phoneme.of("bl", Phoneme.POSITION.OCI);
+    private final Phoneme blOCME = Phoneme.of("bl", Phoneme.POSITION.OCME);
+    private final Phoneme plOCI = Phoneme.of("pl", Phoneme.POSITION.OCI);
+
+    /**
+     * Tests {@link PhonemeSet#add(Phoneme)}, {@link PhonemeSet#remove(Phoneme)} and
+     * {@link PhonemeSet#contains(Phoneme)}.
+     */
+    @Test
+    public void testAdd() {
+        PhonemeSet set = new PhonemeSet();
+
+        System.out.println("testAdd - null and empty");
+        assertFalse(set.add(null));
+        assertFalse(set.contains(null));
+        assertTrue(set.isEmpty());
+
+        System.out.println("testAdd - no repeated phonemes");
+        assertTrue(set.add(brOCI));
+        assertFalse(set.add(new Phoneme("bɾ", Phoneme.POSITION.OCI)));
+        assertTrue(set.contains(new Phoneme("bɾ", Phoneme.POSITION.OCI)));
+        assertFalse(set.contains(Phoneme.of("bɾ", Phoneme.POSITION.OCME)));
+        assertEquals(1, set.size());
+
+        System.out.println("testAdd - phoneme with a high id");
+        Phoneme last = Phoneme.of("test-phoneme-set", Phoneme.POSITION.CF);
+        assertTrue(set.add(last));
+        assertTrue(set.contains(last));
+        assertEquals(2, set.size());
+
+        System.out.println("testAdd - remove");
+        assertTrue(set.remove(last));
+        assertFalse(set.remove(last));
+        assertEquals(new PhonemeSet(Arrays.asList(brOCI)), set);
+        assertEquals(new PhonemeSet(Arrays.asList(brOCI)).hashCode(), set.hashCode());
+        set.clear();
+        assertTrue(set.isEmpty());
+    }
+
+    /**
+     * Tests {@link PhonemeSet#union(PhonemeSet)}, {@link PhonemeSet#intersection(PhonemeSet)},
+     * {@link PhonemeSet#difference(PhonemeSet)} and {@link PhonemeSet#containsAll(PhonemeSet)}.
+     */
+    @Test
+    public void testOperations() {
+        PhonemeSet a = new PhonemeSet(Arrays.asList(brOCI, blOCI, blOCME));
+        PhonemeSet b = new PhonemeSet(Arrays.asList(blOCI, plOCI));
+
+        System.out.println("testOperations - union");
+        assertEquals(new PhonemeSet(Arrays.asList(brOCI, blOCI, blOCME, plOCI)), a.union(b));
+
+        System.out.println("testOperations - intersection");
+        assertEquals(new PhonemeSet(Arrays.asList(blOCI)), a.intersection(b));
+        assertTrue(a.intersection(new PhonemeSet()).isEmpty());
+
+        System.out.println("testOperations - difference");
+        assertEquals(new PhonemeSet(Arrays.asList(brOCI, blOCME)), a.difference(b));
+        assertEquals(a, a.difference(new PhonemeSet()));
+
+        System.out.println("testOperations - the operands are not changed");
+        assertEquals(3, a.size());
+        assertEquals(2, b.size());
+
+        System.out.println("testOperations - contains all");
+        assertTrue(a.containsAll(a.intersection(b)));
+        assertFalse(a.containsAll(b));
+        assertTrue(a.containsAll(new PhonemeSet()));
+    }
+
+    /**
+     * Tests {@link PhonemeSet#filter(java.util.Collection)} and {@link PhonemeSet#iterator()}.
+     */
+    @Test
+    public void testFilter() {
+        PhonemeSet set = new PhonemeSet(Arrays.asList(plOCI, brOCI));
+
+        System.out.println("testFilter - keeps the list order, without repetitions");
+        List<Phoneme> list = Arrays.asList(blOCI, plOCI, brOCI, plOCI, null);
+        assertEquals(Arrays.asList(plOCI, brOCI), set.filter(list));
+
+        System.out.println("testFilter - iterates all the phonemes");
+        int count = 0;
+        Iterator<Phoneme> it = set.iterator();
+        while (it.hasNext()) {
+            assertTrue(set.contains(it.next()));
+            count++;
+        }
+        assertEquals(2, count);
+    }
+
+}
@@ -1,5 +1,7 @@
 package br.com.efono.model;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
 import static org.junit.Assert.*;
 import org.junit.Test;
 
@@ -33,27 +35,9 @@ public class PhonemeTest {
         assertTrue(new Phoneme("bɾ", Phoneme.POSITION.OI).isConsonantCluster());
     }
 
-    /**
-     * Tests for integrity.
-     */
-    @Test
-    public void testIntegrity() {
-        /**
-         * The array cannot contains more than 9 strings, because we use the index treat transcriptions.
-         *
-         * We need to replace the labialization string to just 1 char, so we can split the phonemes correctly at
-         * {@link Util#getConsonantPhonemes}.
-         */
-        System.out.println("testIntegrity - test for array length");
-        /**
-         * Needs to be less than 10, because then the index in the list with the two arrays will go until 9.
-         */
-        assertTrue(Phoneme.SPECIAL_CONSONANTS.length + Phoneme.LABIALIZATION.length <= 10);
-    }
-
     /**
      * Tests {@link Phoneme#getPhoneme()}, {@link Phoneme#getPosition()} and
-     * {@link Phoneme#setPosition(Phoneme.POSITION)}
+     * {@link Phoneme#withPosition(Phoneme.POSITION)}
      */
     @Test
     public void testGettersAndSetters() {
@@ -71,6 +55,62 @@ public class PhonemeTest {
         Phoneme phoneme = new Phoneme("n");
         assertEquals("n", phoneme.getPhoneme());
         assertNull(phoneme.getPosition());
+
+        System.out.println("testGettersAndSetters - phoneme in another position");
+        Phoneme other = phoneme.withPosition(Phoneme.POSITION.CF);
+        assertEquals(new Phoneme("n", Phoneme.POSITION.CF), other);
+        assertNull(phoneme.getPosition());
+    }
+
+    /**
+     * Tests {@link Phoneme#of(String, Phoneme.POSITION)}, {@link Phoneme#getId()} and {@link Phoneme#byId(int)}.
+     */
+    @Test
+    public void testOf() {
+        System.out.println("testOf - invalid parameters");
+        try {
+            Phoneme.of(null, Phoneme.POSITION.OI);
+            fail("A null phoneme must not be accepted.");
+        } catch (IllegalArgumentException e) {
+        }
+
+        System.out.println("testOf - canonical instances");
+        Phoneme phoneme = Phoneme.of("bɾ", Phoneme.POSITION.OCI);
+        assertSame(phoneme, Phoneme.of("bɾ", Phoneme.POSITION.OCI));
+        assertSame(phoneme, new Phoneme("bɾ", Phoneme.POSITION.OCI).withPosition(Phoneme.POSITION.OCI));
+        assertNotSame(phoneme, Phoneme.of("bɾ", Phoneme.POSITION.OCME));
+        assertEquals(new Phoneme("bɾ", Phoneme.POSITION.OCI), phoneme);
+        assertEquals(new Phoneme("bɾ", Phoneme.POSITION.OCI).hashCode(), phoneme.hashCode());
+
+        System.out.println("testOf - ids");
+        assertEquals(phoneme.getId(), new Phoneme("bɾ", Phoneme.POSITION.OCI).getId());
+        assertNotEquals(phoneme.getId(), Phoneme.of("bɾ", null).getId());
+        assertSame(phoneme, Phoneme.byId(phoneme.getId()));
+        assertTrue(phoneme.getId() < Phoneme.count());
+        try {
+            Phoneme.byId(Phoneme.count());
+            fail("There is no phoneme with this id yet.");
+        } catch (IllegalArgumentException e) {
+        }
+    }
+
+    /**
+     * Tests that the JSON mapper uses the canonical instances.
+     *
+     * @throws java.io.IOException
+     */
+    @Test
+    public void testJson() throws IOException {
+        System.out.println("testJson - canonical instance");
+        ObjectMapper mapper = new ObjectMapper();
+        Phoneme phoneme = mapper.readValue("{\"phoneme\":\"bɾ\",\"position\":\"OCI\",\"consonantCluster\":true}",
+                Phoneme.class);
+        assertSame(Phoneme.of("bɾ", Phoneme.POSITION.OCI), phoneme);
+
+        System.out.println("testJson - the id is not written");
+        String json = mapper.writeValueAsString(phoneme);
+        assertFalse(json.contains("\"id\""));
+        assertSame(phoneme, mapper.readValue(json, Phoneme.class));
     }
 
     /**
@@ -124,4 +164,24 @@ public class PhonemeTest {
         assertFalse(special.equals(new Phoneme("pr")));
     }
 
+    /**
+     * Tests {@link Phoneme#getSplitCount()} and {@link Phoneme#getSplitId(int)}.
+     */
+    @Test
+    public void testSplitIds() {
+        System.out.println("testSplitIds - consonant clusters, same as splitPhonemes");
+        Phoneme cluster = Phoneme.of("bɾ", Phoneme.POSITION.OCME);
+        assertEquals(2, cluster.getSplitCount());
+        assertEquals(cluster.splitPhonemes().get(0).getId(), cluster.getSplitId(0));
+        assertEquals(Phoneme.of("ɾ", Phoneme.POSITION.OCME).getId(), cluster.getSplitId(1));
+
+        System.out.println("testSplitIds - other phonemes count only themselves");
+        Phoneme single = Phoneme.of("kʷ", Phoneme.POSITION.OI);
+        assertEquals(1, single.getSplitCount());
+        assertEquals(single.getId(), single.getSplitId(0));
+
+        System.out.println("testSplitIds - instances created by the constructors");
+        assertEquals(cluster.getSplitId(1), new Phoneme("bɾ", Phoneme.POSITION.OCME).getSplitId(1));
+    }
+
 }
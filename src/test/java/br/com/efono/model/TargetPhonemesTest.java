@@ -0,0 +1,199 @@
+package br.com.efono.model;
+
+import br.com.efono.util.WordCatalog;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ * @author João Bolsson (joaovictorbolsson@gmail.com)
+ * @version 2026, Oct 18.
+ */
+public class TargetPhonemesTest {
+
+    private static int index(final String word) {
+        return WordCatalog.getDefault().indexOf(word);
+    }
+
+    private static TargetPhonemes create() {
+        final Map<String, List<Phoneme>> targetPhonemes = InstrumentFixture.targetPhonemes("Anel", "Travesseiro");
+        targetPhonemes.put("Navio", Arrays.asList(Phoneme.of("n", Phoneme.POSITION.OM)));
+        targetPhonemes.put("Cama", new ArrayList<>());
+        targetPhonemes.put("Prato", Arrays.asList(Phoneme.of("pɾ", Phoneme.POSITION.OCI),
+                Phoneme.of("t", Phoneme.POSITION.OM)));
+        targetPhonemes.put("not a word", Arrays.asList(Phoneme.of("n", Phoneme.POSITION.OI)));
+
+        final Map<String, List<String>> similarWords = new HashMap<>();
+        similarWords.put("Anel", Arrays.asList("Travesseiro", "not a word", "Prato"));
+
+        return new TargetPhonemes(targetPhonemes, similarWords);
+    }
+
+    /**
+     * Tests {@link TargetPhonemes#get(int, boolean, int)}.
+     */
+    @Test
+    public void testGet() {
+        TargetPhonemes targets = create();
+        int travesseiro = index("Travesseiro");
+
+        System.out.println("testGet - target phonemes");
+        assertEquals(2, targets.size(travesseiro, false));
+        assertEquals(Phoneme.of("tɾ", Phoneme.POSITION.OCI).getId(), targets.get(travesseiro, false, 0));
+        assertEquals(Arrays.asList(Phoneme.of("tɾ", Phoneme.POSITION.OCI), Phoneme.of("v", Phoneme.POSITION.OM)),
+                targets.getPhonemes(travesseiro));
+
+        System.out.println("testGet - consonant clusters split");
+        assertEquals(3, targets.size(travesseiro, true));
+        assertEquals(Phoneme.of("t", Phoneme.POSITION.OCI).getId(), targets.get(travesseiro, true, 0));
+        assertEquals(Phoneme.of("ɾ", Phoneme.POSITION.OCI).getId(), targets.get(travesseiro, true, 1));
+        assertEquals(Phoneme.of("v", Phoneme.POSITION.OM).getId(), targets.get(travesseiro, true, 2));
+
+        System.out.println("testGet - words without target phonemes");
+        assertTrue(targets.contains(index("Cama")));
+        assertEquals(0, targets.size(index("Cama"), true));
+        assertFalse(targets.contains(index("Batom")));
+        assertEquals(0, targets.size(index("Batom"), false));
+        assertNull(targets.getPhonemes(index("Batom")));
+        assertFalse(targets.contains(-1));
+        assertEquals(0, targets.size(-1, true));
+
+        System.out.println("testGet - read-only");
+        try {
+            targets.getPhonemes(travesseiro).set(0, Phoneme.of("b", Phoneme.POSITION.OI));
+            fail("The snapshot is immutable");
+        } catch (final UnsupportedOperationException e) {
+            System.out.println("Exception: " + e);
+        }
+    }
+
+    /**
+     * Tests {@link TargetPhonemes#getClusters(int)} and {@link TargetPhonemes#getAllClusters()}.
+     */
+    @Test
+    public void testClusters() {
+        TargetPhonemes targets = create();
+
+        System.out.println("testClusters - clusters of each word");
+        assertEquals(Collections.singletonList(Phoneme.of("pɾ", Phoneme.POSITION.OCI)),
+                targets.getClusters(index("Prato")));
+        assertTrue(targets.getClusters(index("Anel")).isEmpty());
+        assertTrue(targets.getClusters(-1).isEmpty());
+
+        System.out.println("testClusters - all the clusters");
+        assertEquals(2, targets.getAllClusters().size());
+        assertTrue(targets.getAllClusters().contains(Phoneme.of("tɾ", Phoneme.POSITION.OCI)));
+        assertTrue(targets.getAllClusters().contains(Phoneme.of("pɾ", Phoneme.POSITION.OCI)));
+    }
+
+    /**
+     * Tests {@link TargetPhonemes#getWordsWith(int, boolean)}.
+     */
+    @Test
+    public void testGetWordsWith() {
+        TargetPhonemes targets = create();
+
+        System.out.println("testGetWordsWith - words with the phoneme");
+        assertEquals(WordMask.of("Anel", "Navio"), targets.getWordsWith(Phoneme.of("n", Phoneme.POSITION.OM).getId(),
+                false));
+        assertEquals(WordMask.of("Travesseiro"), targets.getWordsWith(Phoneme.of("tɾ", Phoneme.POSITION.OCI).getId(),
+                false));
+        assertTrue(targets.getWordsWith(Phoneme.of("t", Phoneme.POSITION.OCI).getId(), false).isEmpty());
+        assertTrue(targets.getWordsWith(-1, false).isEmpty());
+        assertTrue(targets.getWordsWith(Phoneme.count() + 10, true).isEmpty());
+
+        System.out.println("testGetWordsWith - consonant clusters split");
+        assertEquals(WordMask.of("Travesseiro"), targets.getWordsWith(Phoneme.of("t", Phoneme.POSITION.OCI).getId(),
+                true));
+        assertTrue(targets.getWordsWith(Phoneme.of("tɾ", Phoneme.POSITION.OCI).getId(), true).isEmpty());
+
+        System.out.println("testGetWordsWith - any of the phonemes");
+        assertEquals(WordMask.of("Anel", "Navio", "Prato"), targets.getWordsWith(Arrays.asList(
+                Phoneme.of("n", Phoneme.POSITION.OM), Phoneme.of("t", Phoneme.POSITION.OM)), true));
+        assertTrue(targets.getWordsWith((List<Phoneme>) null, true).isEmpty());
+    }
+
+    /**
+     * Tests {@link TargetPhonemes#getSimilarWord(int, int)}.
+     */
+    @Test
+    public void testSimilarWords() {
+        TargetPhonemes targets = create();
+
+        System.out.println("testSimilarWords - only words from our database");
+        assertEquals(2, targets.getSimilarCount(index("Anel")));
+        assertEquals(index("Travesseiro"), targets.getSimilarWord(index("Anel"), 0));
+        assertEquals(index("Prato"), targets.getSimilarWord(index("Anel"), 1));
+        assertEquals(0, targets.getSimilarCount(index("Navio")));
+
+        System.out.println("testSimilarWords - without similar words");
+        assertEquals(0, new TargetPhonemes(new HashMap<>(), null).getSimilarCount(index("Anel")));
+    }
+
+    /**
+     * Tests {@link TargetPhonemes#countCorrectProductions(KnownCase)}.
+     */
+    @Test
+    public void testCountCorrectProductions() {
+        TargetPhonemes targets = create();
+
+        System.out.println("testCountCorrectProductions - same as the list of target phonemes");
+        KnownCase prato = new KnownCase("Prato", "[’patu]", false, Arrays.asList(
+                Phoneme.of("p", Phoneme.POSITION.OI), Phoneme.of("t", Phoneme.POSITION.OM)));
+        assertEquals(prato.countCorrectProductions(targets.getPhonemes(index("Prato"))),
+                targets.countCorrectProductions(prato));
+        assertEquals(1, targets.countCorrectProductions(prato));
+
+        System.out.println("testCountCorrectProductions - correct cases");
+        KnownCase anel = new KnownCase("Anel", "[a’nɛw]", true, Arrays.asList(Phoneme.of("n", Phoneme.POSITION.OM)));
+        assertEquals(1, targets.countCorrectProductions(anel));
+
+        System.out.println("testCountCorrectProductions - words without target phonemes");
+        KnownCase batom = new KnownCase("Batom", "[ba’tõw]", false, Arrays.asList(
+                Phoneme.of("b", Phoneme.POSITION.OI), Phoneme.of("t", Phoneme.POSITION.OM)));
+        assertEquals(0, targets.countCorrectProductions(batom));
+    }
+
+    /**
+     * Tests the reading of the same snapshot by many threads.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testConcurrentReads() throws Exception {
+        final TargetPhonemes targets = create();
+        final int travesseiro = index("Travesseiro");
+
+        System.out.println("testConcurrentReads - same values in all the threads");
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Integer>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    int sum = 0;
+                    for (int i = 0; i < 10000; i++) {
+                        for (int j = 0; j < targets.size(travesseiro, true); j++) {
+                            sum += targets.get(travesseiro, true, j);
+                        }
+                    }
+                    return sum;
+                }));
+            }
+            int expected = futures.get(0).get();
+            for (Future<Integer> f : futures) {
+                assertEquals(expected, (int) f.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,126 @@
+package br.com.efono.model;
+
+import br.com.efono.util.Defaults;
+import br.com.efono.util.WordCatalog;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ * @author João Bolsson (joaovictorbolsson@gmail.com)
+ * @version 2026, Oct 18.
+ */
+public class WordMaskTest {
+
+    /**
+     * Tests {@link WordMask#of(Collection)}.
+     */
+    @Test
+    public void testOf() {
+        System.out.println("testOf - empty sets");
+        assertTrue(WordMask.of(Collections.emptyList()).isEmpty());
+        assertTrue(WordMask.of((List<String>) null).isEmpty());
+        assertEquals(WordMask.EMPTY, WordMask.of("not a word"));
+
+        System.out.println("testOf - accents, case and repeated words");
+        WordMask mask = WordMask.of("Jacaré", "JACARE", "Anel");
+        assertEquals(2, mask.size());
+        assertTrue(mask.contains("jacare"));
+        assertTrue(mask.contains(WordCatalog.getDefault().indexOf("Anel")));
+        assertFalse(mask.contains("Batom"));
+        assertFalse(mask.contains((String) null));
+        assertEquals(WordMask.of("Anel", "Jacaré"), mask);
+        assertEquals(WordMask.of("Anel", "Jacaré").hashCode(), mask.hashCode());
+
+        System.out.println("testOf - all the words");
+        WordMask all = WordMask.all();
+        assertEquals(Defaults.SORTED_WORDS.length, all.size());
+        for (int i = 0; i < Defaults.SORTED_WORDS.length; i++) {
+            assertTrue(all.contains(i));
+        }
+        assertFalse(all.contains(-1));
+        assertFalse(all.contains(WordMask.CAPACITY));
+        assertEquals(all, WordMask.of(Arrays.asList(Defaults.SORTED_WORDS)));
+    }
+
+    /**
+     * Tests {@link WordMask#union(WordMask)}.
+     */
+    @Test
+    public void testUnion() {
+        System.out.println("testUnion - words below and above 64");
+        String first = Defaults.SORTED_WORDS[0];
+        String last = Defaults.SORTED_WORDS[Defaults.SORTED_WORDS.length - 1];
+        WordMask union = WordMask.of(first).union(WordMask.of(last));
+        assertEquals(2, union.size());
+        assertTrue(union.contains(first));
+        assertTrue(union.contains(last));
+        assertEquals("[" + first + ", " + last + "]", union.toString());
+        assertEquals(union, union.union(WordMask.EMPTY));
+    }
+
+    /**
+     * Tests {@link WordMask.Builder} and {@link WordMask#toLongArray()}.
+     */
+    @Test
+    public void testBuilder() {
+        System.out.println("testBuilder - words below and above 64, added once");
+        int last = Defaults.SORTED_WORDS.length - 1;
+        WordMask.Builder builder = new WordMask.Builder();
+        assertTrue(builder.build().isEmpty());
+        assertTrue(builder.add(3));
+        assertTrue(builder.add(last));
+        assertFalse(builder.add(3));
+        assertFalse(builder.add(last));
+        assertFalse(builder.add(-1));
+        assertEquals(WordMask.of(Defaults.SORTED_WORDS[3], Defaults.SORTED_WORDS[last]), builder.build());
+
+        System.out.println("testBuilder - union with other sets");
+        assertSame(builder, builder.addAll(WordMask.of("Anel")));
+        assertEquals(WordMask.of("Anel", Defaults.SORTED_WORDS[3], Defaults.SORTED_WORDS[last]), builder.build());
+        assertEquals(WordMask.all(), new WordMask.Builder().addAll(WordMask.all()).build());
+
+        System.out.println("testBuilder - bits of the set");
+        assertArrayEquals(new long[]{1L << 3, 1L << (last - 64)}, WordMask.of(Defaults.SORTED_WORDS[3],
+                Defaults.SORTED_WORDS[last]).toLongArray());
+        assertArrayEquals(new long[]{0L, 0L}, WordMask.EMPTY.toLongArray());
+
+        System.out.println("testBuilder - index out of the capacity");
+        try {
+            builder.add(WordMask.CAPACITY);
+            fail("The mask has only " + WordMask.CAPACITY + " words");
+        } catch (final IllegalStateException e) {
+            System.out.println("Exception: " + e);
+        }
+    }
+
+    /**
+     * Tests {@link WordMask#next(int)}.
+     */
+    @Test
+    public void testNext() {
+        System.out.println("testNext - words below and above 64");
+        int last = Defaults.SORTED_WORDS.length - 1;
+        WordMask mask = WordMask.of(Defaults.SORTED_WORDS[3], Defaults.SORTED_WORDS[63], Defaults.SORTED_WORDS[64],
+                Defaults.SORTED_WORDS[last]);
+        assertEquals(3, mask.next(0));
+        assertEquals(3, mask.next(-5));
+        assertEquals(63, mask.next(4));
+        assertEquals(64, mask.next(64));
+        assertEquals(last, mask.next(65));
+        assertEquals(-1, mask.next(last + 1));
+        assertEquals(-1, mask.next(WordMask.CAPACITY));
+
+        System.out.println("testNext - walking the set");
+        int count = 0;
+        for (int i = WordMask.all().next(0); i >= 0; i = WordMask.all().next(i + 1)) {
+            assertEquals(count++, i);
+        }
+        assertEquals(Defaults.SORTED_WORDS.length, count);
+        assertEquals(-1, WordMask.EMPTY.next(0));
+    }
+
+}
@@ -0,0 +1,141 @@
+package br.com.efono.tree;
+
+import br.com.efono.util.Defaults;
+import java.util.Arrays;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ * @author João Bolsson (joaovictorbolsson@gmail.com)
+ * @version 2026, Oct 18.
+ */
+public class ImplicitTreeTest {
+
+    /**
+     * Asserts that the subtree in the given slot has the same shape and values of the node.
+     */
+    private static <E> void assertSameTree(final Node<E> node, final ImplicitTree<E> tree, final int slot) {
+        if (node == null) {
+            assertFalse(tree.contains(slot));
+            return;
+        }
+        assertEquals(node.getValue(), tree.getValue(slot));
+        assertSameTree(node.getLeft(), tree, ImplicitTree.left(slot));
+        assertSameTree(node.getRight(), tree, ImplicitTree.right(slot));
+    }
+
+    /**
+     * Tests {@link ImplicitTree#ImplicitTree(Object[])}.
+     */
+    @Test
+    public void testCreate() {
+        String[] words = Arrays.copyOf(Defaults.SORTED_WORDS, 10);
+        ImplicitTree<String> tree = new ImplicitTree<>(words);
+
+        System.out.println("testCreate - same shape of BinaryTree#init");
+        assertEquals(10, tree.size());
+        assertEquals(ImplicitTree.ROOT, tree.getRoot());
+        assertEquals(words[4], tree.getValue(ImplicitTree.ROOT));
+        assertEquals(words[2], tree.getValue(tree.getLeft(ImplicitTree.ROOT)));
+        assertEquals(words[7], tree.getValue(tree.getRight(ImplicitTree.ROOT)));
+
+        final BinaryTree<String> binaryTree = new BinaryTree<>(Defaults.DEFAULT_WORDS_COMPARATOR);
+        binaryTree.init(Defaults.SORTED_WORDS);
+        assertSameTree(binaryTree.getRoot(), new ImplicitTree<>(Defaults.SORTED_WORDS), ImplicitTree.ROOT);
+        assertEquals(binaryTree.getValues(), new ImplicitTree<>(Defaults.SORTED_WORDS).getValues());
+
+        System.out.println("testCreate - empty tree");
+        ImplicitTree<String> empty = new ImplicitTree<>(new String[0]);
+        assertEquals(0, empty.size());
+        assertEquals(-1, empty.getRoot());
+        assertEquals(-1, empty.slotOf("Anel"));
+
+        System.out.println("testCreate - repeated values skip their subtrees, like BinaryTree#init");
+        ImplicitTree<String> repeated = new ImplicitTree<>(new String[]{"a", "b", "b", "c"});
+        assertEquals(2, repeated.size());
+        assertEquals(Arrays.asList("b", "a"), repeated.getValues());
+    }
+
+    /**
+     * Tests the navigation between parent and children.
+     */
+    @Test
+    public void testNavigation() {
+        String[] words = Arrays.copyOf(Defaults.SORTED_WORDS, 10);
+        ImplicitTree<String> tree = new ImplicitTree<>(words);
+
+        System.out.println("testNavigation - word to slot");
+        int slot = tree.slotOf(words[6]);
+        assertEquals(words[6], tree.getValue(slot));
+        assertEquals(6, tree.getRank(slot));
+        assertEquals(slot, tree.slotOfRank(6));
+        assertEquals(-1, tree.slotOf("Zebra"));
+        assertEquals(-1, tree.slotOfRank(10));
+
+        System.out.println("testNavigation - parent and children");
+        assertTrue(tree.isLeaf(slot));
+        assertEquals(words[5], tree.getValue(tree.getParent(slot)));
+        assertEquals(-1, tree.getLeft(tree.getParent(slot)));
+        assertEquals(slot, tree.getRight(tree.getParent(slot)));
+        assertEquals(-1, tree.getParent(ImplicitTree.ROOT));
+        assertEquals(-1, tree.getParent(-1));
+        assertFalse(tree.isLeaf(ImplicitTree.ROOT));
+        assertNull(tree.getValue(tree.getSlotCount()));
+    }
+
+    /**
+     * Tests {@link BinaryTree#getNode(Object)} and {@link BinaryTree#findParent(Object)} with the implicit tree.
+     */
+    @Test
+    public void testBinaryTree() {
+        final BinaryTree<String> tree = new BinaryTree<>(Defaults.DEFAULT_WORDS_COMPARATOR);
+        tree.init(Defaults.SORTED_WORDS);
+
+        System.out.println("testBinaryTree - nodes from the implicit tree");
+        assertNotNull(tree.getImplicitTree());
+        for (String word : Defaults.SORTED_WORDS) {
+            Node<String> node = tree.getNode(word);
+            assertEquals(word, node.getValue());
+            Node<String> parent = tree.findParent(word);
+            if (parent == null) {
+                assertSame(tree.getRoot(), node);
+            } else {
+                assertTrue(parent.getLeft() == node || parent.getRight() == node);
+            }
+        }
+        assertNull(tree.getNode("not a word"));
+
+        System.out.println("testBinaryTree - changed tree");
+        tree.add("not a word");
+        assertNull(tree.getImplicitTree());
+        assertEquals(Defaults.SORTED_WORDS[0], tree.getNode(Defaults.SORTED_WORDS[0]).getValue());
+    }
+
+    /**
+     * Tests a tree with thousands of values.
+     */
+    @Test
+    public void testLargeTree() {
+        Integer[] values = new Integer[5000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i;
+        }
+        ImplicitTree<Integer> tree = new ImplicitTree<>(values);
+
+        System.out.println("testLargeTree - " + tree);
+        assertEquals(values.length, tree.size());
+        for (int i = 0; i < values.length; i++) {
+            int slot = tree.slotOf(i);
+            // binary search tree
+            if (tree.getLeft(slot) >= 0) {
+                assertTrue(tree.getValue(tree.getLeft(slot)) < i);
+            }
+            if (tree.getRight(slot) >= 0) {
+                assertTrue(tree.getValue(tree.getRight(slot)) > i);
+            }
+        }
+        // balanced: the slots of the deepest level are lower than 4 times the size
+        assertTrue(tree.getSlotCount() < 4 * values.length);
+    }
+
+}
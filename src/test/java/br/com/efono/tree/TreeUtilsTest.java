@@ -7,6 +7,8 @@ import static br.com.efono.util.Defaults.SORTED_WORDS;
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import static org.junit.Assert.assertEquals;
 import org.junit.Test;
 
@@ -174,4 +176,44 @@ public class TreeUtilsTest {
         }
     }
 
+    /**
+     * Tests {@link TreeUtils#getFirstWords(ImplicitTree, LinkedList, List)} and repeated walks in the same tree.
+     */
+    @Test
+    public void testGetFirstWordsConcurrent() {
+        System.out.println("testGetFirstWordsConcurrent - walks without reset");
+
+        final BinaryTree<String> tree = new BinaryTree<>(Defaults.DEFAULT_WORDS_COMPARATOR);
+        tree.init(Arrays.copyOf(SORTED_WORDS, 10));
+
+        KnownCase batom = new KnownCase("Batom", "[ba’tõw]", true, Arrays.asList(new Phoneme("b", Phoneme.POSITION.OI), new Phoneme("t", Phoneme.POSITION.OM)));
+        KnownCase terra = new KnownCase("Terra", "[’tɛχə]", false, Arrays.asList(new Phoneme("t", Phoneme.POSITION.OI), new Phoneme("χ", Phoneme.POSITION.OM)));
+        KnownCase dado = new KnownCase("Dado", "[’dadu]", true, Arrays.asList(new Phoneme("d", Phoneme.POSITION.OI), new Phoneme("d", Phoneme.POSITION.OM)));
+        KnownCase dedo = new KnownCase("Dedo", "[’dedu]", false, Arrays.asList(new Phoneme("d", Phoneme.POSITION.OI), new Phoneme("d", Phoneme.POSITION.OM)));
+        final List<KnownCase> listCases = Arrays.asList(batom, terra, dado, dedo);
+
+        final LinkedList<String> first = new LinkedList<>();
+        TreeUtils.getFirstWords(tree.getRoot(), first, listCases);
+        final LinkedList<String> second = new LinkedList<>();
+        TreeUtils.getFirstWords(tree.getRoot(), second, listCases);
+        assertEquals(first, second);
+        assertEquals(Arrays.asList(SORTED_WORDS[4], SORTED_WORDS[7], SORTED_WORDS[5]), first);
+
+        System.out.println("testGetFirstWordsConcurrent - same words with the implicit tree");
+        final LinkedList<String> implicit = new LinkedList<>();
+        TreeUtils.getFirstWords(tree.getImplicitTree(), implicit, listCases);
+        assertEquals(first, implicit);
+
+        System.out.println("testGetFirstWordsConcurrent - many walks at the same time");
+        final List<KnownCase> allCorrect = Arrays.asList(batom, dado);
+        final List<List<String>> results = IntStream.range(0, 1000).parallel().mapToObj(i -> {
+            final LinkedList<String> words = new LinkedList<>();
+            TreeUtils.getFirstWords(tree.getImplicitTree(), words, i % 2 == 0 ? listCases : allCorrect);
+            return words;
+        }).collect(Collectors.toList());
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(i % 2 == 0 ? first : Arrays.asList(SORTED_WORDS[4]), results.get(i));
+        }
+    }
+
 }
@@ -0,0 +1,60 @@
+package br.com.efono.util;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ * @author João Bolsson (joaovictorbolsson@gmail.com)
+ * @version 2026, Oct 18.
+ */
+public class BatchResultTest {
+
+    /**
+     * Tests {@link BatchResult#process(List, java.util.function.Function)}.
+     */
+    @Test
+    public void testProcess() {
+        System.out.println("testProcess - null and empty inputs");
+        assertEquals(0, BatchResult.process(null, String::length).size());
+        assertFalse(BatchResult.process(Arrays.asList(), String::valueOf).hasFailures());
+
+        System.out.println("testProcess - results in the same order of the inputs");
+        List<String> inputs = new LinkedList<>();
+        for (int i = 0; i < 1000; i++) {
+            inputs.add(Integer.toString(i));
+        }
+        BatchResult<String, Integer> result = BatchResult.process(inputs, Integer::parseInt);
+        assertEquals(1000, result.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, result.get(i).intValue());
+            assertEquals(Integer.toString(i), result.getInput(i));
+        }
+    }
+
+    /**
+     * Tests {@link BatchResult#getFailures()}.
+     */
+    @Test
+    public void testGetFailures() {
+        System.out.println("testGetFailures - the failed inputs don't stop the batch");
+        List<String> inputs = Arrays.asList("1", "a", "3", null, "5");
+        BatchResult<String, Integer> result = BatchResult.process(inputs, Integer::parseInt);
+        assertTrue(result.hasFailures());
+        assertEquals(Arrays.asList(1, 3, 5), result.getResults());
+        assertTrue(result.isFailed(1));
+        assertFalse(result.isFailed(2));
+        assertNull(result.get(1));
+
+        System.out.println("testGetFailures - failures in the same order of the inputs");
+        assertEquals(2, result.getFailures().size());
+        assertEquals(1, result.getFailures().get(0).getIndex());
+        assertEquals("a", result.getFailures().get(0).getInput());
+        assertTrue(result.getFailures().get(0).getException() instanceof NumberFormatException);
+        assertEquals(3, result.getFailures().get(1).getIndex());
+        assertNull(result.getFailures().get(1).getInput());
+    }
+
+}
@@ -1,9 +1,21 @@
 package br.com.efono.util;
 
+import java.io.BufferedReader;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.junit.Test;
 import static org.junit.Assert.*;
 
@@ -53,4 +65,109 @@ public class FileUtilsTest {
         assertEquals(4638, csv.size()); // lines read
     }
 
+    /**
+     * Tests {@link FileUtils#lines(File)}.
+     *
+     * @throws java.io.IOException
+     */
+    @Test
+    public void testLines() throws IOException {
+        System.out.println("testLines - invalid path");
+        try {
+            FileUtils.lines(new File("invalid-" + System.nanoTime() + ".txt"));
+            fail("A missing file must not be read.");
+        } catch (final NoSuchFileException e) {
+        }
+
+        System.out.println("testLines - UTF-8 with BOM and Windows line terminators");
+        File file = File.createTempFile("lines", ".txt");
+        file.deleteOnExit();
+        try (OutputStream out = new FileOutputStream(file)) {
+            out.write(new byte[]{(byte) 0xEF, (byte) 0xBB, (byte) 0xBF});
+            out.write("[’lu.vẽj̃]\r\n\r\n[ʃi’klƐʧi]".getBytes(StandardCharsets.UTF_8));
+        }
+        try (Stream<String> lines = FileUtils.lines(file)) {
+            assertEquals(Arrays.asList("[’lu.vẽj̃]", "", "[ʃi’klƐʧi]"), lines.collect(Collectors.toList()));
+        }
+
+        System.out.println("testLines - lines crossing the mapped windows, read in parallel");
+        List<String> expected = new ArrayList<>();
+        try (Writer out = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+            for (int i = 0; i < 20000; i++) {
+                String line = i + ",[bis.ʃkɛ.tə]," + (i % 2);
+                expected.add(line);
+                out.write(line);
+                out.write('\n');
+            }
+        }
+        try (Stream<String> lines = FileUtils.lines(file, 1000)) {
+            assertEquals(expected, lines.parallel().collect(Collectors.toList()));
+        }
+
+        System.out.println("testLines - mixed line terminators, same lines of BufferedReader");
+        try (OutputStream out = new FileOutputStream(file)) {
+            out.write("a\r\nb\rc\n\nd\r".getBytes(StandardCharsets.UTF_8));
+        }
+        try (Stream<String> lines = FileUtils.lines(file)) {
+            assertEquals(Arrays.asList("a", "b", "c", "", "d"), lines.collect(Collectors.toList()));
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            assertEquals(Arrays.asList("a", "b", "c", "", "d"), reader.lines().collect(Collectors.toList()));
+        }
+
+        System.out.println("testLines - mixed line terminators crossing the mapped windows, read in parallel");
+        final String[] terminators = {"\n", "\r", "\r\n", "\r\r"};
+        expected.clear();
+        try (Writer out = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+            for (int i = 0; i < 20000; i++) {
+                String line = i + ",[bis.ʃkɛ.tə]," + (i % 2);
+                expected.add(line);
+                out.write(line);
+                out.write(terminators[i % terminators.length]);
+                if (i % terminators.length == 3) {
+                    expected.add("");
+                }
+            }
+        }
+        try (Stream<String> lines = FileUtils.lines(file, 1000)) {
+            assertEquals(expected, lines.parallel().collect(Collectors.toList()));
+        }
+    }
+
+    /**
+     * Tests {@link FileUtils#splitCSV(String, char)}.
+     */
+    @Test
+    public void testSplitCSV() {
+        System.out.println("testSplitCSV - simple fields");
+        assertArrayEquals(new String[]{"Anel", "[a’nɛw]", "1"}, FileUtils.splitCSV("Anel,[a’nɛw],1", ','));
+        assertArrayEquals(new String[]{"Anel", "", ""}, FileUtils.splitCSV("Anel,,", ','));
+        assertArrayEquals(new String[]{""}, FileUtils.splitCSV("", ','));
+
+        System.out.println("testSplitCSV - quoted fields");
+        assertArrayEquals(new String[]{"Escrever", "[es,e.’ve]", "0"},
+                FileUtils.splitCSV("Escrever,\"[es,e.’ve]\",0", ','));
+        assertArrayEquals(new String[]{"a\"b", "c"}, FileUtils.splitCSV("\"a\"\"b\";c", ';'));
+    }
+
+    /**
+     * Tests {@link FileUtils#streamCSV(File, char)}.
+     *
+     * @throws java.net.URISyntaxException
+     * @throws java.io.IOException
+     */
+    @Test
+    public void testStreamCSV() throws URISyntaxException, IOException {
+        System.out.println("testStreamCSV - reading file");
+        File file = new File(UtilTest.class.getResource("/data/allKnownCases.csv").toURI());
+        try (Stream<String[]> csv = FileUtils.streamCSV(file, ',')) {
+            List<String[]> lines = csv.collect(Collectors.toList());
+            assertEquals(4638, lines.size());
+            for (String[] line : lines) {
+                assertEquals(3, line.length);
+            }
+            assertEquals("[es,e.’ve]", lines.get(1538)[1]);
+        }
+    }
+
 }
@@ -0,0 +1,76 @@
+package br.com.efono.util;
+
+import br.com.efono.model.Phoneme;
+import java.util.Arrays;
+import java.util.List;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ * @author João Bolsson (joaovictorbolsson@gmail.com)
+ * @version 2026, Oct 18.
+ */
+public class PhonemeBufferTest {
+
+    /**
+     * Tests {@link PhonemeBuffer#accept(int, Phoneme.POSITION)} and {@link PhonemeBuffer#clear()}.
+     */
+    @Test
+    public void testAccept() {
+        PhonemeBuffer buffer = new PhonemeBuffer(1);
+        int b = SymbolTable.idOf('b');
+        int bl = SymbolTable.idOf("bl");
+
+        System.out.println("testAccept - the buffer grows");
+        buffer.accept(b, Phoneme.POSITION.OI);
+        buffer.accept(bl, Phoneme.POSITION.OCME);
+        buffer.accept(b, Phoneme.POSITION.OM);
+        assertEquals(3, buffer.size());
+        assertEquals(bl, buffer.getSymbol(1));
+        assertEquals(Phoneme.POSITION.OCME, buffer.getPosition(1));
+        assertEquals(2, buffer.count(b, null));
+        assertEquals(1, buffer.count(b, Phoneme.POSITION.OM));
+
+        System.out.println("testAccept - clear");
+        buffer.clear();
+        assertEquals(0, buffer.size());
+        try {
+            buffer.getSymbol(0);
+            fail("There is no phoneme in the buffer.");
+        } catch (IndexOutOfBoundsException e) {
+        }
+    }
+
+    /**
+     * Tests {@link TranscriptionLexer#getConsonantPhonemes(String, PhonemeSink)} with a reused buffer.
+     */
+    @Test
+    public void testToPhonemes() {
+        TranscriptionLexer lexer = TranscriptionLexer.getInstance();
+        PhonemeBuffer buffer = new PhonemeBuffer();
+
+        System.out.println("testToPhonemes - blank transcription");
+        lexer.getConsonantPhonemes("  ", buffer);
+        assertEquals(0, buffer.size());
+
+        System.out.println("testToPhonemes - same phonemes of the list");
+        List<String> transcriptions = Arrays.asList("[ba.χi.'gui.ɲə]", "[iskɾe’veɾ]", "[’bɾĩnko]", "[ʼʃifɾis]",
+                "[\\u2019lu.vẽj̃]", "kʷaza");
+        for (String transcription : transcriptions) {
+            buffer.clear();
+            lexer.getConsonantPhonemes(transcription, buffer);
+            assertEquals(lexer.getConsonantPhonemes(transcription), buffer.toPhonemes());
+        }
+
+        System.out.println("testToPhonemes - a sink calling the lexer again");
+        PhonemeBuffer inner = new PhonemeBuffer();
+        buffer.clear();
+        lexer.getConsonantPhonemes("[iskɾe’veɾ]", (symbol, position) -> {
+            buffer.accept(symbol, position);
+            lexer.getConsonantPhonemes("[’bɾĩnko]", inner);
+        });
+        assertEquals(lexer.getConsonantPhonemes("[iskɾe’veɾ]"), buffer.toPhonemes());
+        assertEquals(4 * 3, inner.size());
+    }
+
+}
@@ -0,0 +1,94 @@
+package br.com.efono.util;
+
+import br.com.efono.model.Phoneme;
+import java.util.List;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ * @author João Bolsson (joaovictorbolsson@gmail.com)
+ * @version 2026, Oct 18.
+ */
+public class PhonemeCacheTest {
+
+    /**
+     * Tests {@link PhonemeCache#getConsonantPhonemes(String)}.
+     */
+    @Test
+    public void testGetConsonantPhonemes() {
+        PhonemeCache cache = new PhonemeCache(10);
+
+        System.out.println("testGetConsonantPhonemes - same result of Util");
+        List<Phoneme> result = cache.getConsonantPhonemes("[ba.χi.'gui.ɲə]");
+        assertEquals(Util.getConsonantPhonemes("[ba.χi.'gui.ɲə]"), result);
+        assertEquals(0, cache.getHits());
+        assertEquals(1, cache.getMisses());
+
+        System.out.println("testGetConsonantPhonemes - equivalent transcriptions share the same entry");
+        assertSame(result, cache.getConsonantPhonemes("baχiguiɲə"));
+        assertSame(result, cache.getConsonantPhonemes(" [ba.χi.'gui .   ɲ    ə]   "));
+        assertEquals(2, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.size());
+
+        System.out.println("testGetConsonantPhonemes - unmodifiable list");
+        try {
+            result.add(new Phoneme("b", Phoneme.POSITION.OI));
+            fail("The cached list must not be modified.");
+        } catch (UnsupportedOperationException e) {
+        }
+    }
+
+    /**
+     * Tests the evictions when the cache is full.
+     */
+    @Test
+    public void testEvictions() {
+        System.out.println("testEvictions - invalid size");
+        try {
+            new PhonemeCache(0);
+            fail("The cache must have at least one entry.");
+        } catch (IllegalArgumentException e) {
+        }
+
+        System.out.println("testEvictions - least recently used is evicted");
+        PhonemeCache cache = new PhonemeCache(2);
+        cache.getConsonantPhonemes("bala");
+        cache.getConsonantPhonemes("kaza");
+        cache.getConsonantPhonemes("bala");
+        cache.getConsonantPhonemes("peʃi");
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictions());
+
+        cache.getConsonantPhonemes("bala");
+        assertEquals(2, cache.getHits());
+        cache.getConsonantPhonemes("kaza");
+        assertEquals(4, cache.getMisses());
+
+        System.out.println("testEvictions - clear");
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    /**
+     * Tests that {@link Util#reloadTables()} invalidates the cache.
+     */
+    @Test
+    public void testReloadTables() {
+        PhonemeCache cache = new PhonemeCache(10);
+
+        System.out.println("testReloadTables - equivalent phonemes changed");
+        assertEquals("x", cache.getConsonantPhonemes("xa").get(0).getPhoneme());
+        Util.EQUIVALENT_PHONEMES.put("x", "ʃ");
+        try {
+            Util.reloadTables();
+            assertEquals("ʃ", cache.getConsonantPhonemes("xa").get(0).getPhoneme());
+            assertEquals(2, cache.getMisses());
+        } finally {
+            Util.EQUIVALENT_PHONEMES.remove("x");
+            Util.reloadTables();
+        }
+        assertEquals("x", cache.getConsonantPhonemes("xa").get(0).getPhoneme());
+    }
+
+}
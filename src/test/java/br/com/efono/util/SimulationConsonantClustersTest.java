@@ -24,6 +24,7 @@ public class SimulationConsonantClustersTest {
     @Before
     public void beforeMethod() {
         Defaults.TARGET_PHONEMES.clear();
+        Defaults.reloadInstrument();
     }
 
     /**
@@ -63,6 +64,7 @@ public class SimulationConsonantClustersTest {
                 new Phoneme("bl", Phoneme.POSITION.OCME), // bl in different position
                 new Phoneme("t", Phoneme.POSITION.OM),
                 new Phoneme("k", Phoneme.POSITION.OM)));
+        Defaults.reloadInstrument();
 
         List<KnownCase> cases = new ArrayList<>();
         cases.add(new KnownCase("Vaca", "vlaka", false, Arrays.asList(
@@ -245,6 +247,7 @@ public class SimulationConsonantClustersTest {
         Defaults.TARGET_PHONEMES.put("Flor", Arrays.asList(
                 new Phoneme("fl", Phoneme.POSITION.OCI),
                 new Phoneme("ɾ", Phoneme.POSITION.CM)));
+        Defaults.reloadInstrument();
 
         List<KnownCase> cases = new ArrayList<>();
         cases.add(new KnownCase("Brinco", "bĩnko", false, Arrays.asList(
@@ -352,6 +355,7 @@ public class SimulationConsonantClustersTest {
         Defaults.TARGET_PHONEMES.put("Flor", Arrays.asList(
                 new Phoneme("fl", Phoneme.POSITION.OCI),
                 new Phoneme("ɾ", Phoneme.POSITION.CM)));
+        Defaults.reloadInstrument();
 
         List<KnownCase> cases = new ArrayList<>();
         cases.add(new KnownCase("Brinco", "blĩnko", false, Arrays.asList(
@@ -467,6 +471,7 @@ public class SimulationConsonantClustersTest {
                 new Phoneme("ɾ", Phoneme.POSITION.OM),
                 new Phoneme("s", Phoneme.POSITION.CM),
                 new Phoneme("t", Phoneme.POSITION.OM)));
+        Defaults.reloadInstrument();
 
         List<KnownCase> cases = new ArrayList<>();
         cases.add(new KnownCase("Brinco", "blĩnko", false, Arrays.asList(
@@ -0,0 +1,169 @@
+package br.com.efono.util;
+
+import br.com.efono.model.Assessment;
+import br.com.efono.model.Instrument;
+import br.com.efono.model.InstrumentFixture;
+import br.com.efono.model.KnownCase;
+import br.com.efono.model.KnownCaseComparator;
+import br.com.efono.model.Phoneme;
+import br.com.efono.model.SimulationInfo;
+import br.com.efono.model.Statistics;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ * @author João Bolsson (joaovictorbolsson@gmail.com)
+ * @version 2026, Oct 18.
+ */
+public class SimulationEngineTest {
+
+    /**
+     * Creates assessments with different productions: the case i of the assessment a is correct if the bit i of a is
+     * set.
+     */
+    private static List<Assessment> createAssessments(final int count) {
+        final List<Assessment> assessments = new ArrayList<>();
+        for (int a = 0; a < count; a++) {
+            assessments.add(new Assessment(Arrays.asList(
+                    new KnownCase("Anel", "[a’nɛw]", (a & 1) != 0, Arrays.asList(
+                            Phoneme.of("n", Phoneme.POSITION.OM))),
+                    new KnownCase("Batom", "[ba’tõw]", (a & 2) != 0, Arrays.asList(
+                            Phoneme.of("b", Phoneme.POSITION.OI), Phoneme.of("t", Phoneme.POSITION.OM))),
+                    new KnownCase("Navio", "[na’viw]", (a & 4) != 0, Arrays.asList(
+                            Phoneme.of("n", Phoneme.POSITION.OI))),
+                    new KnownCase("Travesseiro", "[tɾave’sejɾu]", (a & 8) != 0, Arrays.asList(
+                            Phoneme.of("tɾ", Phoneme.POSITION.OCI), Phoneme.of("v", Phoneme.POSITION.OM))))));
+        }
+        return assessments;
+    }
+
+    private static List<SimulationEngine.Variant> createVariants() {
+        final List<SimulationEngine.Variant> variants = new ArrayList<>();
+        for (KnownCaseComparator comp : Arrays.asList(KnownCaseComparator.HardWordsFirst,
+                KnownCaseComparator.EasyWordsFirst, KnownCaseComparator.EasyHardWords,
+                KnownCaseComparator.BinaryTreeComparator)) {
+            variants.add(SimulationEngine.Variant.of(comp, true, true));
+            variants.add(SimulationEngine.Variant.of(comp, false, true));
+            variants.add(SimulationEngine.Variant.of(comp, true, false));
+        }
+        variants.add(SimulationEngine.Variant.blocks(KnownCaseComparator.BinaryTreeComparator, true));
+        variants.add(SimulationEngine.Variant.blocks(KnownCaseComparator.BinaryTreeComparator, false));
+        return variants;
+    }
+
+    /**
+     * Tests {@link SimulationEngine#run(List, List)}.
+     */
+    @Test
+    public void testRun() {
+        final Instrument instrument = InstrumentFixture.create();
+        final List<Assessment> assessments = createAssessments(64);
+        final List<SimulationEngine.Variant> variants = createVariants();
+
+        final ExecutorService executor = SimulationEngine.newExecutor(4);
+        try {
+            SimulationEngine.Results results = new SimulationEngine(instrument, 2, executor).run(assessments,
+                    variants);
+
+            System.out.println("testRun - same results of the sequential simulations");
+            assertEquals(assessments, results.getAssessments());
+            for (SimulationEngine.Variant variant : variants) {
+                List<SimulationInfo> infos = results.get(variant);
+                assertEquals(assessments.size(), infos.size());
+                for (int a = 0; a < assessments.size(); a++) {
+                    SimulationInfo expected;
+                    if (variant.isBlocks()) {
+                        expected = SimulationWordsSequence.runSimulation2(assessments.get(a),
+                                variant.getComparator(), 2, variant.isSplitConsonantClusters(), instrument);
+                    } else {
+                        expected = SimulationWordsSequence.runSimulation(assessments.get(a),
+                                variant.getComparator(), 2, variant.isSplitConsonantClusters(),
+                                variant.isPhoneticInventory(), instrument);
+                    }
+                    assertEquals(expected, infos.get(a));
+                    assertEquals(expected.getWordsRequired(), infos.get(a).getWordsRequired());
+                    assertSame(assessments.get(a), results.get(variant, a).getAssessment());
+                }
+            }
+
+            System.out.println("testRun - variant not run");
+            try {
+                results.get(SimulationEngine.Variant.blocks(KnownCaseComparator.HardWordsFirst, true));
+                fail("Only the variants that were run have results");
+            } catch (final IllegalArgumentException e) {
+                System.out.println("Exception: " + e);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Tests {@link SimulationEngine.Results#merge(SimulationEngine.Results)}.
+     */
+    @Test
+    public void testMerge() {
+        final Instrument instrument = InstrumentFixture.create();
+        final List<Assessment> assessments = createAssessments(32);
+        final List<SimulationEngine.Variant> variants = createVariants();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            SimulationEngine engine = new SimulationEngine(instrument, 2, executor);
+            SimulationEngine.Results all = engine.run(assessments, variants);
+            SimulationEngine.Results merged = engine.run(assessments.subList(0, 10), variants).merge(
+                    engine.run(assessments.subList(10, assessments.size()), variants));
+
+            System.out.println("testMerge - batches in the order of the assessments");
+            assertEquals(all.getAssessments(), merged.getAssessments());
+            for (SimulationEngine.Variant variant : variants) {
+                assertEquals(all.get(variant), merged.get(variant));
+            }
+
+            System.out.println("testMerge - different variants");
+            try {
+                all.merge(engine.run(assessments, variants.subList(0, 2)));
+                fail("Results of different variants can't be merged");
+            } catch (final IllegalArgumentException e) {
+                System.out.println("Exception: " + e);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Tests {@link SimulationEngine.Results#extractStatistics(SimulationEngine.Variant, Statistics)}.
+     */
+    @Test
+    public void testExtractStatistics() {
+        final Instrument instrument = InstrumentFixture.create();
+        final List<Assessment> assessments = createAssessments(16);
+        final SimulationEngine.Variant variant = SimulationEngine.Variant.of(KnownCaseComparator.EasyWordsFirst, true,
+                false);
+
+        System.out.println("testExtractStatistics - same CSV with any number of threads");
+        String expected = null;
+        for (int threads : new int[]{1, 2, 8}) {
+            final ExecutorService executor = SimulationEngine.newExecutor(threads);
+            try {
+                SimulationEngine.Results results = new SimulationEngine(instrument, 2, executor).run(assessments,
+                        Arrays.asList(variant));
+                String csv = results.extractStatistics(variant, new Statistics(
+                        KnownCaseComparator.EasyWordsFirst, instrument)).exportAllCSV();
+                if (expected == null) {
+                    expected = csv;
+                }
+                assertEquals(expected, csv);
+            } finally {
+                executor.shutdown();
+            }
+        }
+    }
+
+}
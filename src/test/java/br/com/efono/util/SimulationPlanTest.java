@@ -0,0 +1,116 @@
+package br.com.efono.util;
+
+import br.com.efono.model.Assessment;
+import br.com.efono.model.Instrument;
+import br.com.efono.model.InstrumentFixture;
+import br.com.efono.model.KnownCase;
+import br.com.efono.model.KnownCaseComparator;
+import br.com.efono.model.Phoneme;
+import br.com.efono.model.SimulationInfo;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ * @author João Bolsson (joaovictorbolsson@gmail.com)
+ * @version 2026, Oct 18.
+ */
+public class SimulationPlanTest {
+
+    private static Assessment createAssessment() {
+        return new Assessment(Arrays.asList(
+                new KnownCase("Navio", "[na’viw]", true, Arrays.asList(Phoneme.of("n", Phoneme.POSITION.OI),
+                        Phoneme.of("v", Phoneme.POSITION.OM))),
+                new KnownCase("Anel", "[a’nɛw]", false, Arrays.asList(Phoneme.of("l", Phoneme.POSITION.OM))),
+                new KnownCase("Travesseiro", "[tave’sejɾu]", false, Arrays.asList(
+                        Phoneme.of("t", Phoneme.POSITION.OCI), Phoneme.of("v", Phoneme.POSITION.OM))),
+                new KnownCase("Batom", "[ba’tõw]", true, Arrays.asList(Phoneme.of("b", Phoneme.POSITION.OI),
+                        Phoneme.of("t", Phoneme.POSITION.OM)))));
+    }
+
+    /**
+     * Tests {@link SimulationPlan#getOrder(KnownCaseComparator)}.
+     */
+    @Test
+    public void testGetOrder() {
+        final Instrument instrument = InstrumentFixture.create();
+        final Assessment assessment = createAssessment();
+        final SimulationPlan plan = new SimulationPlan(assessment, EnumSet.allOf(KnownCaseComparator.class),
+                instrument);
+
+        System.out.println("testGetOrder - same order of sortList");
+        for (KnownCaseComparator comp : KnownCaseComparator.values()) {
+            List<KnownCase> expected = new ArrayList<>(assessment.getCaseList());
+            SimulationWordsSequence.sortList(expected, comp, instrument);
+            assertEquals(comp.name(), expected, plan.getCases(comp));
+
+            int[] order = plan.getOrder(comp);
+            for (int i = 0; i < order.length; i++) {
+                assertSame(expected.get(i), assessment.getCaseList().get(order[i]));
+            }
+        }
+
+        System.out.println("testGetOrder - null comparator keeps the order of the assessment");
+        assertArrayEquals(new int[]{0, 1, 2, 3}, plan.getOrder(null));
+        assertEquals(assessment.getCaseList(), plan.getCases(null));
+
+        System.out.println("testGetOrder - the order is a copy");
+        plan.getOrder(null)[0] = 3;
+        assertEquals(0, plan.getOrder(null)[0]);
+
+        System.out.println("testGetOrder - comparator not in the plan");
+        SimulationPlan small = new SimulationPlan(assessment, Arrays.asList(KnownCaseComparator.EasyWordsFirst),
+                instrument);
+        assertTrue(small.contains(KnownCaseComparator.EasyWordsFirst));
+        assertFalse(small.contains(KnownCaseComparator.HardWordsFirst));
+        try {
+            small.getOrder(KnownCaseComparator.HardWordsFirst);
+            fail("The order was not computed");
+        } catch (final IllegalArgumentException e) {
+            System.out.println("Exception: " + e);
+        }
+    }
+
+    /**
+     * Tests {@link SimulationPlan#runSimulation(KnownCaseComparator, int, boolean, boolean)} and
+     * {@link SimulationPlan#runSimulation2(KnownCaseComparator, int, boolean)}.
+     */
+    @Test
+    public void testRunSimulation() {
+        final Instrument instrument = InstrumentFixture.create();
+        final Assessment assessment = createAssessment();
+        final List<KnownCaseComparator> comparators = Arrays.asList(KnownCaseComparator.HardWordsFirst,
+                KnownCaseComparator.EasyWordsFirst, KnownCaseComparator.EasyHardWords,
+                KnownCaseComparator.BinaryTreeComparator);
+        final SimulationPlan plan = new SimulationPlan(assessment, comparators, instrument);
+
+        System.out.println("testRunSimulation - same results of SimulationWordsSequence, for all the variants");
+        for (KnownCaseComparator comp : comparators) {
+            for (int minimum = 0; minimum <= 3; minimum++) {
+                for (boolean split : new boolean[]{true, false}) {
+                    for (boolean inventory : new boolean[]{true, false}) {
+                        SimulationInfo expected = SimulationWordsSequence.runSimulation(assessment, comp, minimum,
+                                split, inventory, instrument);
+                        SimulationInfo info = plan.runSimulation(comp, minimum, split, inventory);
+                        assertEquals(expected, info);
+                        assertEquals(expected.getWordsRequired(), info.getWordsRequired());
+                    }
+                    SimulationInfo expected = SimulationWordsSequence.runSimulation2(assessment, comp, minimum,
+                            split, instrument);
+                    SimulationInfo info = plan.runSimulation2(comp, minimum, split);
+                    assertEquals(expected, info);
+                    assertEquals(expected.getWordsRequired(), info.getWordsRequired());
+                }
+            }
+        }
+
+        System.out.println("testRunSimulation - changes in the assessment are not seen by the plan");
+        assessment.addCase(new KnownCase("Anel", "[a’nɛw]", true, Arrays.asList(
+                Phoneme.of("n", Phoneme.POSITION.OM))));
+        assertEquals(4, plan.getCases(KnownCaseComparator.EasyWordsFirst).size());
+    }
+
+}
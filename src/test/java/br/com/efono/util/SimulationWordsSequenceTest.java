@@ -1,9 +1,12 @@
 package br.com.efono.util;
 
 import br.com.efono.model.Assessment;
+import br.com.efono.model.Instrument;
+import br.com.efono.model.InstrumentFixture;
 import br.com.efono.model.KnownCase;
 import br.com.efono.model.KnownCaseComparator;
 import br.com.efono.model.Phoneme;
+import br.com.efono.model.PhonemeCounter;
 import br.com.efono.model.SimulationInfo;
 import br.com.efono.tree.BinaryTreePrinter;
 import static br.com.efono.util.Defaults.SORTED_WORDS;
@@ -36,8 +39,8 @@ public class SimulationWordsSequenceTest {
      */
     @Before
     public void beforeMethod() {
-        Defaults.TREE.clear();
         Defaults.TARGET_PHONEMES.clear();
+        Defaults.reloadInstrument();
     }
 
     /**
@@ -267,6 +270,43 @@ public class SimulationWordsSequenceTest {
         assertEquals(expected, result);
     }
 
+    /**
+     * Tests {@link SimulationWordsSequence#runSimulation(Assessment, KnownCaseComparator, int, boolean, boolean,
+     * Instrument)} and {@link SimulationWordsSequence#runSimulation2(Assessment, KnownCaseComparator, int, boolean,
+     * Instrument)} with an instrument that doesn't have all the words of the assessment.
+     */
+    @Test
+    public void testRunSimulationSubset() {
+        KnownCase anel = new KnownCase("Anel", "[a’nɛw]", true, Arrays.asList(
+                new Phoneme("n", Phoneme.POSITION.OM)));
+        KnownCase batom = new KnownCase("Batom", "[ba’tõw]", true, Arrays.asList(
+                new Phoneme("b", Phoneme.POSITION.OI),
+                new Phoneme("t", Phoneme.POSITION.OM)));
+        final Assessment assessment = new Assessment(Arrays.asList(anel, batom));
+        final Instrument instrument = InstrumentFixture.create();
+        final Instrument subset = instrument.subset("subset", Arrays.asList("Anel"));
+        final KnownCaseComparator comp = KnownCaseComparator.HardWordsFirst;
+
+        System.out.println("testRunSimulationSubset - all the words in the instrument");
+        assertEquals(Arrays.asList("Batom", "Anel"), SimulationWordsSequence.runSimulation(assessment, comp, minimum,
+                true, true, instrument).getWordsRequired());
+
+        System.out.println("testRunSimulationSubset - phonetic inventory");
+        SimulationInfo result = SimulationWordsSequence.runSimulation(assessment, comp, minimum, true, true, subset);
+        assertEquals(Arrays.asList("Anel"), result.getWordsRequired());
+        assertEquals(1, result.getCounter().get(Phoneme.of("n", Phoneme.POSITION.OM)));
+        assertEquals(0, result.getCounter().get(Phoneme.of("b", Phoneme.POSITION.OI)));
+
+        System.out.println("testRunSimulationSubset - PCC-R");
+        result = SimulationWordsSequence.runSimulation(assessment, comp, minimum, true, false, subset);
+        assertEquals(Arrays.asList("Anel"), result.getWordsRequired());
+
+        System.out.println("testRunSimulationSubset - blocks of words");
+        result = SimulationWordsSequence.runSimulation2(assessment, comp, minimum, true, subset);
+        assertEquals(Arrays.asList("Anel"), result.getWordsRequired());
+        assertEquals(0, result.getCounter().get(Phoneme.of("t", Phoneme.POSITION.OM)));
+    }
+
     /**
      * Tests {@link SimulationWordsSequence#sortList(List, KnownCaseComparator)}.
      */
@@ -316,7 +356,7 @@ public class SimulationWordsSequenceTest {
     }
 
     /**
-     * Tests {@link SimulationWordsSequence#sortList(List, KnownCaseComparator)} with
+     * Tests {@link SimulationWordsSequence#sortList(List, KnownCaseComparator, Instrument)} with
      * {@link KnownCaseComparator#BinaryTreeComparator}.
      */
     @Test
@@ -326,10 +366,10 @@ public class SimulationWordsSequenceTest {
         for (int i = 0; i < 10; i++) {
             words.add(Defaults.SORTED_WORDS[i]);
         }
-        Defaults.TREE.init(words.toArray(new String[0]));
+        final Instrument instrument = Defaults.getInstrument().subset("tree", words);
 
         System.out.println("-------------------");
-        BinaryTreePrinter.print(Defaults.TREE, System.out);
+        BinaryTreePrinter.print(instrument.getTree(), System.out);
         System.out.println("\n-------------------");
 
         // all correct
@@ -346,7 +386,7 @@ public class SimulationWordsSequenceTest {
 
         final List<KnownCase> list = Arrays.asList(batom, terra, dado, tenis, dente, navio, dedo, cama, anel, bebe);
         list.sort(KnownCaseComparator.EasyWordsFirst.getComparator()); // this is already tested
-        SimulationWordsSequence.sortList(list, KnownCaseComparator.BinaryTreeComparator);
+        SimulationWordsSequence.sortList(list, KnownCaseComparator.BinaryTreeComparator, instrument);
 
         // the indexes // essa eh uma abordagem, vai ate o mais dificil e vai voltando
         int[] expectedSequence = new int[]{4, 7, 8, 9, 5, 6, 2, 3, 1, 0};
@@ -357,7 +397,7 @@ public class SimulationWordsSequenceTest {
     }
 
     /**
-     * Tests {@link SimulationWordsSequence#sortList(List, KnownCaseComparator)} with
+     * Tests {@link SimulationWordsSequence#sortList(List, KnownCaseComparator, Instrument)} with
      * {@link KnownCaseComparator#BinaryTreeComparator}.
      */
     @Test
@@ -368,10 +408,10 @@ public class SimulationWordsSequenceTest {
         for (int i = 0; i < 10; i++) {
             words.add(Defaults.SORTED_WORDS[i]);
         }
-        Defaults.TREE.init(words.toArray(new String[0]));
+        final Instrument instrument = Defaults.getInstrument().subset("tree", words);
 
         System.out.println("-------------------");
-        BinaryTreePrinter.print(Defaults.TREE, System.out);
+        BinaryTreePrinter.print(instrument.getTree(), System.out);
         System.out.println("\n-------------------");
 
         KnownCase batom = new KnownCase("Batom", "[ba’tõw]", true, Arrays.asList(new Phoneme("b", Phoneme.POSITION.OI), new Phoneme("t", Phoneme.POSITION.OM)));
@@ -387,7 +427,7 @@ public class SimulationWordsSequenceTest {
 
         final List<KnownCase> list = Arrays.asList(batom, terra, dado, tenis, dente, navio, dedo, cama, anel, bebe);
         list.sort(KnownCaseComparator.EasyWordsFirst.getComparator()); // this is already tested
-        SimulationWordsSequence.sortList(list, KnownCaseComparator.BinaryTreeComparator);
+        SimulationWordsSequence.sortList(list, KnownCaseComparator.BinaryTreeComparator, instrument);
 
         // the indexes // essa eh uma abordagem, vai ate o mais dificil e vai voltando
         int[] expectedSequence = new int[]{4, 7, 5, 6, 8, 9, 2, 3, 1, 0};
@@ -398,7 +438,7 @@ public class SimulationWordsSequenceTest {
     }
 
     /**
-     * Tests {@link SimulationWordsSequence#sortList(List, KnownCaseComparator)} with
+     * Tests {@link SimulationWordsSequence#sortList(List, KnownCaseComparator, Instrument)} with
      * {@link KnownCaseComparator#BinaryTreeComparator}.
      */
     @Test
@@ -409,10 +449,10 @@ public class SimulationWordsSequenceTest {
         for (int i = 0; i < 10; i++) {
             words.add(Defaults.SORTED_WORDS[i]);
         }
-        Defaults.TREE.init(words.toArray(new String[0]));
+        final Instrument instrument = Defaults.getInstrument().subset("tree", words);
 
         System.out.println("-------------------");
-        BinaryTreePrinter.print(Defaults.TREE, System.out);
+        BinaryTreePrinter.print(instrument.getTree(), System.out);
         System.out.println("\n-------------------");
 
         KnownCase batom = new KnownCase("Batom", "[ba’tõw]", true, Arrays.asList(new Phoneme("b", Phoneme.POSITION.OI), new Phoneme("t", Phoneme.POSITION.OM)));
@@ -428,7 +468,7 @@ public class SimulationWordsSequenceTest {
 
         final List<KnownCase> list = Arrays.asList(batom, terra, dado, tenis, dente, navio, dedo, cama, anel, bebe);
         list.sort(KnownCaseComparator.EasyWordsFirst.getComparator()); // this is already tested
-        SimulationWordsSequence.sortList(list, KnownCaseComparator.BinaryTreeComparator);
+        SimulationWordsSequence.sortList(list, KnownCaseComparator.BinaryTreeComparator, instrument);
 
         // the indexes // essa eh uma abordagem, vai ate o mais dificil e vai voltando
         int[] expectedSequence = new int[]{4, 7, 5, 6, 8, 9, 2, 3, 1, 0};
@@ -439,7 +479,7 @@ public class SimulationWordsSequenceTest {
     }
 
     /**
-     * Tests {@link SimulationWordsSequence#sortList(List, KnownCaseComparator)} with
+     * Tests {@link SimulationWordsSequence#sortList(List, KnownCaseComparator, Instrument)} with
      * {@link KnownCaseComparator#BinaryTreeComparator}.
      *
      * Same logic of {@link SimulationWordsSequenceTest#testSortListTree3()} but now with error on the first word
@@ -453,10 +493,10 @@ public class SimulationWordsSequenceTest {
         for (int i = 0; i < 10; i++) {
             words.add(Defaults.SORTED_WORDS[i]);
         }
-        Defaults.TREE.init(words.toArray(new String[0]));
+        final Instrument instrument = Defaults.getInstrument().subset("tree", words);
 
         System.out.println("-------------------");
-        BinaryTreePrinter.print(Defaults.TREE, System.out);
+        BinaryTreePrinter.print(instrument.getTree(), System.out);
         System.out.println("\n-------------------");
 
         KnownCase batom = new KnownCase("Batom", "[ba’tõw]", false, Arrays.asList(new Phoneme("b", Phoneme.POSITION.OI), new Phoneme("t", Phoneme.POSITION.OM)));
@@ -472,7 +512,7 @@ public class SimulationWordsSequenceTest {
 
         final List<KnownCase> list = Arrays.asList(batom, terra, dado, tenis, dente, navio, dedo, cama, anel, bebe);
         list.sort(KnownCaseComparator.EasyWordsFirst.getComparator()); // this is already tested
-        SimulationWordsSequence.sortList(list, KnownCaseComparator.BinaryTreeComparator);
+        SimulationWordsSequence.sortList(list, KnownCaseComparator.BinaryTreeComparator, instrument);
 
         // the indexes // essa eh uma abordagem, vai ate o mais dificil e vai voltando
         int[] expectedSequence = new int[]{4, 2, 3, 1, 0, 7, 5, 6, 8, 9};
@@ -483,7 +523,7 @@ public class SimulationWordsSequenceTest {
     }
 
     /**
-     * Tests {@link SimulationWordsSequence#sortList(List, KnownCaseComparator)} with
+     * Tests {@link SimulationWordsSequence#sortList(List, KnownCaseComparator, Instrument)} with
      * {@link KnownCaseComparator#BinaryTreeComparator}.
      *
      * Same logic of {@link SimulationWordsSequenceTest#testSortListTree3()} but now with error on the first word
@@ -497,10 +537,10 @@ public class SimulationWordsSequenceTest {
         for (int i = 0; i < 10; i++) {
             words.add(Defaults.SORTED_WORDS[i]);
         }
-        Defaults.TREE.init(words.toArray(new String[0]));
+        final Instrument instrument = Defaults.getInstrument().subset("tree", words);
 
         System.out.println("-------------------");
-        BinaryTreePrinter.print(Defaults.TREE, System.out);
+        BinaryTreePrinter.print(instrument.getTree(), System.out);
         System.out.println("\n-------------------");
 
         KnownCase batom = new KnownCase("Batom", "[ba’tõw]", false, Arrays.asList(new Phoneme("b", Phoneme.POSITION.OI), new Phoneme("t", Phoneme.POSITION.OM)));
@@ -516,7 +556,7 @@ public class SimulationWordsSequenceTest {
 
         final List<KnownCase> list = Arrays.asList(batom, terra, dado, tenis, dente, navio, dedo, cama, anel, bebe);
         list.sort(KnownCaseComparator.EasyWordsFirst.getComparator()); // this is already tested
-        SimulationWordsSequence.sortList(list, KnownCaseComparator.BinaryTreeComparator);
+        SimulationWordsSequence.sortList(list, KnownCaseComparator.BinaryTreeComparator, instrument);
 
         // the indexes // essa eh uma abordagem, vai ate o mais dificil e vai voltando
         int[] expectedSequence = new int[]{4, 2, 1, 0, 3, 7, 5, 6, 8, 9};
@@ -527,7 +567,7 @@ public class SimulationWordsSequenceTest {
     }
 
     /**
-     * Tests {@link SimulationWordsSequence#sortList(List, KnownCaseComparator)} with
+     * Tests {@link SimulationWordsSequence#sortList(List, KnownCaseComparator, Instrument)} with
      * {@link KnownCaseComparator#BinaryTreeComparator}.
      *
      * This test has more words in the tree than the others, and less words in given cases to sort. This simulates what
@@ -542,10 +582,10 @@ public class SimulationWordsSequenceTest {
         for (int i = 0; i < 10; i++) {
             words.add(Defaults.SORTED_WORDS[i]);
         }
-        Defaults.TREE.init(words.toArray(new String[0]));
+        final Instrument instrument = Defaults.getInstrument().subset("tree", words);
 
         System.out.println("-------------------");
-        BinaryTreePrinter.print(Defaults.TREE, System.out);
+        BinaryTreePrinter.print(instrument.getTree(), System.out);
         System.out.println("\n-------------------");
 
         // missing "Terra (7)"
@@ -563,7 +603,7 @@ public class SimulationWordsSequenceTest {
         final List<KnownCase> list = Arrays.asList(batom, dado, tenis, dente, navio, dedo, cama, anel, bebe);
         assertEquals(9, list.size());
         list.sort(KnownCaseComparator.EasyWordsFirst.getComparator()); // this is already tested
-        SimulationWordsSequence.sortList(list, KnownCaseComparator.BinaryTreeComparator);
+        SimulationWordsSequence.sortList(list, KnownCaseComparator.BinaryTreeComparator, instrument);
         assertEquals(9, list.size()); // makes sure that the list size didn't change
 
         // the indexes // essa eh uma abordagem, vai ate o mais dificil e vai voltando
@@ -575,7 +615,7 @@ public class SimulationWordsSequenceTest {
     }
 
     /**
-     * Tests {@link SimulationWordsSequence#sortList(List, KnownCaseComparator)} with
+     * Tests {@link SimulationWordsSequence#sortList(List, KnownCaseComparator, Instrument)} with
      * {@link KnownCaseComparator#BinaryTreeComparator}.
      *
      * This test has more words in the tree than the others, and less words in given cases to sort. This simulates what
@@ -590,10 +630,10 @@ public class SimulationWordsSequenceTest {
         for (int i = 0; i < 10; i++) {
             words.add(Defaults.SORTED_WORDS[i]);
         }
-        Defaults.TREE.init(words.toArray(new String[0]));
+        final Instrument instrument = Defaults.getInstrument().subset("tree", words);
 
         System.out.println("-------------------");
-        BinaryTreePrinter.print(Defaults.TREE, System.out);
+        BinaryTreePrinter.print(instrument.getTree(), System.out);
         System.out.println("\n-------------------");
 
         // missing "Terra (7)" and "Navio (6)"
@@ -610,7 +650,7 @@ public class SimulationWordsSequenceTest {
         final List<KnownCase> list = Arrays.asList(batom, dado, tenis, dente, dedo, cama, anel, bebe);
         assertEquals(8, list.size());
         list.sort(KnownCaseComparator.EasyWordsFirst.getComparator()); // this is already tested
-        SimulationWordsSequence.sortList(list, KnownCaseComparator.BinaryTreeComparator);
+        SimulationWordsSequence.sortList(list, KnownCaseComparator.BinaryTreeComparator, instrument);
         assertEquals(8, list.size()); // makes sure that the list size didn't change
 
         // the indexes // essa eh uma abordagem, vai ate o mais dificil e vai voltando
@@ -622,7 +662,7 @@ public class SimulationWordsSequenceTest {
     }
 
     /**
-     * Tests {@link SimulationWordsSequence#sortList(List, KnownCaseComparator)} with
+     * Tests {@link SimulationWordsSequence#sortList(List, KnownCaseComparator, Instrument)} with
      * {@link KnownCaseComparator#BinaryTreeComparator}.
      *
      * This test has more words in the tree than the others, and less words in given cases to sort. This simulates what
@@ -637,10 +677,10 @@ public class SimulationWordsSequenceTest {
         for (int i = 0; i < 10; i++) {
             words.add(Defaults.SORTED_WORDS[i]);
         }
-        Defaults.TREE.init(words.toArray(new String[0]));
+        final Instrument instrument = Defaults.getInstrument().subset("tree", words);
 
         System.out.println("-------------------");
-        BinaryTreePrinter.print(Defaults.TREE, System.out);
+        BinaryTreePrinter.print(instrument.getTree(), System.out);
         System.out.println("\n-------------------");
 
         // missing "Terra (7)" and "Navio (6)" and "Dedo (2)"
@@ -656,7 +696,7 @@ public class SimulationWordsSequenceTest {
         final List<KnownCase> list = Arrays.asList(batom, dado, tenis, dente, cama, anel, bebe);
         assertEquals(7, list.size());
         list.sort(KnownCaseComparator.EasyWordsFirst.getComparator()); // this is already tested
-        SimulationWordsSequence.sortList(list, KnownCaseComparator.BinaryTreeComparator);
+        SimulationWordsSequence.sortList(list, KnownCaseComparator.BinaryTreeComparator, instrument);
         assertEquals(7, list.size()); // makes sure that the list size didn't change
 
         // the indexes // essa eh uma abordagem, vai ate o mais dificil e vai voltando
@@ -702,6 +742,7 @@ public class SimulationWordsSequenceTest {
                 new Phoneme("b", Phoneme.POSITION.OI),
                 new Phoneme("t", Phoneme.POSITION.OM),
                 new Phoneme("t", Phoneme.POSITION.OM)));
+        Defaults.reloadInstrument();
 
         List<KnownCase> list = Arrays.asList(batom, biblioteca, bicicleta, jacare);
 
@@ -821,6 +862,7 @@ public class SimulationWordsSequenceTest {
                 new Phoneme("b", Phoneme.POSITION.OI),
                 new Phoneme("t", Phoneme.POSITION.OM),
                 new Phoneme("t", Phoneme.POSITION.OM)));
+        Defaults.reloadInstrument();
 
         List<KnownCase> list = Arrays.asList(batom, biblioteca, bicicleta, jacare);
 
@@ -893,6 +935,7 @@ public class SimulationWordsSequenceTest {
                 new Phoneme("bl", Phoneme.POSITION.OCME),
                 new Phoneme("t", Phoneme.POSITION.OM),
                 new Phoneme("k", Phoneme.POSITION.OM)));
+        Defaults.reloadInstrument();
 
         System.out.println("testGetNextWords - splitting consonant clusters");
         List<String> result = SimulationWordsSequence.getNextWords(toBeTested, true);
@@ -914,6 +957,7 @@ public class SimulationWordsSequenceTest {
         Defaults.TARGET_PHONEMES.put("Biblioteca", Arrays.asList(
                 new Phoneme("bl", Phoneme.POSITION.OCME),
                 new Phoneme("k", Phoneme.POSITION.OM)));
+        Defaults.reloadInstrument();
         
         System.out.println("testGetNextWords - without splitting consonant clusters");
         toBeTested = Arrays.asList(
@@ -928,4 +972,100 @@ public class SimulationWordsSequenceTest {
         assertTrue(result.containsAll(Arrays.asList("Batom", "Bicicleta")));
     }
 
+    /**
+     * Tests {@link SimulationWordsSequence#countWordIdsRequired(List, PhonemeCounter, boolean, int, boolean,
+     * Instrument)}.
+     */
+    @Test
+    public void testCountWordIdsRequired() {
+        KnownCase batom = new KnownCase("Batom", "[ba’tõw]", false, Arrays.asList(
+                Phoneme.of("b", Phoneme.POSITION.OI), Phoneme.of("t", Phoneme.POSITION.OM)));
+        KnownCase biblioteca = new KnownCase("Biblioteca", "[biblio’tɛkə]", true, Arrays.asList(
+                Phoneme.of("b", Phoneme.POSITION.OI), Phoneme.of("bl", Phoneme.POSITION.OCME),
+                Phoneme.of("t", Phoneme.POSITION.OM), Phoneme.of("kɾ", Phoneme.POSITION.OCME)));
+        KnownCase bicicleta = new KnownCase("Bicicleta", "[bisi’klɛtə]", true, Arrays.asList(
+                Phoneme.of("kl", Phoneme.POSITION.OCME)));
+        KnownCase batomAgain = new KnownCase("Batom", "[ba’tõw]", true, Arrays.asList(
+                Phoneme.of("b", Phoneme.POSITION.OI), Phoneme.of("t", Phoneme.POSITION.OM)));
+
+        final List<KnownCase> list = new LinkedList<>(Arrays.asList(batom, biblioteca, bicicleta, batomAgain));
+
+        System.out.println("testCountWordIdsRequired - invalid parameters");
+        final Instrument defaults = Defaults.getInstrument();
+        assertEquals(0, SimulationWordsSequence.countWordIdsRequired(null, new PhonemeCounter(), true, 1, true,
+                defaults).length);
+        assertEquals(0, SimulationWordsSequence.countWordIdsRequired(list, null, true, 1, true, defaults).length);
+
+        System.out.println("testCountWordIdsRequired - word ids, same as the list of words");
+        for (boolean split : new boolean[]{true, false}) {
+            for (int minimum = 1; minimum <= 3; minimum++) {
+                PhonemeCounter counter = new PhonemeCounter();
+                int[] ids = SimulationWordsSequence.countWordIdsRequired(list, counter, split, minimum, true,
+                        defaults);
+                PhonemeCounter expectedCounter = new PhonemeCounter();
+                List<String> expected = SimulationWordsSequence.countWordsRequired(list, expectedCounter, split,
+                        minimum, true);
+                assertEquals(expected.size(), ids.length);
+                for (int i = 0; i < ids.length; i++) {
+                    assertEquals(expected.get(i), WordCatalog.getDefault().getWord(ids[i]));
+                }
+                assertEquals(expectedCounter, counter);
+            }
+        }
+
+        System.out.println("testCountWordIdsRequired - each word only once");
+        int[] ids = SimulationWordsSequence.countWordIdsRequired(list, new PhonemeCounter(), true, 3, true, defaults);
+        assertArrayEquals(new int[]{batom.getWordIndex(), biblioteca.getWordIndex(), bicicleta.getWordIndex()}, ids);
+
+        System.out.println("testCountWordIdsRequired - target phonemes of the instrument");
+        final Map<String, List<Phoneme>> targetPhonemes = new HashMap<>();
+        targetPhonemes.put("Batom", Arrays.asList(Phoneme.of("b", Phoneme.POSITION.OI),
+                Phoneme.of("t", Phoneme.POSITION.OM)));
+        targetPhonemes.put("Bicicleta", Arrays.asList(Phoneme.of("kl", Phoneme.POSITION.OCME)));
+        Instrument instrument = new Instrument("test", new String[]{"Batom", "Biblioteca", "Bicicleta"},
+                targetPhonemes, null);
+        PhonemeCounter counter = new PhonemeCounter();
+        ids = SimulationWordsSequence.countWordIdsRequired(list, counter, true, 1, false, instrument);
+        assertArrayEquals(new int[]{batom.getWordIndex(), bicicleta.getWordIndex()}, ids);
+        assertEquals(2, counter.get(Phoneme.of("t", Phoneme.POSITION.OM)));
+        assertEquals(1, counter.get(Phoneme.of("l", Phoneme.POSITION.OCME)));
+
+        System.out.println("testCountWordIdsRequired - the words that are not in the instrument are ignored");
+        instrument = instrument.subset("subset", Arrays.asList("Biblioteca", "Bicicleta"));
+        counter = new PhonemeCounter();
+        ids = SimulationWordsSequence.countWordIdsRequired(list, counter, true, 2, true, instrument);
+        assertArrayEquals(new int[]{biblioteca.getWordIndex(), bicicleta.getWordIndex()}, ids);
+        assertEquals(1, counter.get(Phoneme.of("t", Phoneme.POSITION.OM)));
+    }
+
+    /**
+     * Tests {@link SimulationWordsSequence#getNextWords(List, boolean, Instrument)}.
+     */
+    @Test
+    public void testGetNextWordsInstrument() {
+        final Map<String, List<Phoneme>> targetPhonemes = InstrumentFixture.targetPhonemes("Anel", "Batom",
+                "Travesseiro");
+        targetPhonemes.put("Bicicleta", Arrays.asList(Phoneme.of("kl", Phoneme.POSITION.OCME),
+                Phoneme.of("t", Phoneme.POSITION.OM)));
+        Instrument instrument = new Instrument("test", new String[]{"Travesseiro", "Bicicleta", "Anel", "Batom"},
+                targetPhonemes, null);
+
+        System.out.println("testGetNextWordsInstrument - invalid parameters");
+        assertTrue(SimulationWordsSequence.getNextWords(null, true, instrument).isEmpty());
+        assertTrue(SimulationWordsSequence.getNextWords(new ArrayList<>(), false, instrument).isEmpty());
+
+        System.out.println("testGetNextWordsInstrument - in the order of the instrument");
+        assertEquals(Arrays.asList("Bicicleta", "Batom"), SimulationWordsSequence.getNextWords(Arrays.asList(
+                Phoneme.of("t", Phoneme.POSITION.OM)), true, instrument));
+        assertEquals(Arrays.asList("Travesseiro", "Bicicleta", "Anel"), SimulationWordsSequence.getNextWords(
+                Arrays.asList(Phoneme.of("n", Phoneme.POSITION.OM), Phoneme.of("ɾ", Phoneme.POSITION.OCI),
+                        Phoneme.of("l", Phoneme.POSITION.OCME)), true, instrument));
+
+        System.out.println("testGetNextWordsInstrument - consonant clusters not split");
+        assertTrue(SimulationWordsSequence.getNextWords(Arrays.asList(Phoneme.of("ɾ", Phoneme.POSITION.OCI)), false,
+                instrument).isEmpty());
+        assertEquals(Arrays.asList("Travesseiro"), SimulationWordsSequence.getNextWords(Arrays.asList(
+                Phoneme.of("tɾ", Phoneme.POSITION.OCI)), false, instrument));
+    }
+
 }
@@ -0,0 +1,41 @@
+package br.com.efono.util;
+
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ * @author João Bolsson (joaovictorbolsson@gmail.com)
+ * @version 2026, Oct 18.
+ */
+public class SymbolTableTest {
+
+    /**
+     * Tests {@link SymbolTable#idOf(String)}, {@link SymbolTable#idOf(char)} and {@link SymbolTable#symbolOf(int)}.
+     */
+    @Test
+    public void testIdOf() {
+        System.out.println("testIdOf - stable ids");
+        int id = SymbolTable.idOf("kɾ");
+        assertEquals(id, SymbolTable.idOf("kɾ"));
+        assertEquals("kɾ", SymbolTable.symbolOf(id));
+        assertTrue(id < SymbolTable.size());
+
+        System.out.println("testIdOf - single char symbols");
+        assertEquals(SymbolTable.idOf('ʃ'), SymbolTable.idOf("ʃ"));
+        assertEquals("ʃ", SymbolTable.symbolOf(SymbolTable.idOf('ʃ')));
+        assertNotEquals(SymbolTable.idOf('k'), SymbolTable.idOf("kɾ"));
+
+        System.out.println("testIdOf - invalid ids");
+        try {
+            SymbolTable.symbolOf(-1);
+            fail("There is no symbol with a negative id.");
+        } catch (IllegalArgumentException e) {
+        }
+        try {
+            SymbolTable.symbolOf(SymbolTable.size());
+            fail("There is no symbol with this id yet.");
+        } catch (IllegalArgumentException e) {
+        }
+    }
+
+}
@@ -0,0 +1,77 @@
+package br.com.efono.util;
+
+import br.com.efono.model.Phoneme;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ * @author João Bolsson (joaovictorbolsson@gmail.com)
+ * @version 2026, Oct 18.
+ */
+public class SymbolTrieTest {
+
+    /**
+     * Tests {@link SymbolTrie#add(String)}, {@link SymbolTrie#contains(String)} and {@link SymbolTrie#size()}.
+     */
+    @Test
+    public void testAdd() {
+        System.out.println("testAdd - invalid parameters");
+        SymbolTrie trie = new SymbolTrie();
+        try {
+            trie.add(null);
+            fail("A null symbol must not be accepted.");
+        } catch (IllegalArgumentException e) {
+        }
+        try {
+            trie.add("");
+            fail("An empty symbol must not be accepted.");
+        } catch (IllegalArgumentException e) {
+        }
+        assertEquals(0, trie.size());
+
+        System.out.println("testAdd - valid parameters");
+        trie = new SymbolTrie(Phoneme.CONSONANT_CLUSTERS, Phoneme.LABIALIZATION, Phoneme.SPECIAL_CONSONANTS);
+        assertEquals(Phoneme.CONSONANT_CLUSTERS.length + Phoneme.LABIALIZATION.length
+                + Phoneme.SPECIAL_CONSONANTS.length, trie.size());
+        assertTrue(trie.contains("kʷ"));
+        assertTrue(trie.contains("s̃"));
+        assertTrue(trie.contains("bɾ"));
+        assertFalse(trie.contains("b"));
+        assertFalse(trie.contains(null));
+
+        System.out.println("testAdd - more than 9 special phonemes");
+        for (int i = 0; i < 20; i++) {
+            trie.add("t" + i);
+        }
+        assertTrue(trie.contains("t15"));
+        trie.add("t15");
+        assertEquals(Phoneme.CONSONANT_CLUSTERS.length + Phoneme.LABIALIZATION.length
+                + Phoneme.SPECIAL_CONSONANTS.length + 20, trie.size());
+    }
+
+    /**
+     * Tests {@link SymbolTrie#match(char[], int, int)} and {@link SymbolTrie#symbolAt(char[], int, int)}.
+     */
+    @Test
+    public void testMatch() {
+        SymbolTrie trie = new SymbolTrie(new String[]{"t", "tʃ", "tʃʷ"});
+        char[] chars = "atʃʷtʃt".toCharArray();
+
+        System.out.println("testMatch - no symbol at the position");
+        assertEquals(0, trie.match(chars, 0, chars.length));
+
+        System.out.println("testMatch - longest match");
+        assertEquals(3, trie.match(chars, 1, chars.length));
+        assertEquals(2, trie.match(chars, 4, chars.length));
+        assertEquals(1, trie.match(chars, 6, chars.length));
+
+        System.out.println("testMatch - the end position limits the match");
+        assertEquals(2, trie.match(chars, 1, 3));
+
+        System.out.println("testMatch - symbol at");
+        assertEquals("tʃʷ", trie.symbolAt(chars, 1, 3));
+        assertEquals("tʃ", trie.symbolAt(chars, 4, 2));
+        assertNull(trie.symbolAt(chars, 0, 2));
+    }
+
+}
@@ -0,0 +1,176 @@
+package br.com.efono.util;
+
+import br.com.efono.model.KnownCase;
+import br.com.efono.model.Phoneme;
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.Arrays;
+import java.util.List;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ * @author João Bolsson (joaovictorbolsson@gmail.com)
+ * @version 2026, Oct 18.
+ */
+public class TranscriptionLexerTest {
+
+    /**
+     * Tests {@link TranscriptionLexer#classify(char)}.
+     */
+    @Test
+    public void testClassify() {
+        TranscriptionLexer lexer = TranscriptionLexer.getInstance();
+
+        System.out.println("testClassify - vowels and semi vowels");
+        assertEquals(TranscriptionLexer.SymbolClass.VOWEL, lexer.classify('a'));
+        assertEquals(TranscriptionLexer.SymbolClass.VOWEL, lexer.classify('ẽ'));
+        assertEquals(TranscriptionLexer.SymbolClass.SEMI_VOWEL, lexer.classify('w'));
+        assertEquals(TranscriptionLexer.SymbolClass.SEMI_VOWEL, lexer.classify('j'));
+
+        System.out.println("testClassify - consonants and diacritics");
+        assertEquals(TranscriptionLexer.SymbolClass.CONSONANT, lexer.classify('b'));
+        assertEquals(TranscriptionLexer.SymbolClass.CONSONANT, lexer.classify('ɾ'));
+        assertEquals(TranscriptionLexer.SymbolClass.DIACRITIC, lexer.classify('ʷ'));
+        assertEquals(TranscriptionLexer.SymbolClass.DIACRITIC, lexer.classify('̃'));
+
+        System.out.println("testClassify - noise");
+        assertEquals(TranscriptionLexer.SymbolClass.NOISE, lexer.classify('['));
+        assertEquals(TranscriptionLexer.SymbolClass.NOISE, lexer.classify('’'));
+        assertEquals(TranscriptionLexer.SymbolClass.NOISE, lexer.classify(' '));
+    }
+
+    /**
+     * Tests {@link TranscriptionLexer#clean(String)}.
+     */
+    @Test
+    public void testClean() {
+        TranscriptionLexer lexer = TranscriptionLexer.getInstance();
+
+        System.out.println("testClean - null and empty");
+        assertTrue(lexer.clean(null).isEmpty());
+        assertTrue(lexer.clean("[..'.]").isEmpty());
+        assertTrue(lexer.clean("     ").isEmpty());
+
+        System.out.println("testClean - valid parameters");
+        assertEquals("baχiguiɲə", lexer.clean("[ba.χi.'gui.ɲə]"));
+        assertEquals("baχiguiɲə", lexer.clean(" [ba.χi.'gui .   ɲ    ə]   "));
+
+        System.out.println("testClean - /nh/ in the given transcription: should be replaced by /ɲ/");
+        assertEquals("kaziɲə", lexer.clean("[‘kazinhə]"));
+        assertEquals("kaziɲə", lexer.clean("[‘kazin.hə]"));
+
+        System.out.println("testClean - escaped transcription");
+        assertEquals("luvẽj̃", lexer.clean("[\\u2019lu.vẽj̃]"));
+    }
+
+    /**
+     * Tests {@link TranscriptionLexer#getConsonantPhonemes(String)} with symbols that are not in the tables: they are
+     * handled as consonants, and a lonely diacritic is kept as it was before the lexer.
+     */
+    @Test
+    public void testGetConsonantPhonemesUnknownSymbols() {
+        TranscriptionLexer lexer = TranscriptionLexer.getInstance();
+
+        System.out.println("testGetConsonantPhonemesUnknownSymbols - blank and noise only");
+        assertTrue(lexer.getConsonantPhonemes(null).isEmpty());
+        assertTrue(lexer.getConsonantPhonemes(" ").isEmpty());
+        assertTrue(lexer.getConsonantPhonemes("[.]").isEmpty());
+
+        System.out.println("testGetConsonantPhonemesUnknownSymbols - semi vowel at the beginning");
+        List<Phoneme> expected = Arrays.asList(
+                new Phoneme("w", Phoneme.POSITION.OI),
+                new Phoneme("t", Phoneme.POSITION.OM));
+        assertEquals(expected, lexer.getConsonantPhonemes("[wa.ta]"));
+
+        System.out.println("testGetConsonantPhonemesUnknownSymbols - labialization at the beginning");
+        expected = Arrays.asList(
+                new Phoneme("kʷ", Phoneme.POSITION.OI),
+                new Phoneme("z", Phoneme.POSITION.OM));
+        assertEquals(expected, lexer.getConsonantPhonemes("kʷaza"));
+
+        System.out.println("testGetConsonantPhonemesUnknownSymbols - long sequence of consonants");
+        expected = Arrays.asList(
+                new Phoneme("p", Phoneme.POSITION.OI),
+                new Phoneme("s", Phoneme.POSITION.CM),
+                new Phoneme("ʃ", Phoneme.POSITION.OM),
+                new Phoneme("kɾ", Phoneme.POSITION.OCME),
+                new Phoneme("t", Phoneme.POSITION.OM));
+        assertEquals(expected, lexer.getConsonantPhonemes("pasʃkɾta"));
+    }
+
+    /**
+     * Tests {@link TranscriptionLexer#getMedialPhonemes(String)}.
+     */
+    @Test
+    public void testGetMedialPhonemes() {
+        TranscriptionLexer lexer = TranscriptionLexer.getInstance();
+
+        System.out.println("testGetMedialPhonemes - null and empty");
+        assertTrue(lexer.getMedialPhonemes(null).isEmpty());
+        assertTrue(lexer.getMedialPhonemes("").isEmpty());
+
+        System.out.println("testGetMedialPhonemes - coda followed by labialization");
+        List<Phoneme> expected = Arrays.asList(
+                new Phoneme("n", Phoneme.POSITION.CM),
+                new Phoneme("gʷ", Phoneme.POSITION.OM));
+        assertEquals(expected, lexer.getMedialPhonemes("ngʷ"));
+
+        System.out.println("testGetMedialPhonemes - consonant cluster followed by a consonant");
+        expected = Arrays.asList(
+                new Phoneme("kɾ", Phoneme.POSITION.OCME),
+                new Phoneme("ʧ", Phoneme.POSITION.OM));
+        assertEquals(expected, lexer.getMedialPhonemes("kɾʧ"));
+    }
+
+    /**
+     * Tests a lexer with more than 10 special consonants, which were not supported when they were replaced by digits.
+     */
+    @Test
+    public void testManySpecialConsonants() {
+        final String[] labialization = {"kʷ", "gʷ", "dʷ", "tʷ", "pʷ", "bʷ", "mʷ", "nʷ"};
+        final String[] specialConsonants = {"s̃", "z̃", "tʃ", "dʒ"};
+        assertTrue(labialization.length + specialConsonants.length > 10);
+        TranscriptionLexer lexer = new TranscriptionLexer(labialization, specialConsonants);
+
+        System.out.println("testManySpecialConsonants - the last symbols are segmented");
+        List<Phoneme> expected = Arrays.asList(
+                new Phoneme("pʷ", Phoneme.POSITION.OI),
+                new Phoneme("tʃ", Phoneme.POSITION.OM),
+                new Phoneme("dʒ", Phoneme.POSITION.OM),
+                new Phoneme("z̃", Phoneme.POSITION.CF));
+        assertEquals(expected, lexer.getConsonantPhonemes("[pʷa.'tʃi.dʒuz̃]"));
+
+        System.out.println("testManySpecialConsonants - coda followed by a special consonant");
+        expected = Arrays.asList(
+                new Phoneme("n", Phoneme.POSITION.CM),
+                new Phoneme("nʷ", Phoneme.POSITION.OM));
+        assertEquals(expected, lexer.getMedialPhonemes("nnʷ"));
+
+        System.out.println("testManySpecialConsonants - the default lexer doesn't have the new symbols");
+        assertNotEquals(lexer.getConsonantPhonemes("[pʷa.'tʃi]"),
+                TranscriptionLexer.getInstance().getConsonantPhonemes("[pʷa.'tʃi]"));
+    }
+
+    /**
+     * Tests {@link TranscriptionLexer#getConsonantPhonemes(String)} with all the correct cases in our database: the
+     * phonemes must be the same ones stored with the cases.
+     *
+     * @throws URISyntaxException Exception reading file.
+     * @throws IOException Exception reading file.
+     */
+    @Test
+    public void testGetConsonantPhonemesCorrectCases() throws URISyntaxException, IOException {
+        System.out.println("testGetConsonantPhonemesCorrectCases");
+        File file = new File(TranscriptionLexerTest.class.getResource("/cases/gabarito.json").toURI());
+        List<KnownCase> cases = KnownCase.loadFile(file);
+        assertFalse(cases.isEmpty());
+
+        TranscriptionLexer lexer = TranscriptionLexer.getInstance();
+        for (KnownCase c : cases) {
+            assertEquals(c.getRepresentation(), c.getPhonemes(), lexer.getConsonantPhonemes(c.getRepresentation()));
+        }
+    }
+
+}
@@ -59,57 +59,11 @@ public class UtilTest {
         fail();
     }
 
-    /**
-     * Tests for {@link Util#replaceSpecialPhonemes(String)}.
-     */
-    @Test
-    public void testReplaceSpecialPhonemes() {
-        // What is labialization? https://pt.wikipedia.org/wiki/Labializa%C3%A7%C3%A3o
-        System.out.println("testLabialization - null parameter");
-        assertNull(Util.replaceSpecialPhonemes(null));
-
-        System.out.println("testLabialization - empty parameter");
-        assertTrue(Util.replaceSpecialPhonemes("").trim().isEmpty());
-        assertTrue(Util.replaceSpecialPhonemes("  ").trim().isEmpty());
-
-        String transcription = "['lĩngʷa]";
-        System.out.println("testLabialization - labialization of /g/: gʷ -> " + transcription);
-
-        int gIndex = Arrays.asList(Phoneme.LABIALIZATION).indexOf("gʷ");
-        assertTrue(gIndex >= 0); // index exists
-        String expected = "['lĩn" + gIndex + "a]";
-        assertEquals(expected, Util.replaceSpecialPhonemes(transcription));
-
-        // [lĩkʷɐ]
-        transcription = "[lĩkʷɐ]";
-        System.out.println("testLabialization - labialization of /k/: kʷ -> " + transcription);
-
-        int kIndex = Arrays.asList(Phoneme.LABIALIZATION).indexOf("kʷ");
-        assertTrue(kIndex >= 0); // index exists
-        expected = "[lĩ" + kIndex + "ɐ]";
-        assertEquals(expected, Util.replaceSpecialPhonemes(transcription));
-
-        // do not remove it
-        transcription = "[lĩkʷɐ]['lĩngʷa][lĩkʷɐ]";
-        System.out.println("testLabialization - just to make sure that all labialization phonemes are replaced: " + transcription);
-        expected = "[lĩ" + kIndex + "ɐ]['lĩn" + gIndex + "a][lĩ" + kIndex + "ɐ]";
-        assertEquals(expected, Util.replaceSpecialPhonemes(transcription));
-
-        // nuvizis̃
-        transcription = "['nu.vi.zis̃]";
-        int sIndex = Arrays.asList(Phoneme.SPECIAL_CONSONANTS).indexOf("s̃") + Phoneme.LABIALIZATION.length;
-        System.out.println("testLabialization - special phonemes must be replaced: " + transcription);
-        expected = "['nu.vi.zi" + sIndex + "]";
-        assertEquals(expected, Util.replaceSpecialPhonemes(transcription));
-    }
-
     /**
      * Tests {@link Util#readTranscriptions(File)}.
-     * Ignored because this test fails on java 8, keep here and upgrade to java 20.
      * @throws java.net.URISyntaxException Exception.
      */
     @Test
-    @Ignore
     public void testReadTranscriptions() throws URISyntaxException {
         System.out.println("testReadTranscriptions - null file");
         List<String> readTranscriptions = Util.readTranscriptions(null);
@@ -143,7 +97,6 @@ public class UtilTest {
      * Tests {@link Util#cleanTranscription(String)}.
      */
     @Test
-    @Ignore
     public void testCleanTranscription() throws URISyntaxException {
         System.out.println("testCleanTranscription - null and empty");
         assertTrue(Util.cleanTranscription(null).isEmpty());
@@ -499,6 +452,35 @@ public class UtilTest {
         }
     }
 
+    /**
+     * Tests {@link Util#getAllConsonantPhonemes(List)} and {@link Util#getAllConsonantPhonemes(java.util.stream.Stream)}.
+     */
+    @Test
+    public void testGetAllConsonantPhonemes() {
+        System.out.println("testGetAllConsonantPhonemes - null and empty parameters");
+        assertEquals(0, Util.getAllConsonantPhonemes((List<String>) null).size());
+        assertEquals(0, Util.getAllConsonantPhonemes(new ArrayList<>()).size());
+
+        System.out.println("testGetAllConsonantPhonemes - results in the same order of the inputs");
+        List<String> transcriptions = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            transcriptions.add("[ba.χi.'gui.ɲə]");
+            transcriptions.add("[ʼʃifɾis]");
+            transcriptions.add("[iskɾe’veɾ]");
+        }
+        BatchResult<String, List<Phoneme>> result = Util.getAllConsonantPhonemes(transcriptions);
+        assertEquals(transcriptions.size(), result.size());
+        assertFalse(result.hasFailures());
+        for (int i = 0; i < transcriptions.size(); i++) {
+            assertEquals(Util.getConsonantPhonemes(transcriptions.get(i)), result.get(i));
+        }
+
+        System.out.println("testGetAllConsonantPhonemes - stream");
+        result = Util.getAllConsonantPhonemes(transcriptions.stream());
+        assertEquals(transcriptions.size(), result.getResults().size());
+        assertEquals(Util.getConsonantPhonemes("[iskɾe’veɾ]"), result.get(transcriptions.size() - 1));
+    }
+
     /**
      * Tests {@link Util#getCaseFromWord(List, String)}.
      */
@@ -0,0 +1,63 @@
+package br.com.efono.util;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * @author João Bolsson (joaovictorbolsson@gmail.com)
+ * @version 2026, Oct 18.
+ */
+public class WordCatalogTest {
+
+    /**
+     * Tests {@link WordCatalog#fold(String)}.
+     */
+    @Test
+    public void testFold() {
+        System.out.println("testFold - null and empty");
+        assertNull(WordCatalog.fold(null));
+        assertEquals("", WordCatalog.fold(""));
+
+        System.out.println("testFold - accents and case");
+        assertEquals("jacare", WordCatalog.fold("JACARÉ"));
+        assertEquals("caminhao", WordCatalog.fold("Caminhão"));
+        assertEquals("lingua", WordCatalog.fold("Língua"));
+        // the second call comes from the cache
+        assertEquals("lingua", WordCatalog.fold("Língua"));
+    }
+
+    /**
+     * Tests {@link WordCatalog#indexOf(String)}.
+     */
+    @Test
+    public void testIndexOf() {
+        WordCatalog catalog = new WordCatalog(new String[]{"Anel", "Jacaré", null, "jacare", "Bebê"});
+
+        System.out.println("testIndexOf - null and empty parameters");
+        long misses = catalog.getMisses();
+        assertEquals(-1, catalog.indexOf(null));
+        assertEquals(-1, catalog.indexOf(""));
+        assertEquals(-1, catalog.indexOf("Test"));
+        assertFalse(catalog.contains(null));
+        assertEquals(misses + 3, catalog.getMisses());
+
+        System.out.println("testIndexOf - variants of a word: the first one is kept");
+        String[] words = new String[]{"Jacare", "JACARÉ", "Jacaré", "JACARE", "JAcAre"};
+        for (String w : words) {
+            assertEquals("Failed in try to find the word " + w, 1, catalog.indexOf(w));
+            assertTrue(catalog.contains(w));
+        }
+        assertEquals("Jacaré", catalog.getWord(catalog.indexOf("jacare")));
+        assertEquals(4, catalog.indexOf("BEBE"));
+        assertEquals(5, catalog.size());
+        assertEquals(misses + 3, catalog.getMisses());
+
+        System.out.println("testIndexOf - default catalog");
+        WordCatalog defaults = WordCatalog.getDefault();
+        assertEquals(Defaults.SORTED_WORDS.length, defaults.size());
+        for (int i = 0; i < Defaults.SORTED_WORDS.length; i++) {
+            assertEquals(i, defaults.indexOf(Defaults.SORTED_WORDS[i].toUpperCase()));
+        }
+    }
+
+}
@@ -0,0 +1,140 @@
+package br.com.efono.util;
+
+import br.com.efono.model.Instrument;
+import br.com.efono.model.InstrumentFixture;
+import br.com.efono.model.Phoneme;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ * @author João Bolsson (joaovictorbolsson@gmail.com)
+ * @version 2026, Oct 18.
+ */
+public class WordSelectorTest {
+
+    /**
+     * Creates an instrument with the first words of the catalog and random target phonemes.
+     */
+    private static Instrument createRandomInstrument(final Random random, final int words) {
+        final Phoneme[] pool = {Phoneme.of("b", Phoneme.POSITION.OI), Phoneme.of("t", Phoneme.POSITION.OM),
+            Phoneme.of("n", Phoneme.POSITION.OI), Phoneme.of("v", Phoneme.POSITION.OM),
+            Phoneme.of("l", Phoneme.POSITION.CM), Phoneme.of("s", Phoneme.POSITION.CF),
+            Phoneme.of("bɾ", Phoneme.POSITION.OCI), Phoneme.of("tɾ", Phoneme.POSITION.OCME)};
+        final String[] names = Arrays.copyOf(Defaults.SORTED_WORDS, words);
+        final Map<String, List<Phoneme>> targetPhonemes = new HashMap<>();
+        for (String name : names) {
+            final List<Phoneme> phonemes = new ArrayList<>();
+            for (int i = random.nextInt(4); i >= 0; i--) {
+                phonemes.add(pool[random.nextInt(pool.length)]);
+            }
+            targetPhonemes.put(name, phonemes);
+        }
+        return new Instrument("random", names, targetPhonemes, null);
+    }
+
+    /**
+     * Finds the size of the smallest list by testing all the lists.
+     */
+    private static int bruteForce(final WordSelector selector, final Instrument instrument) {
+        int smallest = Integer.MAX_VALUE;
+        for (int set = 0; set < 1 << instrument.size(); set++) {
+            if (Integer.bitCount(set) < smallest) {
+                final List<String> words = new ArrayList<>();
+                for (int w = 0; w < instrument.size(); w++) {
+                    if ((set & (1 << w)) != 0) {
+                        words.add(instrument.getWord(w));
+                    }
+                }
+                if (selector.covers(words)) {
+                    smallest = words.size();
+                }
+            }
+        }
+        return smallest;
+    }
+
+    /**
+     * Tests {@link WordSelector#greedy()}.
+     */
+    @Test
+    public void testGreedy() {
+        final Instrument instrument = InstrumentFixture.create();
+
+        System.out.println("testGreedy - each phoneme once");
+        WordSelector selector = new WordSelector(instrument, 1, false);
+        assertEquals(Arrays.asList("Anel", "Batom", "Navio", "Travesseiro"), selector.greedy());
+
+        System.out.println("testGreedy - v(OM) is tested by 2 words, the clusters are split");
+        selector = new WordSelector(instrument, 2, true);
+        assertEquals(2, selector.getDemand(Phoneme.of("v", Phoneme.POSITION.OM)));
+        assertEquals(1, selector.getDemand(Phoneme.of("t", Phoneme.POSITION.OCI)));
+        assertEquals(0, selector.getDemand(Phoneme.of("tɾ", Phoneme.POSITION.OCI)));
+        assertEquals(0, selector.getDemand(Phoneme.of("z", Phoneme.POSITION.OI)));
+        assertTrue(selector.covers(selector.greedy()));
+
+        System.out.println("testGreedy - minimum 0");
+        selector = new WordSelector(instrument, 0, true);
+        assertTrue(selector.greedy().isEmpty());
+        assertTrue(selector.exact().isEmpty());
+    }
+
+    /**
+     * Tests {@link WordSelector#covers(java.util.Collection)}.
+     */
+    @Test
+    public void testCovers() {
+        final WordSelector selector = new WordSelector(InstrumentFixture.create(), 2, false);
+
+        System.out.println("testCovers - all the words");
+        assertTrue(selector.covers(Arrays.asList("Anel", "Batom", "Navio", "Travesseiro")));
+
+        System.out.println("testCovers - a repeated word is counted once");
+        assertFalse(selector.covers(Arrays.asList("Anel", "Batom", "Navio", "Navio")));
+
+        System.out.println("testCovers - words that are not in the instrument");
+        assertFalse(selector.covers(Arrays.asList("Anel", "Batom", "Navio", "Zebra")));
+    }
+
+    /**
+     * Tests {@link WordSelector#exact(ExecutorService)}.
+     */
+    @Test
+    public void testExact() {
+        final Random random = new Random(25);
+
+        System.out.println("testExact - the smallest list, same of a brute force search");
+        final ExecutorService single = SimulationEngine.newExecutor(1);
+        final ExecutorService many = Executors.newFixedThreadPool(4);
+        try {
+            for (int i = 0; i < 30; i++) {
+                final Instrument instrument = createRandomInstrument(random, 6 + random.nextInt(9));
+                for (int minimum = 1; minimum <= 3; minimum++) {
+                    for (boolean split : new boolean[]{true, false}) {
+                        final WordSelector selector = new WordSelector(instrument, minimum, split);
+                        final List<String> greedy = selector.greedy();
+                        final List<String> exact = selector.exact(single);
+                        assertTrue(selector.covers(greedy));
+                        assertTrue(selector.covers(exact));
+                        assertEquals(bruteForce(selector, instrument), exact.size());
+                        assertTrue(exact.size() <= greedy.size());
+
+                        // the result doesn't depend on the threads
+                        assertEquals(exact, selector.exact(many));
+                    }
+                }
+            }
+        } finally {
+            single.shutdown();
+            many.shutdown();
+        }
+    }
+
+}